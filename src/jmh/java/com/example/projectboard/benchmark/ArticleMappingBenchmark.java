@@ -0,0 +1,60 @@
+package com.example.projectboard.benchmark;
+
+import com.example.projectboard.domain.Article;
+import com.example.projectboard.dto.ArticleDto;
+import com.example.projectboard.dto.response.ArticleResponse;
+import com.example.projectboard.service.AuthorSummaryCache;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * 목록 조회 경로의 Article -> ArticleDto -> ArticleResponse 매핑 비용과, Article -> ArticleResponse 직접 매핑 비용 측정.
+ * 게시판 한 페이지 분량({@code pageSize}) 을 한 번에 변환한다. ({@code -PjmhProfilers=gc} 로 할당량 확인)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ArticleMappingBenchmark {
+
+    @Param({"10", "100"})
+    private int pageSize;
+
+    @Param({"1", "5"})
+    private int hashtagCount;
+
+    private List<Article> articles;
+    private AuthorSummaryCache authorSummaryCache;
+
+    @Setup
+    public void setUp() {
+        articles = LongStream.rangeClosed(1, pageSize)
+                .mapToObj(id -> BenchmarkFixtures.article(id, BenchmarkFixtures.userAccount("uno"), hashtagCount))
+                .toList();
+        authorSummaryCache = new AuthorSummaryCache(new ConcurrentMapCacheManager(AuthorSummaryCache.CACHE_NAME));
+    }
+
+    @Benchmark
+    public List<ArticleDto> entityToDto() {
+        return articles.stream().map(ArticleDto::from).toList();
+    }
+
+    @Benchmark
+    public List<ArticleResponse> entityToDtoToResponse() {
+        return articles.stream().map(ArticleDto::from).map(ArticleResponse::from).toList();
+    }
+
+    @Benchmark
+    public List<ArticleResponse> entityToResponse() {
+        return articles.stream().map(ArticleResponse::from).toList();
+    }
+
+    @Benchmark
+    public List<ArticleResponse> entityToResponseWithCachedAuthor() {
+        return articles.stream().map(article -> ArticleResponse.from(article, authorSummaryCache::get)).toList();
+    }
+
+}
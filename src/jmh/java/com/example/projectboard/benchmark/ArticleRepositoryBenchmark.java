@@ -0,0 +1,139 @@
+package com.example.projectboard.benchmark;
+
+import com.example.projectboard.ProjectBoardApplication;
+import com.example.projectboard.domain.Article;
+import com.example.projectboard.dto.response.ArticleWithCommentsResponse;
+import com.example.projectboard.repository.ArticleRepository;
+import com.example.projectboard.service.ArticleService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 데이터 크기(10k / 100k / 1M 게시글)에 따른 {@link ArticleRepository} 조회 쿼리 지연시간 측정.
+ *
+ * <p>
+ * H2 파일 모드 DB 를 크기별로 따로 만들어 두고 재사용한다. (최초 실행 시 {@link BenchmarkDataGenerator} 로 생성)
+ * SampleTime 모드이므로 결과 JSON 에 p50/p90/p99 등 백분위 지연시간이 함께 기록되며,
+ * 케이스별 실행 SQL 은 {@code build/results/jmh/repository-sql/} 아래에 남는다.
+ *
+ * <pre>
+ * ./gradlew jmh -PjmhIncludes=ArticleRepositoryBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ArticleRepositoryBenchmark {
+
+    private static final Path DATA_DIRECTORY = Path.of(System.getProperty("user.dir"), "build", "benchmark", "h2");
+    private static final Path SQL_REPORT_DIRECTORY = Path.of(System.getProperty("user.dir"), "build", "results", "jmh", "repository-sql");
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+    @Param({"10000", "100000", "1000000"})
+    private int articleCount;
+
+    private ConfigurableApplicationContext context;
+    private ArticleRepository articleRepository;
+    private ArticleService articleService;
+    private Pageable deepPage;
+    private long detailArticleId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // application.yaml 보다 우선하도록 커맨드라인 인자로 넘긴다.
+        context = new SpringApplicationBuilder(ProjectBoardApplication.class).run(
+                "--spring.datasource.url=jdbc:h2:file:" + DATA_DIRECTORY.resolve("articles-" + articleCount) + ";DB_CLOSE_ON_EXIT=FALSE",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.flyway.locations=classpath:db/migration/{vendor}", // 시드 없이 스키마만. 데이터는 BenchmarkDataGenerator 가 채운다.
+                "--spring.flyway.baseline-on-migrate=true", // 예전에 ddl-auto 로 만든 벤치마크 데이터 파일도 그대로 쓴다.
+                "--spring.jpa.show-sql=false",
+                "--spring.jpa.properties.hibernate.session_factory.statement_inspector=" + SqlCaptureInspector.class.getName(),
+                "--server.port=0",
+                "--logging.level.root=warn",
+                "--logging.level.com.example.projectboard=warn",
+                "--logging.level.org.springframework.web.servlet=warn",
+                "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=warn"
+        );
+
+        BenchmarkDataGenerator.populateIfEmpty(context.getBean(JdbcTemplate.class), articleCount);
+
+        articleRepository = context.getBean(ArticleRepository.class);
+        articleService = context.getBean(ArticleService.class);
+        deepPage = PageRequest.of((articleCount / FIRST_PAGE.getPageSize()) * 9 / 10, FIRST_PAGE.getPageSize(), FIRST_PAGE.getSort());
+        detailArticleId = 1L; // 댓글이 달린 게시글 (BenchmarkDataGenerator 참고)
+    }
+
+    @Setup(Level.Iteration)
+    public void startCase(BenchmarkParams params) {
+        String benchmark = params.getBenchmark();
+        SqlCaptureInspector.startCase(benchmark.substring(benchmark.lastIndexOf('.') + 1) + "-" + articleCount);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        SqlCaptureInspector.writeReport(SQL_REPORT_DIRECTORY);
+        context.close();
+    }
+
+    @Benchmark
+    public Page<Article> findByTitleContaining() {
+        return articleRepository.findByTitleContaining("dolor sit", FIRST_PAGE);
+    }
+
+    @Benchmark
+    public Page<Article> findByContentContaining() {
+        return articleRepository.findByContentContaining("magna aliqua", FIRST_PAGE);
+    }
+
+    @Benchmark
+    public Page<Article> findByUserAccountUserIdContaining() {
+        return articleRepository.findByUserAccount_UserIdContaining(BenchmarkDataGenerator.userId(42), FIRST_PAGE);
+    }
+
+    @Benchmark
+    public Page<Article> findByUserAccountNicknameContaining() {
+        return articleRepository.findByUserAccount_NicknameContaining(BenchmarkDataGenerator.nickname(42), FIRST_PAGE);
+    }
+
+    /**
+     * 본문 조회와 전체 건수 카운트 쿼리를 함께 측정한다.
+     */
+    @Benchmark
+    public Page<Article> findByHashtagNames() {
+        return articleRepository.findByHashtagNames(List.of(BenchmarkDataGenerator.hashtagName(7)), FIRST_PAGE);
+    }
+
+    @Benchmark
+    public Page<Article> findAllFirstPage() {
+        return articleRepository.findAll(FIRST_PAGE);
+    }
+
+    @Benchmark
+    public Page<Article> findAllDeepOffset() {
+        return articleRepository.findAll(deepPage);
+    }
+
+    /**
+     * 상세 페이지 조회 경로 (게시글 + 댓글 + 해시태그, 읽기 전용 트랜잭션)
+     */
+    @Benchmark
+    public ArticleWithCommentsResponse getArticleWithComments() {
+        return articleService.getArticleWithComments(detailArticleId);
+    }
+
+}
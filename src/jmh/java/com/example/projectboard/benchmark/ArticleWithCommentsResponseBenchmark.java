@@ -0,0 +1,59 @@
+package com.example.projectboard.benchmark;
+
+import com.example.projectboard.domain.Article;
+import com.example.projectboard.dto.ArticleWithCommentsDto;
+import com.example.projectboard.dto.response.ArticleWithCommentsResponse;
+import com.example.projectboard.service.AuthorSummaryCache;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 댓글 스레드 크기별 {@link ArticleWithCommentsResponse#from(ArticleWithCommentsDto)} 비용 측정.
+ * 내부의 organizeChildComments (부모/자식 댓글 정리) 가 대부분의 시간을 차지한다.
+ * 엔티티에서 DTO 를 거치는 경로와 바로 응답을 만드는 경로도 비교한다. ({@code -PjmhProfilers=gc} 로 할당량 확인)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ArticleWithCommentsResponseBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int commentCount;
+
+    @Param({"0", "3"})
+    private int repliesPerParent;
+
+    private ArticleWithCommentsDto dto;
+    private Article article;
+    private AuthorSummaryCache authorSummaryCache;
+
+    @Setup
+    public void setUp() {
+        dto = BenchmarkFixtures.articleWithCommentsDto(commentCount, repliesPerParent);
+        article = BenchmarkFixtures.articleWithComments(commentCount, repliesPerParent);
+        authorSummaryCache = new AuthorSummaryCache(new ConcurrentMapCacheManager(AuthorSummaryCache.CACHE_NAME));
+    }
+
+    @Benchmark
+    public ArticleWithCommentsResponse organizeChildComments() {
+        return ArticleWithCommentsResponse.from(dto);
+    }
+
+    @Benchmark
+    public ArticleWithCommentsResponse entityToDtoToResponse() {
+        return ArticleWithCommentsResponse.from(ArticleWithCommentsDto.from(article));
+    }
+
+    @Benchmark
+    public ArticleWithCommentsResponse entityToResponse() {
+        return ArticleWithCommentsResponse.from(article);
+    }
+
+    @Benchmark
+    public ArticleWithCommentsResponse entityToResponseWithCachedAuthor() {
+        return ArticleWithCommentsResponse.from(article, authorSummaryCache::get);
+    }
+
+}
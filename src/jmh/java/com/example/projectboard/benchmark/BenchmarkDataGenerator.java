@@ -0,0 +1,217 @@
+package com.example.projectboard.benchmark;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Random;
+
+/**
+ * 저장소 벤치마크용 데이터셋 생성기.
+ * 같은 크기라면 항상 같은 데이터가 만들어지도록 고정 시드를 사용한다.
+ *
+ * <ul>
+ *     <li>사용자 {@value #USER_COUNT} 명, 해시태그 {@value #HASHTAG_COUNT} 개</li>
+ *     <li>게시글 {@code articleCount} 개, 게시글마다 해시태그 1~2 개</li>
+ *     <li>게시글 {@value #COMMENTED_ARTICLE_RATIO} 개 중 1 개 꼴로 댓글 {@value #COMMENTS_PER_ARTICLE} 개 (1/4 은 대댓글)</li>
+ * </ul>
+ */
+final class BenchmarkDataGenerator {
+
+    static final int USER_COUNT = 100;
+    static final int HASHTAG_COUNT = 50;
+    static final int COMMENTED_ARTICLE_RATIO = 100;
+    static final int COMMENTS_PER_ARTICLE = 20;
+
+    private static final int BATCH_SIZE = 5_000;
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2020, 1, 1, 0, 0);
+    private static final String[] WORDS = {
+            "lorem", "ipsum", "dolor", "sit", "amet", "consectetur", "adipiscing", "elit", "sed", "do",
+            "eiusmod", "tempor", "incididunt", "labore", "magna", "aliqua", "spring", "java", "board", "게시판"
+    };
+
+    private BenchmarkDataGenerator() {}
+
+    /**
+     * 게시글 테이블이 비어 있을 때만 데이터를 채운다. (H2 파일 모드이므로 두 번째 실행부터는 재사용)
+     */
+    static void populateIfEmpty(JdbcTemplate jdbcTemplate, int articleCount) {
+        Long existing = jdbcTemplate.queryForObject("select count(*) from article", Long.class);
+        if (existing != null && existing == articleCount) {
+            return;
+        }
+        if (existing != null && existing != 0) {
+            throw new IllegalStateException(
+                    "벤치마크 DB 에 예상과 다른 게시글 수(" + existing + ")가 들어 있습니다. build/benchmark/h2 를 지우고 다시 실행하세요.");
+        }
+
+        Random random = new Random(articleCount);
+        insertUsers(jdbcTemplate);
+        insertHashtags(jdbcTemplate);
+        insertArticles(jdbcTemplate, articleCount, random);
+        insertArticleHashtags(jdbcTemplate, articleCount, random);
+        insertComments(jdbcTemplate, articleCount);
+    }
+
+    static String userId(int index) {
+        return "user" + index;
+    }
+
+    static String nickname(int index) {
+        return "nick" + index;
+    }
+
+    static String hashtagName(int index) {
+        return "tag" + index;
+    }
+
+    private static void insertUsers(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.batchUpdate(
+                "insert into user_account (user_id, user_password, email, nickname, memo, created_at, created_by, modified_at, modified_by) values (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                new Batch(0, USER_COUNT) {
+                    @Override
+                    void set(PreparedStatement ps, int i) throws SQLException {
+                        ps.setString(1, userId(i));
+                        ps.setString(2, "{noop}asdf1234");
+                        ps.setString(3, userId(i) + "@mail.com");
+                        ps.setString(4, nickname(i));
+                        ps.setString(5, "memo");
+                        setAuditing(ps, 6, userId(i), i);
+                    }
+                }
+        );
+    }
+
+    private static void insertHashtags(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.batchUpdate(
+                "insert into hashtag (hashtag_name, created_at, created_by, modified_at, modified_by) values (?, ?, ?, ?, ?)",
+                new Batch(0, HASHTAG_COUNT) {
+                    @Override
+                    void set(PreparedStatement ps, int i) throws SQLException {
+                        ps.setString(1, hashtagName(i));
+                        setAuditing(ps, 2, userId(0), i);
+                    }
+                }
+        );
+    }
+
+    private static void insertArticles(JdbcTemplate jdbcTemplate, int articleCount, Random random) {
+        for (int start = 0; start < articleCount; start += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(
+                    "insert into article (user_id, title, content, created_at, created_by, modified_at, modified_by) values (?, ?, ?, ?, ?, ?, ?)",
+                    new Batch(start, Math.min(start + BATCH_SIZE, articleCount)) {
+                        @Override
+                        void set(PreparedStatement ps, int i) throws SQLException {
+                            String userId = userId(i % USER_COUNT);
+                            ps.setString(1, userId);
+                            ps.setString(2, sentence(random, 5));
+                            ps.setString(3, sentence(random, 60) + "\n#" + hashtagName(i % HASHTAG_COUNT));
+                            setAuditing(ps, 4, userId, i);
+                        }
+                    }
+            );
+        }
+    }
+
+    private static void insertArticleHashtags(JdbcTemplate jdbcTemplate, int articleCount, Random random) {
+        for (int start = 0; start < articleCount; start += BATCH_SIZE) {
+            int batchStart = start;
+            int end = Math.min(start + BATCH_SIZE, articleCount);
+            jdbcTemplate.batchUpdate(
+                    "insert into article_hashtag (article_id, hashtag_id) values (?, ?)",
+                    new Batch(start, end) {
+                        @Override
+                        void set(PreparedStatement ps, int i) throws SQLException {
+                            ps.setLong(1, i + 1L);
+                            ps.setLong(2, (i % HASHTAG_COUNT) + 1L);
+                        }
+                    }
+            );
+            // 절반 정도의 게시글에는 두 번째 해시태그를 붙인다.
+            jdbcTemplate.batchUpdate(
+                    "insert into article_hashtag (article_id, hashtag_id) values (?, ?)",
+                    new Batch(batchStart, batchStart + (end - batchStart) / 2) {
+                        @Override
+                        void set(PreparedStatement ps, int i) throws SQLException {
+                            int articleIndex = batchStart + (i - batchStart) * 2;
+                            ps.setLong(1, articleIndex + 1L);
+                            ps.setLong(2, ((articleIndex + 1 + random.nextInt(HASHTAG_COUNT - 1)) % HASHTAG_COUNT) + 1L);
+                        }
+                    }
+            );
+        }
+    }
+
+    private static void insertComments(JdbcTemplate jdbcTemplate, int articleCount) {
+        int commentedArticles = Math.max(articleCount / COMMENTED_ARTICLE_RATIO, 1);
+        jdbcTemplate.batchUpdate(
+                "insert into article_comment (article_id, user_id, parent_comment_id, content, created_at, created_by, modified_at, modified_by) values (?, ?, ?, ?, ?, ?, ?, ?)",
+                new Batch(0, commentedArticles * COMMENTS_PER_ARTICLE) {
+                    @Override
+                    void set(PreparedStatement ps, int i) throws SQLException {
+                        int articleIndex = (i / COMMENTS_PER_ARTICLE) * COMMENTED_ARTICLE_RATIO;
+                        int position = i % COMMENTS_PER_ARTICLE;
+                        String userId = userId(i % USER_COUNT);
+                        ps.setLong(1, articleIndex + 1L);
+                        ps.setString(2, userId);
+                        if (position % 4 == 3) {
+                            ps.setLong(3, i); // 바로 앞 댓글(id = i)의 대댓글
+                        } else {
+                            ps.setNull(3, Types.BIGINT);
+                        }
+                        ps.setString(4, "comment " + i);
+                        setAuditing(ps, 5, userId, i);
+                    }
+                }
+        );
+    }
+
+    private static String sentence(Random random, int wordCount) {
+        StringBuilder sentence = new StringBuilder();
+        for (int i = 0; i < wordCount; i++) {
+            if (i > 0) {
+                sentence.append(' ');
+            }
+            sentence.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return sentence.toString();
+    }
+
+    private static void setAuditing(PreparedStatement ps, int startIndex, String user, int offsetMinutes) throws SQLException {
+        Timestamp timestamp = Timestamp.valueOf(BASE_TIME.plusMinutes(offsetMinutes));
+        ps.setTimestamp(startIndex, timestamp);
+        ps.setString(startIndex + 1, user);
+        ps.setTimestamp(startIndex + 2, timestamp);
+        ps.setString(startIndex + 3, user);
+    }
+
+    /**
+     * [start, end) 구간을 한 번의 batchUpdate 로 넣는 도우미.
+     */
+    private abstract static class Batch implements BatchPreparedStatementSetter {
+        private final int start;
+        private final int end;
+
+        Batch(int start, int end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        abstract void set(PreparedStatement ps, int i) throws SQLException;
+
+        @Override
+        public void setValues(PreparedStatement ps, int i) throws SQLException {
+            set(ps, start + i);
+        }
+
+        @Override
+        public int getBatchSize() {
+            return Math.max(end - start, 0);
+        }
+    }
+
+}
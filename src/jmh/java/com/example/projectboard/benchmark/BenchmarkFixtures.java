@@ -0,0 +1,129 @@
+package com.example.projectboard.benchmark;
+
+import com.example.projectboard.domain.Article;
+import com.example.projectboard.domain.ArticleComment;
+import com.example.projectboard.domain.Hashtag;
+import com.example.projectboard.domain.UserAccount;
+import com.example.projectboard.dto.ArticleCommentDto;
+import com.example.projectboard.dto.ArticleWithCommentsDto;
+import com.example.projectboard.dto.HashtagDto;
+import com.example.projectboard.dto.UserAccountDto;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 벤치마크에서 사용하는 엔티티/DTO 생성 도우미.
+ * 테스트 코드와 마찬가지로 id, 감사(auditing) 필드는 리플렉션으로 채운다.
+ */
+final class BenchmarkFixtures {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2022, 1, 1, 0, 0);
+
+    private BenchmarkFixtures() {}
+
+    static UserAccount userAccount(String userId) {
+        UserAccount userAccount = UserAccount.of(userId, "{noop}pw", userId + "@mail.com", "nick-" + userId, "memo", userId);
+        setAuditingFields(userAccount, 0);
+        return userAccount;
+    }
+
+    static Article article(long id, UserAccount userAccount, int hashtagCount) {
+        Article article = Article.of(userAccount, "title " + id, content(hashtagCount));
+        ReflectionTestUtils.setField(article, "id", id);
+        setAuditingFields(article, id);
+
+        for (int i = 0; i < hashtagCount; i++) {
+            Hashtag hashtag = Hashtag.of("tag" + i);
+            ReflectionTestUtils.setField(hashtag, "id", (long) i + 1);
+            article.addHashtag(hashtag);
+        }
+
+        return article;
+    }
+
+    static ArticleComment articleComment(long id, Article article, UserAccount userAccount, Long parentCommentId) {
+        ArticleComment articleComment = ArticleComment.of(article, userAccount, "comment " + id);
+        ReflectionTestUtils.setField(articleComment, "id", id);
+        articleComment.setParentCommentId(parentCommentId);
+        setAuditingFields(articleComment, id);
+        return articleComment;
+    }
+
+    /**
+     * 부모 댓글 하나당 대댓글 {@code repliesPerParent} 개가 달린 게시글 DTO 를 만든다.
+     */
+    static ArticleWithCommentsDto articleWithCommentsDto(int commentCount, int repliesPerParent) {
+        UserAccountDto userAccountDto = UserAccountDto.from(userAccount("uno"));
+        Set<ArticleCommentDto> commentDtos = new LinkedHashSet<>();
+
+        long parentId = 0;
+        for (long id = 1; id <= commentCount; id++) {
+            boolean isParent = (id - 1) % (repliesPerParent + 1) == 0;
+            if (isParent) {
+                parentId = id;
+            }
+            commentDtos.add(ArticleCommentDto.of(
+                    id,
+                    1L,
+                    userAccountDto,
+                    isParent ? null : parentId,
+                    "comment " + id,
+                    BASE_TIME.plusMinutes(id),
+                    "uno",
+                    BASE_TIME.plusMinutes(id),
+                    "uno"
+            ));
+        }
+
+        return ArticleWithCommentsDto.of(
+                1L,
+                userAccountDto,
+                commentDtos,
+                "title",
+                "content",
+                Set.of(HashtagDto.of("java"), HashtagDto.of("spring")),
+                BASE_TIME,
+                "uno",
+                BASE_TIME,
+                "uno"
+        );
+    }
+
+    /**
+     * {@link #articleWithCommentsDto(int, int)} 와 같은 모양의 댓글 스레드가 달린 게시글 엔티티를 만든다.
+     */
+    static Article articleWithComments(int commentCount, int repliesPerParent) {
+        UserAccount userAccount = userAccount("uno");
+        Article article = article(1L, userAccount, 2);
+
+        long parentId = 0;
+        for (long id = 1; id <= commentCount; id++) {
+            boolean isParent = (id - 1) % (repliesPerParent + 1) == 0;
+            if (isParent) {
+                parentId = id;
+            }
+            article.getArticleComments().add(articleComment(id, article, userAccount, isParent ? null : parentId));
+        }
+
+        return article;
+    }
+
+    static String content(int hashtagCount) {
+        StringBuilder content = new StringBuilder("Lorem ipsum dolor sit amet, consectetur adipiscing elit. 게시글 본문입니다.\n");
+        for (int i = 0; i < hashtagCount; i++) {
+            content.append("#tag").append(i).append(' ');
+        }
+        return content.toString();
+    }
+
+    private static void setAuditingFields(Object entity, long offsetMinutes) {
+        ReflectionTestUtils.setField(entity, "createdAt", BASE_TIME.plusMinutes(offsetMinutes));
+        ReflectionTestUtils.setField(entity, "createdBy", "uno");
+        ReflectionTestUtils.setField(entity, "modifiedAt", BASE_TIME.plusMinutes(offsetMinutes));
+        ReflectionTestUtils.setField(entity, "modifiedBy", "uno");
+    }
+
+}
@@ -0,0 +1,34 @@
+package com.example.projectboard.benchmark;
+
+import com.example.projectboard.service.HashtagService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link HashtagService#parseHashtagNames(String)} 의 본문 길이/해시태그 개수별 비용 측정.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class HashtagServiceBenchmark {
+
+    @Param({"0", "5", "50"})
+    private int hashtagCount;
+
+    private HashtagService hashtagService;
+    private String content;
+
+    @Setup
+    public void setUp() {
+        hashtagService = new HashtagService(null); // 파싱은 저장소를 사용하지 않는다.
+        content = BenchmarkFixtures.content(hashtagCount);
+    }
+
+    @Benchmark
+    public Set<String> parseHashtagNames() {
+        return hashtagService.parseHashtagNames(content);
+    }
+
+}
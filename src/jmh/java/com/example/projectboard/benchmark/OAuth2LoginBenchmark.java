@@ -0,0 +1,123 @@
+package com.example.projectboard.benchmark;
+
+import com.example.projectboard.config.SecurityConfig;
+import com.example.projectboard.dto.UserAccountDto;
+import com.example.projectboard.dto.security.BoardPrincipal;
+import com.example.projectboard.service.UserAccountService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.oauth2.client.registration.ClientRegistration;
+import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
+import org.springframework.security.oauth2.client.userinfo.OAuth2UserService;
+import org.springframework.security.oauth2.core.AuthorizationGrantType;
+import org.springframework.security.oauth2.core.OAuth2AccessToken;
+import org.springframework.security.oauth2.core.user.DefaultOAuth2User;
+import org.springframework.security.oauth2.core.user.OAuth2User;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이미 가입한 회원의 카카오 재로그인 처리량 비교.
+ *
+ * <p>
+ * 실제 로그인 흐름({@link SecurityConfig#kakaoOAuth2UserService})을 그대로 태우되, 카카오 API 호출(delegate)과
+ * 회원 조회({@link UserAccountService})는 고정된 응답을 돌려주는 스텁으로 바꾼다. 회원 조회는 인증 주체 캐시에 적중한 상황을 가정한다.
+ * 예전처럼 회원 조회 전에 더미 비밀번호를 bcrypt 로 인코딩하던 비용(eager)을 더한 경우와, 현재 구현(lazy)을
+ * 동시 로그인 상황(8 스레드)에서 비교한다.
+ *
+ * <pre>
+ * ./gradlew jmh -PjmhIncludes=OAuth2LoginBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Threads(8)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OAuth2LoginBenchmark {
+
+    private static final String USERNAME = "kakao_1234567890";
+
+    private PasswordEncoder passwordEncoder;
+    private OAuth2UserService<OAuth2UserRequest, OAuth2User> oAuth2UserService;
+    private OAuth2UserRequest userRequest;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        passwordEncoder = PasswordEncoderFactories.createDelegatingPasswordEncoder();
+        userRequest = createUserRequest();
+
+        OAuth2User kakaoUser = createKakaoUser();
+        BoardPrincipal principal = BoardPrincipal.from(
+                UserAccountDto.of(USERNAME, "{noop}dummy", "kakao@mail.com", "kakao", null)
+        );
+        UserAccountService userAccountService = new UserAccountService(null, null) {
+            @Override
+            public Optional<BoardPrincipal> searchPrincipal(String username) {
+                return Optional.of(principal);
+            }
+        };
+
+        oAuth2UserService = SecurityConfig.kakaoOAuth2UserService(
+                request -> kakaoUser,
+                userAccountService,
+                passwordEncoder
+        );
+    }
+
+    // 개선 전: 가입 여부와 상관없이 로그인마다 더미 비밀번호를 인코딩했다.
+    @Benchmark
+    public OAuth2User eagerDummyPassword() {
+        passwordEncoder.encode("{bcrypt}" + UUID.randomUUID());
+
+        return oAuth2UserService.loadUser(userRequest);
+    }
+
+    @Benchmark
+    public OAuth2User lazyDummyPassword() {
+        return oAuth2UserService.loadUser(userRequest);
+    }
+
+
+    private static OAuth2UserRequest createUserRequest() {
+        ClientRegistration registration = ClientRegistration.withRegistrationId("kakao")
+                .clientId("client-id")
+                .authorizationGrantType(AuthorizationGrantType.AUTHORIZATION_CODE)
+                .redirectUri("{baseUrl}/login/oauth2/code/kakao")
+                .authorizationUri("https://kauth.kakao.com/oauth/authorize")
+                .tokenUri("https://kauth.kakao.com/oauth/token")
+                .userInfoUri("https://kapi.kakao.com/v2/user/me")
+                .userNameAttributeName("id")
+                .build();
+        OAuth2AccessToken accessToken = new OAuth2AccessToken(
+                OAuth2AccessToken.TokenType.BEARER, "token", Instant.now(), Instant.now().plusSeconds(3600)
+        );
+
+        return new OAuth2UserRequest(registration, accessToken);
+    }
+
+    private static OAuth2User createKakaoUser() {
+        return new DefaultOAuth2User(
+                List.of(),
+                Map.of(
+                        "id", 1234567890L,
+                        "connected_at", "2024-05-15T13:37:00Z",
+                        "properties", Map.of("nickname", "kakao"),
+                        "kakao_account", Map.of(
+                                "profile", Map.of("nickname", "kakao"),
+                                "email", "kakao@mail.com"
+                        )
+                ),
+                "id"
+        );
+    }
+
+}
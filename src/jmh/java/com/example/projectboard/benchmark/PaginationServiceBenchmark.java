@@ -0,0 +1,35 @@
+package com.example.projectboard.benchmark;
+
+import com.example.projectboard.service.PaginationService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link PaginationService#getPaginationBarNumbers(int, int)} 호출 비용 측정.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class PaginationServiceBenchmark {
+
+    @Param({"0", "6", "12"})
+    private int currentPageNumber;
+
+    @Param({"13", "100000"})
+    private int totalPages;
+
+    private PaginationService paginationService;
+
+    @Setup
+    public void setUp() {
+        paginationService = new PaginationService();
+    }
+
+    @Benchmark
+    public List<Integer> getPaginationBarNumbers() {
+        return paginationService.getPaginationBarNumbers(currentPageNumber, totalPages);
+    }
+
+}
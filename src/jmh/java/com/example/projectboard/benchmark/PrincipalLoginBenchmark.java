@@ -0,0 +1,107 @@
+package com.example.projectboard.benchmark;
+
+import com.example.projectboard.ProjectBoardApplication;
+import com.example.projectboard.dto.security.BoardPrincipal;
+import com.example.projectboard.service.UserAccountService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 동시 로그인이 몰릴 때(login burst) 인증 주체 캐시 유무에 따른 폼 로그인 처리량 비교.
+ *
+ * <p>
+ * 두 경우 모두 스프링 시큐리티의 {@link DaoAuthenticationProvider} 로 인증하며,
+ * 캐시 없는 경우는 캐시 도입 전처럼 매번 {@code searchUser} 로 DB 를 조회한다.
+ * 시드 데이터(db/seed/V1__seed_data.sql)의 회원들로 번갈아 로그인한다.
+ *
+ * <pre>
+ * ./gradlew jmh -PjmhIncludes=PrincipalLoginBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Threads(8)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PrincipalLoginBenchmark {
+
+    private static final List<UsernamePasswordAuthenticationToken> LOGINS = List.of(
+            UsernamePasswordAuthenticationToken.unauthenticated("uno", "asdf1234"),
+            UsernamePasswordAuthenticationToken.unauthenticated("uno2", "asdf1234"),
+            UsernamePasswordAuthenticationToken.unauthenticated("lbk", "1234")
+    );
+
+    private ConfigurableApplicationContext context;
+    private DaoAuthenticationProvider cachedProvider;
+    private DaoAuthenticationProvider uncachedProvider;
+
+    @State(Scope.Thread)
+    public static class Login {
+        private int next;
+
+        UsernamePasswordAuthenticationToken next() {
+            return LOGINS.get(next++ % LOGINS.size());
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(ProjectBoardApplication.class).run(
+                "--spring.datasource.url=jdbc:h2:mem:principal-login;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.show-sql=false",
+                "--server.port=0",
+                "--logging.level.root=warn",
+                "--logging.level.com.example.projectboard=warn",
+                "--logging.level.org.springframework.web.servlet=warn",
+                "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=warn"
+        );
+
+        PasswordEncoder passwordEncoder = context.getBean(PasswordEncoder.class);
+        UserAccountService userAccountService = context.getBean(UserAccountService.class);
+
+        cachedProvider = provider(context.getBean(UserDetailsService.class), passwordEncoder);
+        uncachedProvider = provider(
+                username -> userAccountService.searchUser(username)
+                        .map(BoardPrincipal::from)
+                        .orElseThrow(() -> new UsernameNotFoundException("유저를 찾을 수 없습니다 - username: " + username)),
+                passwordEncoder
+        );
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Authentication formLoginWithPrincipalCache(Login login) {
+        return cachedProvider.authenticate(login.next());
+    }
+
+    @Benchmark
+    public Authentication formLoginWithoutPrincipalCache(Login login) {
+        return uncachedProvider.authenticate(login.next());
+    }
+
+    private static DaoAuthenticationProvider provider(UserDetailsService userDetailsService, PasswordEncoder passwordEncoder) {
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
+        provider.setUserDetailsService(userDetailsService);
+        provider.setPasswordEncoder(passwordEncoder);
+        return provider;
+    }
+
+}
@@ -0,0 +1,99 @@
+package com.example.projectboard.benchmark;
+
+import com.example.projectboard.ProjectBoardApplication;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 목록 20건을 Spring Data REST({@code /api/articles}) 와 읽기 전용 API({@code /api/v2/articles}) 로 받을 때의
+ * 응답 시간과 응답 크기 비교. 실제 HTTP 요청으로 측정하므로 직렬화와 전송까지 포함된다.
+ *
+ * <p>
+ * 응답 크기는 보조 지표로 함께 출력된다. {@code responseBytes / calls} 가 호출당 바이트다.
+ *
+ * <pre>
+ * ./gradlew jmh -PjmhIncludes=ReadApiBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReadApiBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private HttpRequest dataRestRequest;
+    private HttpRequest readApiRequest;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Payload {
+        public long responseBytes;
+        public long calls;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            responseBytes = 0;
+            calls = 0;
+        }
+
+        void add(int bytes) {
+            responseBytes += bytes;
+            calls++;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(ProjectBoardApplication.class).run(
+                "--spring.datasource.url=jdbc:h2:mem:read-api;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.show-sql=false",
+                "--server.port=0",
+                "--logging.level.root=warn",
+                "--logging.level.com.example.projectboard=warn",
+                "--logging.level.org.springframework.web.servlet=warn",
+                "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=warn"
+        );
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+
+        client = HttpClient.newHttpClient();
+        dataRestRequest = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/articles?size=20&sort=id,desc")).build();
+        readApiRequest = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v2/articles?size=20")).build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] dataRestArticles(Payload payload) throws IOException, InterruptedException {
+        return send(dataRestRequest, payload);
+    }
+
+    @Benchmark
+    public byte[] readApiArticles(Payload payload) throws IOException, InterruptedException {
+        return send(readApiRequest, payload);
+    }
+
+    private byte[] send(HttpRequest request, Payload payload) throws IOException, InterruptedException {
+        byte[] body = client.send(request, HttpResponse.BodyHandlers.ofByteArray()).body();
+        payload.add(body.length);
+        return body;
+    }
+
+}
@@ -0,0 +1,53 @@
+package com.example.projectboard.benchmark;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 벤치마크 케이스별로 실제 실행된 SQL 을 모으는 Hibernate {@link StatementInspector}.
+ * {@code hibernate.session_factory.statement_inspector} 속성으로 등록한다.
+ */
+public class SqlCaptureInspector implements StatementInspector {
+
+    private static final Map<String, Set<String>> CAPTURED = new ConcurrentHashMap<>();
+    private static volatile String currentCase = "setup";
+
+    static void startCase(String caseName) {
+        currentCase = caseName;
+    }
+
+    static void writeReport(Path directory) {
+        try {
+            Files.createDirectories(directory);
+            for (Map.Entry<String, Set<String>> entry : CAPTURED.entrySet()) {
+                if (entry.getKey().equals("setup")) {
+                    continue;
+                }
+                synchronized (entry.getValue()) {
+                    Files.writeString(
+                            directory.resolve(entry.getKey() + ".sql"),
+                            String.join(";\n\n", entry.getValue()) + ";\n"
+                    );
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public String inspect(String sql) {
+        CAPTURED.computeIfAbsent(currentCase, key -> Collections.synchronizedSet(new LinkedHashSet<>())).add(sql); // 실행 순서 유지
+        return sql;
+    }
+
+}
@@ -0,0 +1,114 @@
+package com.example.projectboard.load;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 엔드포인트 하나의 응답 시간 히스토그램.
+ *
+ * <p>
+ * 2의 거듭제곱 구간을 다시 {@value #SUB_BUCKETS} 등분한 로그-선형 버킷(마이크로초 단위)에 기록하므로
+ * 요청 수와 관계없이 메모리 사용량이 일정하고, 백분위 값의 오차는 구간 폭(약 25%) 이내다.
+ */
+public class EndpointStats {
+
+    private static final int SUB_BUCKETS = 4;
+    private static final int MAX_EXPONENT = 32;
+
+    private final String name;
+    private final AtomicLongArray buckets = new AtomicLongArray(MAX_EXPONENT * SUB_BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder totalMicros = new LongAdder();
+    private final LongAdder bytes = new LongAdder();
+    private volatile long maxMicros;
+
+    public EndpointStats(String name) {
+        this.name = name;
+    }
+
+    public void record(long elapsedNanos, boolean success, long responseBytes) {
+        long micros = Math.max(elapsedNanos / 1_000, 1);
+        buckets.incrementAndGet(bucketIndex(micros));
+        count.increment();
+        totalMicros.add(micros);
+        bytes.add(responseBytes);
+        if (!success) {
+            errors.increment();
+        }
+        if (micros > maxMicros) {
+            synchronized (this) {
+                maxMicros = Math.max(maxMicros, micros);
+            }
+        }
+    }
+
+    public String name() { return name; }
+    public long count() { return count.sum(); }
+    public long errors() { return errors.sum(); }
+    public long maxMicros() { return maxMicros; }
+
+    public double meanMicros() {
+        long n = count();
+        return n == 0 ? 0 : (double) totalMicros.sum() / n;
+    }
+
+    public double meanBytes() {
+        long n = count();
+        return n == 0 ? 0 : (double) bytes.sum() / n;
+    }
+
+    /**
+     * @param percentile 0 ~ 100
+     * @return 해당 백분위가 속한 버킷의 상한 (마이크로초)
+     */
+    public long percentileMicros(double percentile) {
+        long n = count();
+        if (n == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(n * percentile / 100.0);
+        long seen = 0;
+        for (int i = 0; i < buckets.length(); i++) {
+            seen += buckets.get(i);
+            if (seen >= rank) {
+                return Math.min(bucketUpperBound(i), maxMicros);
+            }
+        }
+        return maxMicros;
+    }
+
+    /**
+     * 비어 있지 않은 버킷만 (상한 마이크로초 -> 건수) 로 돌려준다.
+     */
+    public Map<Long, Long> histogram() {
+        Map<Long, Long> histogram = new LinkedHashMap<>();
+        for (int i = 0; i < buckets.length(); i++) {
+            long bucketCount = buckets.get(i);
+            if (bucketCount > 0) {
+                histogram.put(bucketUpperBound(i), bucketCount);
+            }
+        }
+        return histogram;
+    }
+
+    static int bucketIndex(long micros) {
+        int exponent = 63 - Long.numberOfLeadingZeros(micros); // floor(log2)
+        if (exponent >= MAX_EXPONENT) {
+            return MAX_EXPONENT * SUB_BUCKETS - 1;
+        }
+        long base = 1L << exponent;
+        int sub = (int) ((micros - base) * SUB_BUCKETS / base);
+        return exponent * SUB_BUCKETS + sub;
+    }
+
+    static long bucketUpperBound(int index) {
+        int exponent = index / SUB_BUCKETS;
+        int sub = index % SUB_BUCKETS;
+        long base = 1L << exponent;
+        return base + (base * (sub + 1)) / SUB_BUCKETS;
+    }
+
+}
@@ -0,0 +1,96 @@
+package com.example.projectboard.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 측정 결과를 콘솔 표와 JSON 파일로 남긴다.
+ * JSON 은 버전마다 파일을 따로 만들어, 배포 전후 결과를 나란히 비교할 수 있게 한다.
+ */
+class LoadTestReport {
+
+    private final LoadTestSettings settings;
+    private final Collection<EndpointStats> stats;
+    private final Duration measured;
+
+    LoadTestReport(LoadTestSettings settings, Collection<EndpointStats> stats, Duration measured) {
+        this.settings = settings;
+        this.stats = stats;
+        this.measured = measured;
+    }
+
+    String toTable() {
+        StringBuilder table = new StringBuilder()
+                .append(String.format("%n부하 테스트 결과 - users: %d, duration: %s, threads: %s, pool: %d%n",
+                        settings.users(), measured, settings.threadMode(), settings.connectionPoolSize()))
+                .append(String.format("%-30s %9s %7s %9s %9s %9s %9s %9s%n",
+                        "endpoint", "requests", "errors", "rps", "p50(ms)", "p90(ms)", "p99(ms)", "max(ms)"));
+        for (EndpointStats endpoint : stats) {
+            table.append(String.format("%-30s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                    endpoint.name(),
+                    endpoint.count(),
+                    endpoint.errors(),
+                    throughput(endpoint),
+                    millis(endpoint.percentileMicros(50)),
+                    millis(endpoint.percentileMicros(90)),
+                    millis(endpoint.percentileMicros(99)),
+                    millis(endpoint.maxMicros())));
+        }
+        return table.toString();
+    }
+
+    Path writeJson() throws IOException {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("version", settings.version());
+        report.put("timestamp", OffsetDateTime.now().toString());
+        report.put("users", settings.users());
+        report.put("warmupSeconds", settings.warmup().toSeconds());
+        report.put("durationSeconds", measured.toMillis() / 1000.0);
+        report.put("threadMode", settings.threadMode());
+        report.put("connectionPoolSize", settings.connectionPoolSize());
+        report.put("throughputPerSecond", stats.stream().mapToDouble(this::throughput).sum());
+        report.put("endpoints", stats.stream().map(this::toMap).toList());
+
+        Files.createDirectories(settings.reportDirectory());
+        Path file = settings.reportDirectory().resolve("load-test-" + settings.version() + "-" + settings.threadMode() + ".json");
+        new ObjectMapper()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(file.toFile(), report);
+        return file;
+    }
+
+    private Map<String, Object> toMap(EndpointStats endpoint) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("endpoint", endpoint.name());
+        map.put("requests", endpoint.count());
+        map.put("errors", endpoint.errors());
+        map.put("throughputPerSecond", throughput(endpoint));
+        map.put("meanMillis", endpoint.meanMicros() / 1000.0);
+        map.put("meanResponseBytes", endpoint.meanBytes());
+        for (double percentile : List.of(50.0, 90.0, 99.0)) {
+            map.put("p" + (int) percentile + "Millis", millis(endpoint.percentileMicros(percentile)));
+        }
+        map.put("maxMillis", millis(endpoint.maxMicros()));
+        map.put("histogramMicros", endpoint.histogram());
+        return map;
+    }
+
+    private double throughput(EndpointStats endpoint) {
+        return endpoint.count() / (measured.toMillis() / 1000.0);
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+}
@@ -0,0 +1,61 @@
+package com.example.projectboard.load;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * 부하 테스트 설정. gradle 프로퍼티({@code -Pload.users=32})가 시스템 프로퍼티로 전달된다.
+ *
+ * @param users 동시 가상 사용자 수
+ * @param warmup 측정에서 제외할 워밍업 시간
+ * @param duration 측정 시간
+ * @param thinkTime 가상 사용자 한 명이 요청 사이에 쉬는 시간
+ * @param username 폼 로그인 계정
+ * @param password 폼 로그인 비밀번호
+ * @param reportDirectory 결과 리포트 저장 위치
+ * @param version 리포트에 남길 애플리케이션 버전
+ * @param virtualThreads 가상 스레드 실행 모드 여부 ({@code -PvirtualThreads})
+ * @param connectionPoolSize 커넥션 풀 크기 ({@code -Pload.poolSize})
+ */
+public record LoadTestSettings(
+        int users,
+        Duration warmup,
+        Duration duration,
+        Duration thinkTime,
+        String username,
+        String password,
+        Path reportDirectory,
+        String version,
+        boolean virtualThreads,
+        int connectionPoolSize
+) {
+
+    public static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                Integer.parseInt(System.getProperty("load.users", "16")),
+                duration("load.warmup", "5s"),
+                duration("load.duration", "30s"),
+                duration("load.thinkTime", "0ms"),
+                System.getProperty("load.username", "uno"),
+                System.getProperty("load.password", "asdf1234"),
+                Path.of(System.getProperty("load.reportDir", "build/reports/load")),
+                System.getProperty("load.version", "dev"),
+                Boolean.getBoolean("board.threads.virtual.enabled"),
+                Integer.parseInt(System.getProperty("spring.datasource.hikari.maximum-pool-size", "10"))
+        );
+    }
+
+    /**
+     * 리포트와 파일 이름에 남길 실행 모드
+     */
+    public String threadMode() {
+        return virtualThreads ? "virtual" : "platform";
+    }
+
+    private static Duration duration(String key, String defaultValue) {
+        return DurationStyle.detectAndParse(System.getProperty(key, defaultValue));
+    }
+
+}
@@ -0,0 +1,90 @@
+package com.example.projectboard.load;
+
+import com.example.projectboard.domain.constant.SearchType;
+import com.example.projectboard.load.VirtualUser.Action;
+
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 게시판 실사용 비율을 흉내 낸 가중치 기반 요청 조합.
+ * 대상 데이터는 시드 데이터({@code db/seed/V1__seed_data.sql}, 게시글 1 ~ 123, 색상 이름 해시태그)를 전제로 한다.
+ */
+class MixedWorkload {
+
+    private static final int SEED_ARTICLE_COUNT = 123;
+    private static final List<String> SEARCH_KEYWORDS = List.of("a", "quis", "uno", "Uno", "in", "turquoise");
+    private static final List<String> HASHTAGS = List.of("turquoise", "purple", "pink", "red", "blue", "green", "orange");
+
+    private final List<Action> actions = List.of(
+            new Action("GET /articles", 30,
+                    user -> user.get("/articles?page=" + random().nextInt(5)),
+                    MixedWorkload::isOk),
+            new Action("GET /articles?searchType", 25,
+                    user -> user.get("/articles?searchType=" + randomSearchType()
+                            + "&searchValue=" + VirtualUser.encode(pick(SEARCH_KEYWORDS))),
+                    MixedWorkload::isOk),
+            new Action("GET /articles/{id}", 20,
+                    user -> user.get("/articles/" + (random().nextInt(SEED_ARTICLE_COUNT) + 1)),
+                    MixedWorkload::isOk),
+            new Action("GET /articles/search-hashtag", 10,
+                    user -> user.get("/articles/search-hashtag?searchValue=" + VirtualUser.encode(pick(HASHTAGS))),
+                    MixedWorkload::isOk),
+            new Action("POST /comments/new", 10,
+                    user -> user.postForm("/comments/new", Map.of(
+                            "articleId", String.valueOf(random().nextInt(SEED_ARTICLE_COUNT) + 1),
+                            "content", "부하 테스트 댓글"
+                    )),
+                    MixedWorkload::isRedirect),
+            new Action("POST /articles/form", 5,
+                    user -> user.postForm("/articles/form", Map.of(
+                            "title", "부하 테스트 게시글",
+                            "content", "부하 테스트 본문 #load #" + pick(HASHTAGS)
+                    )),
+                    MixedWorkload::isRedirect)
+    );
+    private final int totalWeight = actions.stream().mapToInt(Action::weight).sum();
+
+    List<Action> actions() {
+        return actions;
+    }
+
+    Action next() {
+        int roll = random().nextInt(totalWeight);
+        for (Action action : actions) {
+            roll -= action.weight();
+            if (roll < 0) {
+                return action;
+            }
+        }
+        throw new IllegalStateException("가중치 합계가 올바르지 않습니다.");
+    }
+
+    private static boolean isOk(HttpResponse<String> response) {
+        return response.statusCode() == 200;
+    }
+
+    /**
+     * 폼 전송은 성공 시 게시글 화면으로 리다이렉트된다. 로그인 화면으로 보내지면 실패로 본다.
+     */
+    private static boolean isRedirect(HttpResponse<String> response) {
+        return response.statusCode() == 302
+                && !response.headers().firstValue("Location").orElse("").contains("/login");
+    }
+
+    private static String randomSearchType() {
+        SearchType[] searchTypes = SearchType.values();
+        return searchTypes[random().nextInt(searchTypes.length)].name();
+    }
+
+    private static String pick(List<String> candidates) {
+        return candidates.get(random().nextInt(candidates.size()));
+    }
+
+    private static ThreadLocalRandom random() {
+        return ThreadLocalRandom.current();
+    }
+
+}
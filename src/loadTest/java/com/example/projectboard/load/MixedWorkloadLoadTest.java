@@ -0,0 +1,126 @@
+package com.example.projectboard.load;
+
+import com.example.projectboard.load.VirtualUser.Action;
+import com.example.projectboard.load.index.IndexAdvice;
+import com.example.projectboard.load.index.IndexAdvisor;
+import com.example.projectboard.load.index.QueryShapeRecorder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+import java.net.URI;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실제 서블릿 컨테이너를 띄우고, 가상 사용자들이 로그인한 뒤 게시판 요청을 섞어 보내며 지연 시간을 측정한다.
+ * {@code ./gradlew loadTest -Pload.users=32 -Pload.duration=60s} 처럼 실행한다.
+ * 측정이 끝나면 실행된 select 문을 EXPLAIN 해서 인덱스 점검 리포트({@link IndexAdvisor})도 남긴다.
+ */
+@DisplayName("부하 테스트 - 게시판 혼합 요청")
+@ActiveProfiles("test")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Import(QueryShapeRecorder.class)
+class MixedWorkloadLoadTest {
+
+    @LocalServerPort private int port;
+    @Autowired private QueryShapeRecorder queryShapeRecorder;
+    @Autowired private DataSource dataSource;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    @DisplayName("가상 사용자들이 로그인 후 혼합 요청을 보내면, 엔드포인트별 지연 시간 리포트를 남긴다.")
+    @Test
+    void givenLoggedInVirtualUsers_whenSendingMixedRequests_thenWritesLatencyReport() throws Exception {
+        // Given
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        URI baseUri = URI.create("http://localhost:" + port);
+        MixedWorkload workload = new MixedWorkload();
+        Map<String, EndpointStats> stats = new LinkedHashMap<>();
+        workload.actions().forEach(action -> stats.put(action.endpoint(), new EndpointStats(action.endpoint())));
+
+        List<VirtualUser> users = new ArrayList<>();
+        for (int i = 0; i < settings.users(); i++) {
+            VirtualUser user = new VirtualUser(baseUri);
+            user.login(settings.username(), settings.password());
+            users.add(user);
+        }
+
+        queryShapeRecorder.clear();
+
+        // When
+        long startNanos = System.nanoTime();
+        long measureFromNanos = startNanos + settings.warmup().toNanos();
+        long endNanos = measureFromNanos + settings.duration().toNanos();
+
+        ExecutorService executor = Executors.newFixedThreadPool(settings.users());
+        List<Future<?>> runs = new ArrayList<>();
+        for (VirtualUser user : users) {
+            runs.add(executor.submit(() -> {
+                run(user, workload, stats, settings.thinkTime(), measureFromNanos, endNanos);
+                return null;
+            }));
+        }
+        for (Future<?> run : runs) {
+            run.get();
+        }
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        // Then
+        LoadTestReport report = new LoadTestReport(settings, stats.values(), settings.duration());
+        System.out.println(report.toTable());
+        Path reportFile = report.writeJson();
+        System.out.println("리포트 저장: " + reportFile.toAbsolutePath());
+
+        IndexAdvice indexAdvice = new IndexAdvisor(dataSource, entityManagerFactory).advise(queryShapeRecorder.shapes());
+        System.out.println(indexAdvice.toTable());
+        Path indexReportFile = indexAdvice.writeJson(settings.reportDirectory(), settings.version());
+        System.out.println("인덱스 점검 리포트 저장: " + indexReportFile.toAbsolutePath());
+
+        assertThat(stats.values())
+                .allSatisfy(endpoint -> assertThat(endpoint.errors())
+                        .as("%s 실패 요청 수", endpoint.name())
+                        .isZero());
+    }
+
+    private static void run(
+            VirtualUser user,
+            MixedWorkload workload,
+            Map<String, EndpointStats> stats,
+            Duration thinkTime,
+            long measureFromNanos,
+            long endNanos
+    ) throws Exception {
+        long now;
+        while ((now = System.nanoTime()) < endNanos) {
+            Action action = workload.next();
+            HttpResponse<String> response = action.request().send(user);
+            long elapsed = System.nanoTime() - now;
+
+            if (now >= measureFromNanos) {
+                stats.get(action.endpoint()).record(elapsed, action.success().apply(response), response.body().length());
+            }
+            if (!thinkTime.isZero()) {
+                Thread.sleep(thinkTime.toMillis());
+            }
+        }
+    }
+
+}
@@ -0,0 +1,97 @@
+package com.example.projectboard.load;
+
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 부하 테스트의 가상 사용자 한 명.
+ * 사용자마다 별도의 쿠키 저장소(세션)를 가지며, {@code SecurityConfig} 의 폼 로그인으로 인증한다.
+ */
+class VirtualUser {
+
+    private static final Pattern CSRF_TOKEN = Pattern.compile("name=\"_csrf\"[^>]*value=\"([^\"]+)\"");
+
+    private final URI baseUri;
+    private final HttpClient client;
+    private String csrfToken;
+
+    VirtualUser(URI baseUri) {
+        this.baseUri = baseUri;
+        this.client = HttpClient.newBuilder()
+                .cookieHandler(new CookieManager())
+                .followRedirects(HttpClient.Redirect.NEVER) // 리다이렉트 전후 요청을 따로 측정한다.
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    /**
+     * 로그인 페이지에서 CSRF 토큰을 받아 폼 로그인을 하고, 이후 폼 전송에 쓸 토큰을 새로 받아둔다.
+     */
+    void login(String username, String password) throws IOException, InterruptedException {
+        csrfToken = extractCsrfToken(get("/login").body())
+                .orElseThrow(() -> new IllegalStateException("로그인 페이지에서 CSRF 토큰을 찾을 수 없습니다."));
+
+        HttpResponse<String> response = postForm("/login", Map.of("username", username, "password", password));
+        String location = response.headers().firstValue("Location").orElse("");
+        if (response.statusCode() != 302 || location.contains("error")) {
+            throw new IllegalStateException("폼 로그인 실패 - status: " + response.statusCode() + ", location: " + location);
+        }
+
+        // 인증 후에는 CSRF 토큰이 새로 발급된다.
+        csrfToken = extractCsrfToken(get("/articles/form").body())
+                .orElseThrow(() -> new IllegalStateException("글쓰기 페이지에서 CSRF 토큰을 찾을 수 없습니다."));
+    }
+
+    HttpResponse<String> get(String pathAndQuery) throws IOException, InterruptedException {
+        return client.send(
+                HttpRequest.newBuilder(baseUri.resolve(pathAndQuery)).GET().build(),
+                HttpResponse.BodyHandlers.ofString()
+        );
+    }
+
+    HttpResponse<String> postForm(String path, Map<String, String> form) throws IOException, InterruptedException {
+        String body = form.entrySet().stream()
+                .map(entry -> encode(entry.getKey()) + "=" + encode(entry.getValue()))
+                .collect(Collectors.joining("&", "_csrf=" + encode(csrfToken) + "&", ""));
+
+        return client.send(
+                HttpRequest.newBuilder(baseUri.resolve(path))
+                        .header("Content-Type", "application/x-www-form-urlencoded")
+                        .POST(HttpRequest.BodyPublishers.ofString(body))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString()
+        );
+    }
+
+    static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    private static Optional<String> extractCsrfToken(String html) {
+        Matcher matcher = CSRF_TOKEN.matcher(html);
+        return matcher.find() ? Optional.of(matcher.group(1)) : Optional.empty();
+    }
+
+    /**
+     * 가상 사용자가 수행하는 요청 하나. 요청이 성공했는지 판단하는 기준을 함께 가진다.
+     */
+    record Action(String endpoint, int weight, Request request, Function<HttpResponse<String>, Boolean> success) {
+        interface Request {
+            HttpResponse<String> send(VirtualUser user) throws IOException, InterruptedException;
+        }
+    }
+
+}
@@ -0,0 +1,125 @@
+package com.example.projectboard.load.index;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 데이터베이스별 EXPLAIN 실행과 결과 해석.
+ */
+enum ExplainDialect {
+
+    /**
+     * 실행 계획 원문의 주석: 인덱스를 쓰면 {@code PUBLIC.IDX_NAME: 조건}, 전체를 읽으면 {@code PUBLIC.ARTICLE.tableScan}
+     */
+    H2 {
+        private final Pattern index = Pattern.compile("/\\*\\s*\\w+\\.(\\w+)(?::|\\s*\\*/)");
+        private final Pattern tableScan = Pattern.compile("/\\*\\s*\\w+\\.(\\w+)\\.tableScan");
+
+        @Override
+        ExplainPlan parse(List<Map<String, String>> rows, Map<String, String> aliases) {
+            String text = text(rows);
+            return new ExplainPlan(find(index, text, 1), find(tableScan, text, 1), text);
+        }
+    },
+
+    /**
+     * 행마다 {@code table}(별칭), {@code type}, {@code key} 컬럼. {@code type = ALL} 이면 전체 읽기다.
+     */
+    MYSQL {
+        @Override
+        ExplainPlan parse(List<Map<String, String>> rows, Map<String, String> aliases) {
+            Set<String> used = new TreeSet<>();
+            Set<String> scanned = new TreeSet<>();
+            for (Map<String, String> row : rows) {
+                String table = lower(row.get("table"));
+                if ("all".equals(lower(row.get("type"))) && table != null) {
+                    scanned.add(aliases.getOrDefault(table, table));
+                }
+                if (row.get("key") != null) {
+                    used.add(lower(row.get("key")));
+                }
+            }
+            return new ExplainPlan(used, scanned, text(rows));
+        }
+    },
+
+    /**
+     * 실행 계획 원문: {@code Seq Scan on article}, {@code Index Scan using idx on article}, {@code Bitmap Index Scan on idx}
+     */
+    POSTGRESQL {
+        private final Pattern index = Pattern.compile("(?:Index (?:Only )?Scan(?: Backward)? using|Bitmap Index Scan on) (\\w+)");
+        private final Pattern seqScan = Pattern.compile("Seq Scan on (\\w+)");
+
+        @Override
+        ExplainPlan parse(List<Map<String, String>> rows, Map<String, String> aliases) {
+            String text = text(rows);
+            return new ExplainPlan(find(index, text, 1), find(seqScan, text, 1), text);
+        }
+    };
+
+    static ExplainDialect of(String databaseProductName) {
+        String name = lower(databaseProductName);
+        if (name.contains("h2")) return H2;
+        if (name.contains("mysql") || name.contains("mariadb")) return MYSQL;
+        if (name.contains("postgres")) return POSTGRESQL;
+        throw new IllegalArgumentException("EXPLAIN 을 지원하지 않는 데이터베이스입니다: " + databaseProductName);
+    }
+
+    /**
+     * 녹화한 파라미터를 다시 바인딩해서 EXPLAIN 한다.
+     *
+     * @param aliases SQL 의 테이블 별칭 - 테이블 이름
+     */
+    ExplainPlan explain(Connection connection, QueryShape shape, Map<String, String> aliases) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("explain " + shape.sql())) {
+            for (int i = 0; i < shape.sampleParameters().size(); i++) {
+                statement.setObject(i + 1, shape.sampleParameters().get(i));
+            }
+            try (ResultSet rs = statement.executeQuery()) {
+                List<Map<String, String>> rows = new ArrayList<>();
+                int columns = rs.getMetaData().getColumnCount();
+                while (rs.next()) {
+                    Map<String, String> row = new LinkedHashMap<>();
+                    for (int column = 1; column <= columns; column++) {
+                        row.put(lower(rs.getMetaData().getColumnLabel(column)), rs.getString(column));
+                    }
+                    rows.add(row);
+                }
+                return parse(rows, aliases);
+            }
+        }
+    }
+
+    abstract ExplainPlan parse(List<Map<String, String>> rows, Map<String, String> aliases);
+
+    private static String text(List<Map<String, String>> rows) {
+        StringBuilder text = new StringBuilder();
+        rows.forEach(row -> text.append(String.join(" | ", row.values().stream().map(String::valueOf).toList())).append('\n'));
+        return text.toString();
+    }
+
+    private static Set<String> find(Pattern pattern, String text, int group) {
+        Set<String> found = new TreeSet<>();
+        Matcher matcher = pattern.matcher(text);
+        while (matcher.find()) {
+            found.add(lower(matcher.group(group)));
+        }
+        return found;
+    }
+
+    private static String lower(String value) {
+        return value == null ? null : value.toLowerCase(Locale.ROOT);
+    }
+
+}
@@ -0,0 +1,16 @@
+package com.example.projectboard.load.index;
+
+import java.util.Set;
+
+/**
+ * EXPLAIN 결과에서 뽑은 인덱스 사용 정보. 이름은 모두 소문자다.
+ *
+ * @param usedIndexes 실행 계획에 나온 인덱스
+ * @param scannedTables 인덱스 없이 전체를 읽는 테이블
+ * @param text 데이터베이스가 돌려준 실행 계획 원문
+ */
+public record ExplainPlan(
+        Set<String> usedIndexes,
+        Set<String> scannedTables,
+        String text
+) {}
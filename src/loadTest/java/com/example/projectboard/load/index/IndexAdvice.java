@@ -0,0 +1,96 @@
+package com.example.projectboard.load.index;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * {@link IndexAdvisor} 결과. 콘솔 표와 JSON 파일로 남긴다.
+ * 항목은 정해진 순서로 정렬되어 있어서, 같은 워크로드와 스키마면 실행 시간 값만 빼고 같은 파일이 나온다.
+ *
+ * @param database EXPLAIN 을 실행한 데이터베이스
+ * @param queryShapes 분석한 쿼리 모양 수
+ * @param missing 덮는 인덱스가 없는 접근 (누적 실행 시간이 큰 순서)
+ * @param unused 어떤 실행 계획에도 나오지 않은 엔티티 선언 인덱스
+ * @param redundant 다른 인덱스의 앞부분 컬럼과 같은 인덱스
+ * @param queries 쿼리 모양별 실행 계획 요약
+ */
+public record IndexAdvice(
+        String database,
+        int queryShapes,
+        List<MissingIndex> missing,
+        List<IndexDefinition> unused,
+        List<RedundantIndex> redundant,
+        List<QueryPlan> queries
+) {
+
+    public String toTable() {
+        StringBuilder table = new StringBuilder()
+                .append(String.format("%n인덱스 점검 결과 - database: %s, query shapes: %d%n", database, queryShapes))
+                .append(String.format("%-10s %-22s %-34s %s%n", "finding", "table", "columns / index", "evidence"));
+        for (MissingIndex index : missing) {
+            table.append(String.format("%-10s %-22s %-34s %d queries, %d executions, %.2f ms%s%n",
+                    "missing", index.table(), index.columns(), index.queries(), index.executions(), index.totalMillis(),
+                    index.tableScanned() ? ", table scan" : ""));
+        }
+        for (IndexDefinition index : unused) {
+            table.append(String.format("%-10s %-22s %-34s %s %s, not in any plan%n",
+                    "unused", index.table(), index.name(), index.origin(), index.columns()));
+        }
+        for (RedundantIndex index : redundant) {
+            table.append(String.format("%-10s %-22s %-34s %s %s, prefix of %s %s%n",
+                    "redundant", index.index().table(), index.index().name(), index.index().origin(), index.index().columns(),
+                    index.coveredBy(), index.coveredByColumns()));
+        }
+        queries.stream()
+                .flatMap(query -> query.notes().stream())
+                .distinct()
+                .forEach(note -> table.append(String.format("%-10s %s%n", "note", note)));
+        return table.toString();
+    }
+
+    public Path writeJson(Path directory, String version) throws IOException {
+        Files.createDirectories(directory);
+        Path file = directory.resolve("index-advisor-" + version + ".json");
+        new ObjectMapper()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(file.toFile(), this);
+        return file;
+    }
+
+
+    /**
+     * @param columns 등호 조건 컬럼(이름순) 다음에 범위 조건 또는 정렬 컬럼
+     * @param tableScanned 실행 계획에서 이 테이블을 전체 읽었는지 여부
+     */
+    public record MissingIndex(
+            String table,
+            List<String> columns,
+            int queries,
+            long executions,
+            double totalMillis,
+            boolean tableScanned,
+            String exampleSql
+    ) {}
+
+    public record RedundantIndex(
+            IndexDefinition index,
+            String coveredBy,
+            List<String> coveredByColumns
+    ) {}
+
+    public record QueryPlan(
+            String sql,
+            long executions,
+            double totalMillis,
+            Set<String> usedIndexes,
+            Set<String> scannedTables,
+            List<String> notes
+    ) {}
+
+}
@@ -0,0 +1,280 @@
+package com.example.projectboard.load.index;
+
+import javax.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 부하 테스트에서 녹화한 select 문({@link QueryShapeRecorder})을 EXPLAIN 하고, 실제 인덱스 / 엔티티 인덱스 선언과 비교한다.
+ *
+ * <ul>
+ *     <li>missing: 등호 / in 조건 컬럼 다음에 범위 조건 또는 정렬 컬럼이 오는 순서로 덮는 인덱스가 없는 접근</li>
+ *     <li>unused: 워크로드가 읽은 테이블의 엔티티 선언 인덱스 중 어떤 실행 계획에도 나오지 않은 것</li>
+ *     <li>redundant: 다른 인덱스의 앞부분 컬럼과 같아서 없어도 되는 인덱스 (기본 키 / 유니크 제외)</li>
+ * </ul>
+ *
+ * SQL 은 하이버네이트가 만든 모양({@code from article article0_ where article0_.title=?})을 가정하고 정규식으로 읽는다.
+ */
+public class IndexAdvisor {
+
+    private static final Pattern ALIAS = Pattern.compile("\\b(?:from|join)\\s+(\\w+)\\s+(?:as\\s+)?(\\w+)", Pattern.CASE_INSENSITIVE);
+    private static final Set<String> KEYWORDS = Set.of("where", "left", "right", "inner", "outer", "cross", "join", "on", "order", "group", "limit", "offset", "fetch", "having");
+    private static final Pattern PARAMETER_PREDICATE = Pattern.compile("(\\w+)\\.(\\w+)\\s*(<>|!=|<=|>=|=|<|>|\\blike\\b)\\s*\\?", Pattern.CASE_INSENSITIVE);
+    private static final Pattern IN_PREDICATE = Pattern.compile("(\\w+)\\.(\\w+)\\s+in\\s*\\(", Pattern.CASE_INSENSITIVE);
+    private static final Pattern JOIN_PREDICATE = Pattern.compile("(\\w+)\\.(\\w+)\\s*=\\s*(\\w+)\\.(\\w+)");
+    private static final Pattern ORDER_BY = Pattern.compile("\\border\\s+by\\s+(.+?)(?:\\b(?:limit|offset|fetch|for\\s+update)\\b|$)", Pattern.CASE_INSENSITIVE);
+    private static final Pattern COLUMN = Pattern.compile("(\\w+)\\.(\\w+)");
+
+    private final DataSource dataSource;
+    private final EntityManagerFactory entityManagerFactory;
+
+    public IndexAdvisor(DataSource dataSource, EntityManagerFactory entityManagerFactory) {
+        this.dataSource = dataSource;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    public IndexAdvice advise(List<QueryShape> shapes) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            ExplainDialect dialect = ExplainDialect.of(connection.getMetaData().getDatabaseProductName());
+            List<IndexDefinition> indexes = SchemaIndexes.read(connection, entityManagerFactory);
+            Map<String, List<IndexDefinition>> indexesByTable = indexes.stream()
+                    .collect(Collectors.groupingBy(IndexDefinition::table, TreeMap::new, Collectors.toList()));
+
+            Set<String> usedIndexes = new TreeSet<>();
+            Set<String> touchedTables = new TreeSet<>();
+            Set<String> scannedTables = new TreeSet<>();
+            Map<String, MissingIndexBuilder> missing = new TreeMap<>();
+            List<IndexAdvice.QueryPlan> plans = new ArrayList<>();
+
+            for (QueryShape shape : shapes) {
+                Map<String, String> aliases = aliases(shape.sql());
+                List<String> notes = new ArrayList<>();
+                ExplainPlan plan;
+                try {
+                    plan = dialect.explain(connection, shape, aliases);
+                } catch (SQLException e) {
+                    plan = new ExplainPlan(Set.of(), Set.of(), "");
+                    notes.add("EXPLAIN 실패: " + e.getMessage());
+                }
+                usedIndexes.addAll(plan.usedIndexes());
+                scannedTables.addAll(plan.scannedTables());
+                touchedTables.addAll(aliases.values());
+
+                for (Map.Entry<String, Access> entry : accesses(shape, aliases, notes).entrySet()) {
+                    String table = aliases.get(entry.getKey());
+                    List<String> candidate = entry.getValue().candidate();
+                    if (!candidate.isEmpty() && !covered(indexesByTable.getOrDefault(table, List.of()), entry.getValue())) {
+                        missing.computeIfAbsent(table + candidate, key -> new MissingIndexBuilder(table, candidate, shape.sql()))
+                                .add(shape);
+                    }
+                }
+                plans.add(new IndexAdvice.QueryPlan(shape.sql(), shape.executions(), millis(shape.totalNanos()),
+                        plan.usedIndexes(), plan.scannedTables(), notes));
+            }
+
+            List<IndexAdvice.MissingIndex> missingIndexes = missing.values().stream()
+                    .map(builder -> builder.build(scannedTables.contains(builder.table)))
+                    .sorted(Comparator.comparingDouble(IndexAdvice.MissingIndex::totalMillis).reversed()
+                            .thenComparing(IndexAdvice.MissingIndex::table)
+                            .thenComparing(index -> index.columns().toString()))
+                    .toList();
+            List<IndexDefinition> unused = indexes.stream()
+                    .filter(index -> index.declared() && !index.primaryKey() && !index.unique())
+                    .filter(index -> touchedTables.contains(index.table()) && !usedIndexes.contains(index.name()))
+                    .toList();
+            List<IndexAdvice.RedundantIndex> redundant = redundant(indexesByTable);
+
+            return new IndexAdvice(dialect.name(), shapes.size(), missingIndexes, unused, redundant, plans);
+        }
+    }
+
+    static Map<String, String> aliases(String sql) {
+        Map<String, String> aliases = new LinkedHashMap<>();
+        Matcher matcher = ALIAS.matcher(sql);
+        while (matcher.find()) {
+            String alias = lower(matcher.group(2));
+            if (!KEYWORDS.contains(alias)) {
+                aliases.put(alias, lower(matcher.group(1)));
+            }
+        }
+        return aliases;
+    }
+
+    /**
+     * 별칭마다 등호 / 범위 조건 컬럼과 정렬 컬럼을 모은다. 앞에 와일드카드가 있는 like 는 인덱스를 쓸 수 없으므로 메모만 남긴다.
+     */
+    static Map<String, Access> accesses(QueryShape shape, Map<String, String> aliases, List<String> notes) {
+        String sql = shape.sql();
+        Map<String, Access> accesses = new TreeMap<>();
+
+        Matcher predicate = PARAMETER_PREDICATE.matcher(sql);
+        while (predicate.find()) {
+            String alias = lower(predicate.group(1));
+            if (!aliases.containsKey(alias)) continue;
+            String column = lower(predicate.group(2));
+            String operator = lower(predicate.group(3));
+            Object value = parameter(shape, sql.substring(0, predicate.end()));
+            Access access = accesses.computeIfAbsent(alias, key -> new Access());
+            switch (operator) {
+                case "=" -> access.equality.add(column);
+                case "like" -> {
+                    if (value instanceof String text && (text.startsWith("%") || text.startsWith("_"))) {
+                        notes.add(aliases.get(alias) + "." + column + " like '" + text + "' 는 앞에 와일드카드가 있어 인덱스를 쓸 수 없다.");
+                    } else {
+                        access.range.add(column);
+                    }
+                }
+                case "<>", "!=" -> { }
+                default -> access.range.add(column);
+            }
+        }
+
+        Matcher in = IN_PREDICATE.matcher(sql);
+        while (in.find()) {
+            String alias = lower(in.group(1));
+            if (aliases.containsKey(alias)) {
+                accesses.computeIfAbsent(alias, key -> new Access()).equality.add(lower(in.group(2)));
+            }
+        }
+
+        // 조인 조건은 나중에 조인된 테이블 쪽에서만 찾는 조건이 된다.
+        List<String> joinOrder = new ArrayList<>(aliases.keySet());
+        Matcher join = JOIN_PREDICATE.matcher(sql);
+        while (join.find()) {
+            String left = lower(join.group(1));
+            String right = lower(join.group(3));
+            if (!aliases.containsKey(left) || !aliases.containsKey(right) || left.equals(right)) continue;
+            boolean rightJoinedLater = joinOrder.indexOf(right) > joinOrder.indexOf(left);
+            accesses.computeIfAbsent(rightJoinedLater ? right : left, key -> new Access())
+                    .equality.add(lower(join.group(rightJoinedLater ? 4 : 2)));
+        }
+
+        Matcher orderBy = ORDER_BY.matcher(sql);
+        if (orderBy.find()) {
+            Matcher column = COLUMN.matcher(orderBy.group(1));
+            Map<String, List<String>> orderColumns = new LinkedHashMap<>();
+            while (column.find()) {
+                orderColumns.computeIfAbsent(lower(column.group(1)), key -> new ArrayList<>()).add(lower(column.group(2)));
+            }
+            if (orderColumns.size() == 1) { // 여러 테이블 컬럼으로 정렬하면 인덱스 하나로 정렬을 대신할 수 없다.
+                orderColumns.forEach((alias, columns) -> {
+                    if (aliases.containsKey(alias)) {
+                        accesses.computeIfAbsent(alias, key -> new Access()).order.addAll(columns);
+                    }
+                });
+            }
+        }
+        return accesses;
+    }
+
+    static boolean covered(List<IndexDefinition> indexes, Access access) {
+        List<String> candidate = access.candidate();
+        int equalityCount = access.equality.size();
+        for (IndexDefinition index : indexes) {
+            if (index.unique() && access.equality.containsAll(index.columns())) {
+                return true; // 한 행만 찾는다.
+            }
+            if (index.columns().size() < candidate.size()) {
+                continue;
+            }
+            if (new HashSet<>(index.columns().subList(0, equalityCount)).equals(access.equality)
+                    && index.columns().subList(equalityCount, candidate.size()).equals(candidate.subList(equalityCount, candidate.size()))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static List<IndexAdvice.RedundantIndex> redundant(Map<String, List<IndexDefinition>> indexesByTable) {
+        List<IndexAdvice.RedundantIndex> redundant = new ArrayList<>();
+        indexesByTable.values().forEach(indexes -> {
+            for (IndexDefinition index : indexes) {
+                if (index.unique() || index.primaryKey()) continue;
+                indexes.stream()
+                        .filter(other -> other != index && other.startsWith(index.columns()))
+                        .filter(other -> other.columns().size() > index.columns().size() || other.unique() || other.name().compareTo(index.name()) < 0)
+                        .findFirst()
+                        .ifPresent(other -> redundant.add(new IndexAdvice.RedundantIndex(index, other.name(), other.columns())));
+            }
+        });
+        return redundant;
+    }
+
+    private static Object parameter(QueryShape shape, String sqlBeforeParameter) {
+        int index = (int) sqlBeforeParameter.chars().filter(ch -> ch == '?').count() - 1;
+        return index >= 0 && index < shape.sampleParameters().size() ? shape.sampleParameters().get(index) : null;
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static String lower(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+
+    static class Access {
+
+        final Set<String> equality = new TreeSet<>();
+        final Set<String> range = new LinkedHashSet<>();
+        final List<String> order = new ArrayList<>();
+
+        /**
+         * 등호 조건 컬럼(이름순) 다음에 첫 번째 범위 조건 컬럼, 범위 조건이 없으면 정렬 컬럼
+         */
+        List<String> candidate() {
+            List<String> columns = new ArrayList<>(equality);
+            List<String> tail = range.stream().filter(column -> !equality.contains(column)).limit(1).toList();
+            if (tail.isEmpty()) {
+                tail = order.stream().filter(column -> !equality.contains(column)).distinct().toList();
+            }
+            columns.addAll(tail);
+            return columns;
+        }
+
+    }
+
+    private static class MissingIndexBuilder {
+
+        private final String table;
+        private final List<String> columns;
+        private final String exampleSql;
+        private int queries;
+        private long executions;
+        private long totalNanos;
+
+        private MissingIndexBuilder(String table, List<String> columns, String exampleSql) {
+            this.table = table;
+            this.columns = columns;
+            this.exampleSql = exampleSql;
+        }
+
+        private void add(QueryShape shape) {
+            queries++;
+            executions += shape.executions();
+            totalNanos += shape.totalNanos();
+        }
+
+        private IndexAdvice.MissingIndex build(boolean tableScanned) {
+            return new IndexAdvice.MissingIndex(table, columns, queries, executions, millis(totalNanos), tableScanned, exampleSql);
+        }
+
+    }
+
+}
@@ -0,0 +1,181 @@
+package com.example.projectboard.load.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("부하 테스트 - 인덱스 점검 SQL 해석")
+class IndexAdvisorTest {
+
+    private static final String COMMENTS_OF_ARTICLE = "select articlecom0_.id as id1_1_, articlecom0_.created_at as created_2_1_, articlecom0_.content as content7_1_ "
+            + "from article_comment articlecom0_ "
+            + "left outer join user_account useraccoun1_ on articlecom0_.user_id=useraccoun1_.user_id "
+            + "where articlecom0_.article_id=? "
+            + "order by articlecom0_.created_at asc";
+
+    @DisplayName("하이버네이트 SQL 의 from / join 절에서 별칭과 테이블을 읽는다. 키워드는 별칭으로 보지 않는다.")
+    @Test
+    void givenHibernateSqlWithJoins_whenReadingAliases_thenMapsAliasToTable() {
+        // Given
+        String sql = "select article0_.id as id1_0_ from article article0_ "
+                + "inner join article_hashtag hashtags1_ on article0_.id=hashtags1_.article_id "
+                + "inner join hashtag hashtag2_ on hashtags1_.hashtag_id=hashtag2_.id "
+                + "where hashtag2_.hashtag_name=?";
+        String withoutAlias = "select count(*) as col_0_0_ from article where id=?";
+
+        // When
+        Map<String, String> aliases = IndexAdvisor.aliases(sql);
+        Map<String, String> keywordOnly = IndexAdvisor.aliases(withoutAlias);
+
+        // Then
+        assertThat(aliases).containsExactly(
+                Map.entry("article0_", "article"),
+                Map.entry("hashtags1_", "article_hashtag"),
+                Map.entry("hashtag2_", "hashtag")
+        );
+        assertThat(keywordOnly).isEmpty();
+    }
+
+    @DisplayName("등호 조건 다음에 정렬 컬럼을 후보로 잡고, 조인 조건은 나중에 조인된 테이블 쪽 조건으로 본다.")
+    @Test
+    void givenEqualityAndOrderBy_whenReadingAccesses_thenCandidateIsEqualityThenOrderColumns() {
+        // Given
+        QueryShape shape = shape(COMMENTS_OF_ARTICLE, 1L);
+        Map<String, String> aliases = IndexAdvisor.aliases(shape.sql());
+
+        // When
+        Map<String, IndexAdvisor.Access> accesses = IndexAdvisor.accesses(shape, aliases, new ArrayList<>());
+
+        // Then
+        assertThat(accesses.get("articlecom0_").candidate()).containsExactly("article_id", "created_at");
+        assertThat(accesses.get("useraccoun1_").candidate()).containsExactly("user_id");
+    }
+
+    @DisplayName("in (...) 조건은 등호 조건으로 본다.")
+    @Test
+    void givenInPredicate_whenReadingAccesses_thenTreatsAsEquality() {
+        // Given
+        QueryShape shape = shape("select hashtag0_.id as id1_3_ from hashtag hashtag0_ where hashtag0_.hashtag_name in (? , ?)", "java", "spring");
+        Map<String, String> aliases = IndexAdvisor.aliases(shape.sql());
+
+        // When
+        Map<String, IndexAdvisor.Access> accesses = IndexAdvisor.accesses(shape, aliases, new ArrayList<>());
+
+        // Then
+        assertThat(accesses.get("hashtag0_").candidate()).containsExactly("hashtag_name");
+    }
+
+    @DisplayName("범위 조건이 있으면 정렬 컬럼 대신 첫 번째 범위 조건 컬럼을 후보 끝에 둔다.")
+    @Test
+    void givenRangePredicate_whenReadingAccesses_thenRangeColumnComesAfterEquality() {
+        // Given
+        QueryShape shape = shape("select article0_.id as id1_0_ from article article0_ "
+                + "where article0_.created_by=? and article0_.created_at<? order by article0_.id desc limit ?", "uno", "2024-01-01", 10);
+        Map<String, String> aliases = IndexAdvisor.aliases(shape.sql());
+
+        // When
+        Map<String, IndexAdvisor.Access> accesses = IndexAdvisor.accesses(shape, aliases, new ArrayList<>());
+
+        // Then
+        assertThat(accesses.get("article0_").candidate()).containsExactly("created_by", "created_at");
+    }
+
+    @DisplayName("앞에 와일드카드가 있는 like 는 후보에 넣지 않고 메모만 남긴다. 접두어 검색은 범위 조건으로 본다.")
+    @Test
+    void givenLikePredicates_whenReadingAccesses_thenOnlyPrefixLikeIsRange() {
+        // Given
+        String sql = "select article0_.id as id1_0_ from article article0_ where article0_.title like ? order by article0_.created_at desc";
+        List<String> notes = new ArrayList<>();
+
+        // When
+        Map<String, IndexAdvisor.Access> contains = IndexAdvisor.accesses(shape(sql, "%java%"), IndexAdvisor.aliases(sql), notes);
+        Map<String, IndexAdvisor.Access> prefix = IndexAdvisor.accesses(shape(sql, "java%"), IndexAdvisor.aliases(sql), new ArrayList<>());
+
+        // Then
+        assertThat(contains.get("article0_").candidate()).containsExactly("created_at");
+        assertThat(notes).singleElement().asString().contains("article.title like '%java%'");
+        assertThat(prefix.get("article0_").candidate()).containsExactly("title");
+    }
+
+    @DisplayName("여러 테이블 컬럼으로 정렬하면, 인덱스 하나로 정렬을 대신할 수 없으므로 정렬 컬럼을 후보에 넣지 않는다.")
+    @Test
+    void givenOrderByAcrossTables_whenReadingAccesses_thenIgnoresOrderColumns() {
+        // Given
+        String sql = "select article0_.id as id1_0_ from article article0_ "
+                + "left outer join user_account useraccoun1_ on article0_.created_by=useraccoun1_.user_id "
+                + "order by useraccoun1_.nickname asc, article0_.created_at desc";
+
+        // When
+        Map<String, IndexAdvisor.Access> accesses = IndexAdvisor.accesses(shape(sql), IndexAdvisor.aliases(sql), new ArrayList<>());
+
+        // Then
+        assertThat(accesses).doesNotContainKey("article0_");
+        assertThat(accesses.get("useraccoun1_").candidate()).containsExactly("user_id");
+    }
+
+    @DisplayName("등호 컬럼 다음에 정렬 컬럼이 오는 인덱스는 접근을 덮고, 컬럼 순서가 다르거나 모자라면 덮지 못한다.")
+    @Test
+    void givenIndexes_whenCheckingCoverage_thenOnlyMatchingColumnOrderCovers() {
+        // Given
+        QueryShape shape = shape(COMMENTS_OF_ARTICLE, 1L);
+        IndexAdvisor.Access access = IndexAdvisor.accesses(shape, IndexAdvisor.aliases(shape.sql()), new ArrayList<>()).get("articlecom0_");
+
+        // When & Then
+        assertThat(IndexAdvisor.covered(List.of(index("article_comment", "idx_article_created", "article_id", "created_at")), access)).isTrue();
+        assertThat(IndexAdvisor.covered(List.of(index("article_comment", "idx_article_created_content", "article_id", "created_at", "content")), access)).isTrue();
+        assertThat(IndexAdvisor.covered(List.of(index("article_comment", "idx_created_article", "created_at", "article_id")), access)).isFalse();
+        assertThat(IndexAdvisor.covered(List.of(index("article_comment", "idx_article", "article_id")), access)).isFalse();
+    }
+
+    @DisplayName("등호 조건으로 유니크 인덱스 컬럼을 모두 찾으면, 한 행만 읽으므로 덮인 것으로 본다.")
+    @Test
+    void givenUniqueIndexOnEqualityColumns_whenCheckingCoverage_thenCovers() {
+        // Given
+        QueryShape shape = shape("select hashtag0_.id as id1_3_ from hashtag hashtag0_ where hashtag0_.hashtag_name in (? , ?)", "java", "spring");
+        IndexAdvisor.Access access = IndexAdvisor.accesses(shape, IndexAdvisor.aliases(shape.sql()), new ArrayList<>()).get("hashtag0_");
+        IndexDefinition unique = new IndexDefinition("hashtag", "uk_hashtag_name", List.of("hashtag_name"), true, false, false);
+
+        // When
+        boolean covered = IndexAdvisor.covered(List.of(unique), access);
+
+        // Then
+        assertThat(covered).isTrue();
+    }
+
+    @DisplayName("다른 인덱스의 앞부분 컬럼과 같은 인덱스는 중복으로 보고, 기본 키 / 유니크 인덱스는 중복으로 보지 않는다.")
+    @Test
+    void givenPrefixIndexes_whenCheckingRedundancy_thenReportsOnlyNonUniquePrefix() {
+        // Given
+        IndexDefinition prefix = index("article_comment", "idx_article", "article_id");
+        IndexDefinition wider = index("article_comment", "idx_article_created", "article_id", "created_at");
+        IndexDefinition primaryKey = new IndexDefinition("article_comment", "primary_key", List.of("id"), true, true, false);
+        IndexDefinition idPrefixed = index("article_comment", "idx_id_content", "id", "content");
+
+        // When
+        List<IndexAdvice.RedundantIndex> redundant = IndexAdvisor.redundant(Map.of(
+                "article_comment", List.of(prefix, wider, primaryKey, idPrefixed)
+        ));
+
+        // Then
+        assertThat(redundant).singleElement().satisfies(result -> {
+            assertThat(result.index()).isEqualTo(prefix);
+            assertThat(result.coveredBy()).isEqualTo("idx_article_created");
+            assertThat(result.coveredByColumns()).containsExactly("article_id", "created_at");
+        });
+    }
+
+
+    private QueryShape shape(String sql, Object... parameters) {
+        return new QueryShape(sql, List.of(parameters), 1, 1_000_000);
+    }
+
+    private IndexDefinition index(String table, String name, String... columns) {
+        return new IndexDefinition(table, name, List.of(columns), false, false, true);
+    }
+
+}
@@ -0,0 +1,41 @@
+package com.example.projectboard.load.index;
+
+import java.util.List;
+
+/**
+ * 데이터베이스에 실제로 있는 인덱스 하나. 이름과 컬럼은 모두 소문자다.
+ *
+ * @param table 테이블 이름
+ * @param name 인덱스 이름
+ * @param columns 인덱스 컬럼 (순서대로)
+ * @param unique 유니크 인덱스 여부
+ * @param primaryKey 기본 키 인덱스 여부
+ * @param declared 엔티티의 {@code @Table(indexes = ...)} 에 선언된 인덱스인지 여부
+ */
+public record IndexDefinition(
+        String table,
+        String name,
+        List<String> columns,
+        boolean unique,
+        boolean primaryKey,
+        boolean declared
+) {
+
+    /**
+     * 리포트에 남길 인덱스 출처
+     */
+    public String origin() {
+        if (primaryKey) return "primary key";
+        if (declared) return "entity @Index";
+        if (unique) return "unique";
+        return "foreign key / other";
+    }
+
+    /**
+     * 이 인덱스의 앞부분 컬럼이 {@code other} 의 컬럼 전체와 같은지 여부
+     */
+    public boolean startsWith(List<String> other) {
+        return columns.size() >= other.size() && columns.subList(0, other.size()).equals(other);
+    }
+
+}
@@ -0,0 +1,18 @@
+package com.example.projectboard.load.index;
+
+import java.util.List;
+
+/**
+ * 파라미터만 다르고 같은 SQL 로 실행된 select 문 묶음.
+ *
+ * @param sql 처음 실행된 SQL (in 목록의 길이는 그때 그대로)
+ * @param sampleParameters {@code sql} 과 함께 바인딩된 파라미터. EXPLAIN 할 때 다시 바인딩한다.
+ * @param executions 실행 횟수
+ * @param totalNanos 누적 실행 시간
+ */
+public record QueryShape(
+        String sql,
+        List<Object> sampleParameters,
+        long executions,
+        long totalNanos
+) {}
@@ -0,0 +1,73 @@
+package com.example.projectboard.load.index;
+
+import com.example.projectboard.monitoring.JdbcStatementListener;
+import com.example.projectboard.monitoring.StatementExecution;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * 부하 테스트 동안 실행된 select 문을 모양(파라미터를 뺀 SQL)별로 모은다.
+ * 모양마다 실행 횟수, 누적 실행 시간, 처음 성공한 실행의 파라미터를 남겨 두었다가 {@link IndexAdvisor} 가 EXPLAIN 할 때 쓴다.
+ */
+public class QueryShapeRecorder implements JdbcStatementListener {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern IN_LIST = Pattern.compile("in\\s*\\(\\s*\\?(\\s*,\\s*\\?)*\\s*\\)", Pattern.CASE_INSENSITIVE);
+
+    private final Map<String, Shape> shapes = new ConcurrentHashMap<>();
+
+    @Override
+    public void afterExecution(StatementExecution execution) {
+        String sql = WHITESPACE.matcher(execution.sql()).replaceAll(" ").strip();
+        if (!execution.success() || !sql.toLowerCase(Locale.ROOT).startsWith("select")) {
+            return;
+        }
+        String key = IN_LIST.matcher(sql).replaceAll("in (?...)");
+        shapes.computeIfAbsent(key, k -> new Shape(sql, execution.parameters())).record(execution.elapsed().toNanos());
+    }
+
+    /**
+     * 실행 시간 합이 큰 순서. 합이 같으면 SQL 순서로 정렬해서 실행할 때마다 같은 순서가 나오게 한다.
+     */
+    public List<QueryShape> shapes() {
+        return shapes.values().stream()
+                .map(Shape::toQueryShape)
+                .sorted(Comparator.comparingLong(QueryShape::totalNanos).reversed().thenComparing(QueryShape::sql))
+                .toList();
+    }
+
+    public void clear() {
+        shapes.clear();
+    }
+
+
+    private static class Shape {
+
+        private final String sampleSql;
+        private final List<Object> sampleParameters;
+        private final LongAdder executions = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+
+        private Shape(String sampleSql, List<Object> sampleParameters) {
+            this.sampleSql = sampleSql;
+            this.sampleParameters = sampleParameters;
+        }
+
+        private void record(long nanos) {
+            executions.increment();
+            totalNanos.add(nanos);
+        }
+
+        private QueryShape toQueryShape() {
+            return new QueryShape(sampleSql, sampleParameters, executions.sum(), totalNanos.sum());
+        }
+
+    }
+
+}
@@ -0,0 +1,112 @@
+package com.example.projectboard.load.index;
+
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.boot.model.naming.Identifier;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.collection.AbstractCollectionPersister;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * JPA 매핑에 있는 테이블들의 실제 인덱스를 JDBC 메타데이터로 읽고, 엔티티에 선언된 인덱스인지 표시한다.
+ */
+class SchemaIndexes {
+
+    private static final CamelCaseToUnderscoresNamingStrategy NAMING = new CamelCaseToUnderscoresNamingStrategy();
+
+    private SchemaIndexes() {}
+
+    static List<IndexDefinition> read(Connection connection, EntityManagerFactory entityManagerFactory) throws SQLException {
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        Map<String, Set<List<String>>> declared = new TreeMap<>();
+        sessionFactory.getMetamodel().entityPersisters().values().forEach(persister -> {
+            String table = lower(((AbstractEntityPersister) persister).getTableName());
+            Class<?> mappedClass = persister.getMappedClass();
+            Table annotation = mappedClass.getAnnotation(Table.class);
+            Set<List<String>> indexes = declared.computeIfAbsent(table, key -> new HashSet<>());
+            if (annotation != null) {
+                Arrays.stream(annotation.indexes()).map(SchemaIndexes::columns).forEach(indexes::add);
+            }
+        });
+        sessionFactory.getMetamodel().collectionPersisters().values().forEach(persister ->
+                declared.computeIfAbsent(lower(((AbstractCollectionPersister) persister).getTableName()), key -> new HashSet<>()));
+
+        DatabaseMetaData metaData = connection.getMetaData();
+        List<IndexDefinition> result = new ArrayList<>();
+        for (Map.Entry<String, Set<List<String>>> table : declared.entrySet()) {
+            String tableName = databaseIdentifier(metaData, table.getKey());
+            Set<String> primaryKey = primaryKeyColumns(metaData, tableName);
+            Map<String, TreeMap<Short, String>> columnsByIndex = new TreeMap<>();
+            Set<String> nonUnique = new TreeSet<>();
+            try (ResultSet rs = metaData.getIndexInfo(null, null, tableName, false, false)) {
+                while (rs.next()) {
+                    if (rs.getShort("TYPE") == DatabaseMetaData.tableIndexStatistic || rs.getString("INDEX_NAME") == null) {
+                        continue;
+                    }
+                    String name = lower(rs.getString("INDEX_NAME"));
+                    columnsByIndex.computeIfAbsent(name, key -> new TreeMap<>()).put(rs.getShort("ORDINAL_POSITION"), lower(rs.getString("COLUMN_NAME")));
+                    if (rs.getBoolean("NON_UNIQUE")) {
+                        nonUnique.add(name);
+                    }
+                }
+            }
+            columnsByIndex.forEach((name, columns) -> {
+                List<String> columnList = List.copyOf(columns.values());
+                boolean unique = !nonUnique.contains(name);
+                result.add(new IndexDefinition(
+                        table.getKey(),
+                        name,
+                        columnList,
+                        unique,
+                        unique && new HashSet<>(columnList).equals(primaryKey),
+                        table.getValue().contains(columnList)
+                ));
+            });
+        }
+        return result;
+    }
+
+    private static List<String> columns(Index index) {
+        return Arrays.stream(index.columnList().split(","))
+                .map(column -> column.strip().split("\\s+")[0]) // "createdAt desc" 의 정렬 방향은 뺀다.
+                .map(column -> lower(NAMING.toPhysicalColumnName(Identifier.toIdentifier(column), null).getText()))
+                .toList();
+    }
+
+    private static Set<String> primaryKeyColumns(DatabaseMetaData metaData, String table) throws SQLException {
+        Set<String> columns = new HashSet<>();
+        try (ResultSet rs = metaData.getPrimaryKeys(null, null, table)) {
+            while (rs.next()) {
+                columns.add(lower(rs.getString("COLUMN_NAME")));
+            }
+        }
+        return columns;
+    }
+
+    private static String databaseIdentifier(DatabaseMetaData metaData, String name) throws SQLException {
+        if (metaData.storesUpperCaseIdentifiers()) return name.toUpperCase(Locale.ROOT);
+        if (metaData.storesLowerCaseIdentifiers()) return name.toLowerCase(Locale.ROOT);
+        return name;
+    }
+
+    private static String lower(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+}
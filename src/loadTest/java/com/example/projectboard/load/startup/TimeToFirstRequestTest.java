@@ -0,0 +1,172 @@
+package com.example.projectboard.load.startup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 애플리케이션을 별도 JVM 으로 띄워서, 프로세스를 시작한 때부터 게시글 목록 첫 요청이 200 으로 응답할 때까지의 시간을 잰다.
+ * 실행 모드(기본 / 지연 초기화 / AppCDS / 둘 다)마다 여러 번 재고, 버전별 JSON 으로 남겨 릴리즈 간에 비교한다.
+ * {@code ./gradlew cdsArchive startupTime} 으로 실행한다. ({@code startup.classpath} 가 없으면 건너뛴다.)
+ */
+@DisplayName("시작 시간 - 첫 요청까지 걸린 시간")
+class TimeToFirstRequestTest {
+
+    private static final String MAIN_CLASS = "com.example.projectboard.ProjectBoardApplication";
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+
+    @DisplayName("실행 모드마다 애플리케이션을 띄우면, 첫 요청까지 걸린 시간 리포트를 남긴다.")
+    @Test
+    void givenStartupModes_whenLaunchingApplication_thenWritesTimeToFirstRequestReport() throws Exception {
+        // Given
+        String classpath = System.getProperty("startup.classpath");
+        assumeTrue(classpath != null, "startup.classpath 가 없습니다. ./gradlew startupTime 으로 실행하세요.");
+        Path cdsArchive = Path.of(System.getProperty("startup.cdsArchive", "build/cds/app.jsa"));
+        Path reportDirectory = Path.of(System.getProperty("startup.reportDir", "build/reports/startup"));
+        String version = System.getProperty("startup.version", "dev");
+        int runs = Integer.parseInt(System.getProperty("startup.runs", "3"));
+        Files.createDirectories(reportDirectory);
+
+        List<Mode> modes = new ArrayList<>(List.of(Mode.DEFAULT, Mode.LAZY));
+        if (Files.exists(cdsArchive)) {
+            modes.addAll(List.of(Mode.CDS, Mode.CDS_LAZY));
+        }
+
+        // When
+        Map<Mode, List<Long>> millis = new LinkedHashMap<>();
+        for (int run = 0; run < runs; run++) {
+            for (Mode mode : modes) { // 모드를 번갈아 실행해서 측정 시점에 따른 차이를 나눠 갖게 한다.
+                millis.computeIfAbsent(mode, key -> new ArrayList<>())
+                        .add(timeToFirstRequest(classpath, cdsArchive, mode, reportDirectory.resolve(mode.label + "-" + run + ".log")));
+            }
+        }
+
+        // Then
+        Path reportFile = writeReport(millis, reportDirectory, version);
+        System.out.println(toTable(millis, version));
+        System.out.println("리포트 저장: " + reportFile.toAbsolutePath());
+
+        assertThat(millis.values()).allSatisfy(values -> assertThat(values).hasSize(runs).allMatch(value -> value > 0));
+    }
+
+    private long timeToFirstRequest(String classpath, Path cdsArchive, Mode mode, Path log) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        if (mode.cds) {
+            command.add("-XX:SharedArchiveFile=" + cdsArchive.toAbsolutePath());
+        }
+        command.addAll(List.of(
+                "-cp", classpath, MAIN_CLASS,
+                "--spring.profiles.active=" + (mode.lazy ? "prod,fast-startup" : "prod"),
+                "--spring.datasource.url=jdbc:h2:mem:startup",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--server.port=" + port
+        ));
+
+        long startNanos = System.nanoTime();
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).redirectOutput(log.toFile()).start();
+        try {
+            HttpRequest firstRequest = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/articles")).GET().build();
+            while (System.nanoTime() - startNanos < STARTUP_TIMEOUT.toNanos()) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException(mode.label + " 모드 프로세스가 시작 중에 종료되었습니다. 로그: " + log.toAbsolutePath());
+                }
+                try {
+                    if (client.send(firstRequest, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+                    }
+                } catch (IOException notListeningYet) {
+                    Thread.sleep(20);
+                }
+            }
+            throw new IllegalStateException(mode.label + " 모드가 " + STARTUP_TIMEOUT + " 안에 응답하지 않았습니다. 로그: " + log.toAbsolutePath());
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    private static Path writeReport(Map<Mode, List<Long>> millis, Path reportDirectory, String version) throws IOException {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("version", version);
+        report.put("javaVersion", Runtime.version().toString());
+        report.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+        Map<String, Object> modes = new LinkedHashMap<>();
+        millis.forEach((mode, values) -> {
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("medianMillis", median(values));
+            result.put("millis", values);
+            modes.put(mode.label, result);
+        });
+        report.put("timeToFirstRequest", modes);
+
+        Path file = reportDirectory.resolve("startup-" + version + ".json");
+        new ObjectMapper()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(file.toFile(), report);
+        return file;
+    }
+
+    private static String toTable(Map<Mode, List<Long>> millis, String version) {
+        StringBuilder table = new StringBuilder()
+                .append(String.format("%n첫 요청까지 걸린 시간 - version: %s%n", version))
+                .append(String.format("%-12s %12s  %s%n", "mode", "median(ms)", "runs(ms)"));
+        millis.forEach((mode, values) -> table.append(String.format("%-12s %12d  %s%n", mode.label, median(values), values)));
+        return table.toString();
+    }
+
+    private static long median(List<Long> values) {
+        List<Long> sorted = values.stream().sorted().toList();
+        return sorted.get(sorted.size() / 2);
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+
+    private enum Mode {
+        DEFAULT("default", false, false),
+        LAZY("lazy", false, true),
+        CDS("cds", true, false),
+        CDS_LAZY("cds+lazy", true, true);
+
+        private final String label;
+        private final boolean cds;
+        private final boolean lazy;
+
+        Mode(String label, boolean cds, boolean lazy) {
+            this.label = label;
+            this.cds = cds;
+            this.lazy = lazy;
+        }
+    }
+
+}
@@ -2,14 +2,22 @@ package com.example.projectboard;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 
 @ConfigurationPropertiesScan
 @SpringBootApplication
 public class ProjectBoardApplication {
 
+    /**
+     * 시작 단계(빈 생성, 설정 읽기 등)를 기록할 최대 개수. 기록은 {@code /actuator/startup} 에서 볼 수 있다.
+     */
+    private static final int STARTUP_STEP_CAPACITY = 10_000;
+
     public static void main(String[] args) {
-        SpringApplication.run(ProjectBoardApplication.class, args);
+        SpringApplication application = new SpringApplication(ProjectBoardApplication.class);
+        application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEP_CAPACITY));
+        application.run(args);
     }
 
 }
@@ -0,0 +1,13 @@
+package com.example.projectboard.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 애플리케이션 캐시 (스프링 캐시 추상화).
+ * 하이버네이트 2차 캐시와 같은 {@code ehcache.xml} 을 쓰며, 캐시별 히트/미스 지표는 {@code cache.gets} 로 수집된다.
+ */
+@EnableCaching
+@Configuration
+public class CacheConfig {
+}
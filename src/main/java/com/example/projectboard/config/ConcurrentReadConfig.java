@@ -0,0 +1,70 @@
+package com.example.projectboard.config;
+
+import com.example.projectboard.web.ConcurrentReads;
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 화면 모델 조회를 동시에 실행하는 {@link ConcurrentReads} 설정.
+ * 실행기는 빈으로 등록하지 않는다. ({@code Executor} 빈이 있으면 스프링 부트 기본 {@code applicationTaskExecutor} 가 만들어지지 않는다.)
+ */
+@EnableConfigurationProperties(ConcurrentReadConfig.ConcurrentReadProperties.class)
+@Configuration
+public class ConcurrentReadConfig {
+
+    @Bean
+    public ConcurrentReads concurrentReads(ConcurrentReadProperties properties) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                properties.getPoolSize(),
+                properties.getPoolSize(),
+                60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                new CustomizableThreadFactory("concurrent-read-"),
+                new ThreadPoolExecutor.CallerRunsPolicy() // 대기열이 차면 요청 스레드에서 차례로 실행한다.
+        );
+        executor.allowCoreThreadTimeOut(true);
+
+        return new ConcurrentReads(executor, properties.getTimeout());
+    }
+
+
+    @Getter
+    @ConstructorBinding
+    @ConfigurationProperties("board.web.concurrent-reads")
+    public static class ConcurrentReadProperties {
+        /**
+         * 동시에 실행할 조회 수. 커넥션 풀 크기보다 작게 둔다.
+         */
+        private final int poolSize;
+        /**
+         * 실행을 기다릴 수 있는 조회 수
+         */
+        private final int queueCapacity;
+        /**
+         * 조회 하나를 기다리는 최대 시간
+         */
+        private final Duration timeout;
+
+        public ConcurrentReadProperties(
+                @DefaultValue("4") int poolSize,
+                @DefaultValue("100") int queueCapacity,
+                @DefaultValue("3s") Duration timeout
+        ) {
+            this.poolSize = poolSize;
+            this.queueCapacity = queueCapacity;
+            this.timeout = timeout;
+        }
+    }
+
+}
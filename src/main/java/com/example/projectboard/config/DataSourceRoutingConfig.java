@@ -0,0 +1,108 @@
+package com.example.projectboard.config;
+
+import com.example.projectboard.datasource.ReadWriteRoutingDataSource;
+import com.example.projectboard.datasource.RecentWriters;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.Getter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * 프라이머리 / 레플리카 데이터소스 라우팅. {@code board.datasource.replica.url} 이 있을 때만 켜진다.
+ * 프라이머리는 기존 {@code spring.datasource.*} 설정을, 레플리카 풀은 {@code board.datasource.replica.hikari.*} 설정을 쓴다.
+ */
+@ConditionalOnProperty(prefix = "board.datasource.replica", name = "url")
+@EnableConfigurationProperties(DataSourceRoutingConfig.ReplicaDataSourceProperties.class)
+@Configuration
+public class DataSourceRoutingConfig {
+
+    @Bean
+    public ReadWriteRoutingDataSource readWriteRoutingDataSource(
+            DataSourceProperties dataSourceProperties,
+            ReplicaDataSourceProperties replicaProperties,
+            Environment environment
+    ) {
+        Binder binder = Binder.get(environment);
+
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        binder.bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        primary.setPoolName("primary");
+
+        HikariDataSource replica = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(replicaProperties.getUrl())
+                .username(replicaProperties.getUsername() != null ? replicaProperties.getUsername() : dataSourceProperties.determineUsername())
+                .password(replicaProperties.getPassword() != null ? replicaProperties.getPassword() : dataSourceProperties.determinePassword())
+                .build();
+        binder.bind("board.datasource.replica.hikari", Bindable.ofInstance(replica));
+        replica.setPoolName("replica");
+        replica.setReadOnly(true);
+
+        return new ReadWriteRoutingDataSource(
+                primary,
+                replica,
+                new RecentWriters(replicaProperties.getReadYourWritesWindow(), Clock.systemUTC())
+        );
+    }
+
+    /**
+     * JPA, 스프링 데이터, 초기화 스크립트가 쓰는 데이터소스. 트랜잭션이 시작된 뒤 첫 문장을 실행할 때 대상을 고른다.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource readWriteRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(readWriteRoutingDataSource);
+    }
+
+
+    @Getter
+    @ConstructorBinding
+    @ConfigurationProperties("board.datasource.replica")
+    public static class ReplicaDataSourceProperties {
+        /**
+         * 레플리카 JDBC URL
+         */
+        private final String url;
+        /**
+         * 레플리카 계정. 없으면 프라이머리 계정을 쓴다.
+         */
+        private final String username;
+        /**
+         * 레플리카 비밀번호. 없으면 프라이머리 비밀번호를 쓴다.
+         */
+        private final String password;
+        /**
+         * 사용자가 쓰기를 커밋한 뒤 그 사용자의 읽기를 프라이머리로 보내는 시간. 0 이면 끈다.
+         */
+        private final Duration readYourWritesWindow;
+
+        public ReplicaDataSourceProperties(
+                String url,
+                String username,
+                String password,
+                @DefaultValue("5s") Duration readYourWritesWindow
+        ) {
+            this.url = url;
+            this.username = username;
+            this.password = password;
+            this.readYourWritesWindow = readYourWritesWindow;
+        }
+    }
+
+}
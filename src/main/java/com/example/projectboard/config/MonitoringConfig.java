@@ -0,0 +1,83 @@
+package com.example.projectboard.config;
+
+import com.example.projectboard.monitoring.JdbcStatementListener;
+import com.example.projectboard.monitoring.ServiceMetricsAspect;
+import com.example.projectboard.monitoring.SlowQueryLogger;
+import com.example.projectboard.monitoring.SlowQueryProperties;
+import com.example.projectboard.monitoring.SqlStatementCountAspect;
+import com.example.projectboard.monitoring.SqlStatementCountFilter;
+import com.example.projectboard.monitoring.SqlStatementProperties;
+import com.example.projectboard.monitoring.StatementListeningDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * 애플리케이션 지표 수집 설정.
+ * SQL 카운터 자체는 {@code hibernate.session_factory.statement_inspector} 로 등록된다.
+ */
+@Configuration
+public class MonitoringConfig {
+
+    @Bean
+    public FilterRegistrationBean<SqlStatementCountFilter> sqlStatementCountFilter(
+            MeterRegistry meterRegistry,
+            SqlStatementProperties sqlStatementProperties
+    ) {
+        FilterRegistrationBean<SqlStatementCountFilter> registration =
+                new FilterRegistrationBean<>(new SqlStatementCountFilter(meterRegistry, sqlStatementProperties));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1); // 시큐리티 필터의 사용자 조회 쿼리까지 포함한다.
+        return registration;
+    }
+
+    @Bean
+    public SqlStatementCountAspect sqlStatementCountAspect(
+            MeterRegistry meterRegistry,
+            SqlStatementProperties sqlStatementProperties
+    ) {
+        return new SqlStatementCountAspect(meterRegistry, sqlStatementProperties);
+    }
+
+    @Bean
+    public ServiceMetricsAspect serviceMetricsAspect(MeterRegistry meterRegistry) {
+        return new ServiceMetricsAspect(meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "board.monitoring.slow-query", name = "enabled", havingValue = "true")
+    public SlowQueryLogger slowQueryLogger(SlowQueryProperties slowQueryProperties) {
+        return new SlowQueryLogger(slowQueryProperties);
+    }
+
+    /**
+     * {@link JdbcStatementListener} 빈이 하나라도 있으면 데이터소스를 감싸서 실행된 JDBC 문장을 전달한다.
+     * 라우팅 데이터소스는 바깥 프록시 데이터소스가 감싸지므로 건너뛴다. (같은 문장을 두 번 알리지 않도록)
+     */
+    @Bean
+    public static BeanPostProcessor statementListeningDataSourcePostProcessor(
+            ObjectProvider<JdbcStatementListener> statementListeners
+    ) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource)
+                        || bean instanceof StatementListeningDataSource
+                        || bean instanceof AbstractRoutingDataSource) {
+                    return bean;
+                }
+                List<JdbcStatementListener> listeners = statementListeners.orderedStream().toList();
+                return listeners.isEmpty() ? bean : new StatementListeningDataSource(dataSource, listeners);
+            }
+        };
+    }
+
+}
@@ -0,0 +1,68 @@
+package com.example.projectboard.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 빌드할 때 OpenAPI 문서를 파일로 남긴다. ({@code ./gradlew generateOpenApiDocs}, {@code board.openapi.export-file} 이 있을 때만 켜진다.)
+ * 시작이 끝나면 런타임 스캔으로 만든 {@code /v3/api-docs} 를 받아 파일로 쓰고 종료한다.
+ * 운영에서는 스캔을 끄고({@code springdoc.api-docs.enabled=false}) 이 파일을 정적 리소스 {@code /openapi/openapi.json} 으로 응답한다.
+ */
+@Slf4j
+@ConditionalOnProperty(prefix = "board.openapi", name = "export-file")
+@Configuration
+public class OpenApiExportConfig {
+
+    @Bean
+    public ApplicationListener<ApplicationReadyEvent> openApiExport(
+            @Value("${board.openapi.export-file}") Path exportFile,
+            ObjectMapper objectMapper
+    ) {
+        return event -> {
+            ConfigurableApplicationContext context = event.getApplicationContext();
+            String port = context.getEnvironment().getProperty("local.server.port");
+            int exitCode = 0;
+            try {
+                HttpResponse<String> response = HttpClient.newHttpClient().send(
+                        HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/v3/api-docs")).GET().build(),
+                        HttpResponse.BodyHandlers.ofString()
+                );
+                if (response.statusCode() != 200) {
+                    throw new IllegalStateException("OpenAPI 문서를 받지 못했습니다. status: " + response.statusCode());
+                }
+                ObjectNode document = (ObjectNode) objectMapper.readTree(response.body());
+                document.remove("servers"); // 실행할 때마다 포트가 달라진다. 빼 두면 문서를 응답한 서버 기준으로 요청한다.
+
+                Files.createDirectories(exportFile.toAbsolutePath().getParent());
+                objectMapper.writerWithDefaultPrettyPrinter().writeValue(exportFile.toFile(), document);
+                log.info("OpenAPI 문서 저장: {}", exportFile.toAbsolutePath());
+            } catch (IOException | RuntimeException e) {
+                log.error("OpenAPI 문서를 만들지 못했습니다.", e);
+                exitCode = 1;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                exitCode = 1;
+            }
+            int code = exitCode;
+            System.exit(SpringApplication.exit(context, () -> code));
+        };
+    }
+
+}
@@ -2,7 +2,9 @@ package com.example.projectboard.config;
 
 import com.example.projectboard.dto.security.BoardPrincipal;
 import com.example.projectboard.dto.security.KakaoOAuth2Response;
+import com.example.projectboard.security.StatelessSessionConfigurer;
 import com.example.projectboard.service.UserAccountService;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
 import org.springframework.context.annotation.Bean;
@@ -10,6 +12,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configuration.WebSecurityCustomizer;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.factory.PasswordEncoderFactories;
@@ -29,17 +32,20 @@ public class SecurityConfig {
     @Bean
     public SecurityFilterChain securityFilterChain(
             HttpSecurity http,
-            OAuth2UserService<OAuth2UserRequest, OAuth2User> oAuth2UserService
+            OAuth2UserService<OAuth2UserRequest, OAuth2User> oAuth2UserService,
+            ObjectProvider<StatelessSessionConfigurer> statelessSessionConfigurer
     ) throws Exception {
-        return http
+        http
                 .authorizeHttpRequests(auth -> auth
-                        .requestMatchers(PathRequest.toStaticResources().atCommonLocations()).permitAll()
                         .mvcMatchers("/api/**").permitAll() // /api 요청에 대해 인증 요구 안함
                         .mvcMatchers(
                                 HttpMethod.GET,
                                 "/",
                                 "/articles",
-                                "/articles/search-hashtag"
+                                "/articles/search-hashtag",
+                                "/articles/stream",
+                                "/openapi/**", // 빌드할 때 만든 OpenAPI 문서 (운영)
+                                "/v3/api-docs/**", "/swagger-ui/**", "/swagger-ui.html" // 런타임 스캔 문서와 Swagger UI (dev)
                         ).permitAll() // GET이 아닌 포스트 (삭제, 추가, 수정) 에 대해서는 권한 체킹을 하겠다는 의도
                         .anyRequest().authenticated() // 나머지 anyRequest는 인증되어야만 함
                 )
@@ -50,16 +56,28 @@ public class SecurityConfig {
                                 .userService(oAuth2UserService)
                         )
                 )
-                .csrf(csrf -> csrf.ignoringAntMatchers("/api/**")) // /api 로 시작하는 모든 요청은 csrf 설정 보지 않겠다.
-                .build();
+                .csrf(csrf -> csrf.ignoringAntMatchers("/api/**")); // /api 로 시작하는 모든 요청은 csrf 설정 보지 않겠다.
+
+        // 세션 없는 인증 모드 (board.security.stateless.enabled=true) 일 때만 적용된다.
+        StatelessSessionConfigurer stateless = statelessSessionConfigurer.getIfAvailable();
+        if (stateless != null) {
+            stateless.configure(http);
+        }
+
+        return http.build();
+    }
+
+    // 정적 리소스는 시큐리티 필터 체인을 아예 거치지 않는다. (permitAll 이어도 모든 필터가 실행된다)
+    @Bean
+    public WebSecurityCustomizer webSecurityCustomizer() {
+        return web -> web.ignoring().requestMatchers(PathRequest.toStaticResources().atCommonLocations());
     }
 
     // 인증 정보, 사용자 정보를 가져오는 부분
     @Bean
     public UserDetailsService userDetailsService(UserAccountService userAccountService) {
         return username -> userAccountService
-                .searchUser(username)
-                .map(BoardPrincipal::from)
+                .searchPrincipal(username)
                 .orElseThrow(() -> new UsernameNotFoundException("유저를 찾을 수 없습니다 - username: " + username));
     }
 
@@ -81,8 +99,20 @@ public class SecurityConfig {
             UserAccountService userAccountService,
             PasswordEncoder passwordEncoder
     ) {
-        final DefaultOAuth2UserService delegate = new DefaultOAuth2UserService(); // 기본 구현체
+        return kakaoOAuth2UserService(new DefaultOAuth2UserService(), userAccountService, passwordEncoder); // 기본 구현체
+    }
 
+    /**
+     * {@link #oAuth2UserService} 의 본체. 카카오 사용자 정보 조회({@code delegate})를 바꿔 끼울 수 있도록 분리했다.
+     * 테스트와 벤치마크에서 카카오 API 호출 없이 같은 로그인 흐름을 태울 때 쓴다.
+     *
+     * @param delegate 카카오 인증 서버에서 사용자 정보를 읽어오는 서비스
+     */
+    public static OAuth2UserService<OAuth2UserRequest, OAuth2User> kakaoOAuth2UserService(
+            OAuth2UserService<OAuth2UserRequest, OAuth2User> delegate,
+            UserAccountService userAccountService,
+            PasswordEncoder passwordEncoder
+    ) {
         return userRequest -> {
             OAuth2User oAuth2User = delegate.loadUser(userRequest);
             // 기본 동작을 끝낸 뒤 우리 DB의 그 OAuth2 카카오 인증서버로부터 가져온 인증정보를 저장하고싶다.
@@ -96,23 +126,24 @@ public class SecurityConfig {
             String registrationId = userRequest.getClientRegistration().getRegistrationId();
             String providerId = String.valueOf(kakaoResponse.id());
             String username = registrationId + "_" + providerId;        // 고유값을 만들어냄
-            // 사실 패스워드는 필요 없어야 하는데 회원 테이블을 설계할 때 패스워드를 기본 필수값으로 지정했기 때문에 넣어주는것
-            String dummyPassword = passwordEncoder.encode("{bcrypt}" + UUID.randomUUID()); // bcrypt 는 DB에 인코딩해서 넣어준다.
 
             // DB에 유저가 있다면 그걸로 OK, DB에 유저가 없다면 저장을 하도록 하겠다.
-            return userAccountService.searchUser(username)
-                    .map(BoardPrincipal::from)
-                    .orElseGet(() ->
-                            BoardPrincipal.from(
-                                    userAccountService.saveUser(
-                                            username,
-                                            dummyPassword,
-                                            kakaoResponse.email(),
-                                            kakaoResponse.nickname(),
-                                            null
-                                    )
-                            )
-                    );
+            return userAccountService.searchPrincipal(username)
+                    .orElseGet(() -> {
+                        // 사실 패스워드는 필요 없어야 하는데 회원 테이블을 설계할 때 패스워드를 기본 필수값으로 지정했기 때문에 넣어주는것
+                        // bcrypt 인코딩은 요청마다 수십 ms 의 CPU 를 쓰므로, 가입할 때만 만든다.
+                        String dummyPassword = passwordEncoder.encode("{bcrypt}" + UUID.randomUUID()); // bcrypt 는 DB에 인코딩해서 넣어준다.
+
+                        return BoardPrincipal.from(
+                                userAccountService.saveUser(
+                                        username,
+                                        dummyPassword,
+                                        kakaoResponse.email(),
+                                        kakaoResponse.nickname(),
+                                        null
+                                )
+                        );
+                    });
         };
     }
 
@@ -0,0 +1,36 @@
+package com.example.projectboard.config;
+
+import org.flywaydb.core.Flyway;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 개발 / 테스트용 시드 데이터({@code db/seed}). 스키마 마이그레이션을 마친 뒤 별도 이력 테이블({@value #SEED_HISTORY_TABLE})로 적용한다.
+ * 시드와 스키마의 버전이 섞이지 않으므로, 스키마 마이그레이션은 시드와 상관없이 다음 번호로 이어 붙인다.
+ * {@code board.seed.enabled=false} ({@code prod} 프로필) 이면 스키마만 적용한다.
+ */
+@ConditionalOnProperty(prefix = "board.seed", name = "enabled", havingValue = "true", matchIfMissing = true)
+@Configuration
+public class SeedDataConfig {
+
+    public static final String SEED_HISTORY_TABLE = "flyway_seed_history";
+    public static final String SEED_LOCATION = "classpath:db/seed";
+
+    @Bean
+    public FlywayMigrationStrategy seedDataMigrationStrategy() {
+        return flyway -> {
+            flyway.migrate();
+            Flyway.configure()
+                    .configuration(flyway.getConfiguration())
+                    .table(SEED_HISTORY_TABLE)
+                    .locations(SEED_LOCATION)
+                    .baselineOnMigrate(true) // 스키마가 이미 있으므로 시드 이력은 0 에서 시작한다.
+                    .baselineVersion("0")
+                    .load()
+                    .migrate();
+        };
+    }
+
+}
@@ -0,0 +1,69 @@
+package com.example.projectboard.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Set;
+
+/**
+ * 빠른 시작 모드 설정.
+ * {@code fast-startup} 프로필은 모든 빈을 처음 쓸 때 만들고({@code spring.main.lazy-initialization}),
+ * 첫 요청에 바로 필요한 빈({@code board.startup.eager-beans})만 시작할 때 만든다.
+ */
+@Slf4j
+@Configuration
+public class StartupConfig {
+
+    /**
+     * 지연 초기화를 켜도 {@code board.startup.eager-beans} 에 있는 빈은 시작할 때 만든다.
+     * 빈 팩토리 후처리 단계에서 쓰이므로 static 으로 두고, 프로퍼티는 {@link Binder} 로 직접 읽는다.
+     */
+    @Bean
+    public static LazyInitializationExcludeFilter eagerBeansFilter(Environment environment) {
+        Set<String> eagerBeans = Binder.get(environment)
+                .bind("board.startup.eager-beans", Bindable.setOf(String.class))
+                .orElse(Set.of());
+        return (beanName, beanDefinition, beanType) -> eagerBeans.contains(beanName);
+    }
+
+    /**
+     * AppCDS 학습 실행({@code ./gradlew cdsArchive}). 시작이 끝나면 게시글 목록을 한 번 요청해서 요청 처리 경로의 클래스까지 읽은 뒤 종료한다.
+     * 읽은 클래스들은 JVM 이 종료될 때 {@code -XX:ArchiveClassesAtExit} 로 지정한 파일에 저장된다.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "board.startup", name = "training-run", havingValue = "true")
+    public ApplicationListener<ApplicationReadyEvent> trainingRunExit() {
+        return event -> {
+            ConfigurableApplicationContext context = event.getApplicationContext();
+            String port = context.getEnvironment().getProperty("local.server.port");
+            try {
+                HttpResponse<Void> response = HttpClient.newHttpClient().send(
+                        HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/articles")).GET().build(),
+                        HttpResponse.BodyHandlers.discarding()
+                );
+                log.info("학습 실행 - 첫 요청 응답: {}", response.statusCode());
+            } catch (IOException e) {
+                log.warn("학습 실행 - 첫 요청 실패", e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            System.exit(SpringApplication.exit(context));
+        };
+    }
+
+}
@@ -0,0 +1,96 @@
+package com.example.projectboard.config;
+
+import com.example.projectboard.security.CookieOAuth2AuthorizationRequestRepository;
+import com.example.projectboard.security.SignedCookieCodec;
+import com.example.projectboard.security.SignedCookieSecurityContextRepository;
+import com.example.projectboard.security.StatelessSessionConfigurer;
+import com.example.projectboard.service.UserAccountService;
+import lombok.Getter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * 세션 없는(stateless) 인증 모드. {@code board.security.stateless.enabled=true} 일 때만 켜지며,
+ * 켜지면 {@code SecurityConfig} 가 {@link StatelessSessionConfigurer} 를 적용한다.
+ */
+@ConditionalOnProperty(prefix = "board.security.stateless", name = "enabled", havingValue = "true")
+@Configuration
+public class StatelessSessionConfig {
+
+    @Bean
+    public SignedCookieCodec signedCookieCodec(StatelessSessionProperties properties) {
+        if (properties.getSecret() == null || properties.getSecret().isBlank()) {
+            throw new IllegalStateException("board.security.stateless.secret 을 설정해야 합니다. 모든 노드가 같은 값을 써야 합니다.");
+        }
+        return new SignedCookieCodec(properties.getSecret().getBytes(StandardCharsets.UTF_8), properties.isSecureCookie());
+    }
+
+    @Bean
+    public StatelessSessionConfigurer statelessSessionConfigurer(
+            SignedCookieCodec signedCookieCodec,
+            UserAccountService userAccountService,
+            StatelessSessionProperties properties
+    ) {
+        return new StatelessSessionConfigurer(
+                new SignedCookieSecurityContextRepository(
+                        signedCookieCodec,
+                        userAccountService,
+                        properties.getCookieName(),
+                        properties.getMaxAge(),
+                        Clock.systemUTC()
+                ),
+                new CookieOAuth2AuthorizationRequestRepository(signedCookieCodec),
+                properties.getCookieName()
+        );
+    }
+
+
+    @Getter
+    @ConstructorBinding
+    @ConfigurationProperties("board.security.stateless")
+    public static class StatelessSessionProperties {
+        /**
+         * 세션 없는 인증 모드 사용 여부
+         */
+        private final boolean enabled;
+        /**
+         * 인증 쿠키 서명 키 (32 바이트 이상)
+         */
+        private final String secret;
+        /**
+         * 인증 쿠키 이름
+         */
+        private final String cookieName;
+        /**
+         * 인증 쿠키 유효 시간
+         */
+        private final Duration maxAge;
+        /**
+         * HTTPS 에서만 쿠키를 보낼지 여부. 로컬 http 환경에서는 false 로 둔다.
+         */
+        private final boolean secureCookie;
+
+        public StatelessSessionProperties(
+                @DefaultValue("false") boolean enabled,
+                String secret,
+                @DefaultValue("BOARD_SESSION") String cookieName,
+                @DefaultValue("12h") Duration maxAge,
+                @DefaultValue("true") boolean secureCookie
+        ) {
+            this.enabled = enabled;
+            this.secret = secret;
+            this.cookieName = cookieName;
+            this.maxAge = maxAge;
+            this.secureCookie = secureCookie;
+        }
+    }
+
+}
@@ -0,0 +1,20 @@
+package com.example.projectboard.config;
+
+import com.example.projectboard.web.StaticResourceCacheInterceptor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 정적 리소스 캐시 헤더 설정. 버전 경로와 압축 파일 선택은 {@code spring.web.resources.chain} 설정이 맡는다.
+ */
+@Configuration
+public class StaticResourceConfig implements WebMvcConfigurer {
+
+    // 인터셉터는 정적 리소스 핸들러 매핑에도 적용된다.
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new StaticResourceCacheInterceptor());
+    }
+
+}
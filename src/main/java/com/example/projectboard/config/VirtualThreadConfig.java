@@ -0,0 +1,82 @@
+package com.example.projectboard.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 실험적인 가상 스레드 실행 모드. {@code board.threads.virtual.enabled=true} 일 때만 켜진다.
+ * 톰캣 요청 처리와 MVC 비동기 작업({@code applicationTaskExecutor})을 요청마다 새 가상 스레드에서 실행한다.
+ * {@code @EnableAsync} 는 켜지 않았으므로 {@code @Async} 는 대상이 아니다.
+ * 소스는 Java 17 로 컴파일하므로 JDK 21 API 는 리플렉션으로 호출하고, 실행은 JDK 21 이상에서 해야 한다.
+ * ({@code ./gradlew bootRun -PvirtualThreads})
+ */
+@Slf4j
+@ConditionalOnProperty(prefix = "board.threads.virtual", name = "enabled", havingValue = "true")
+@Configuration
+public class VirtualThreadConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService virtualThreadExecutor() {
+        return newVirtualThreadPerTaskExecutor();
+    }
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer(ExecutorService virtualThreadExecutor) {
+        return protocolHandler -> protocolHandler.setExecutor(virtualThreadExecutor);
+    }
+
+    @Bean(name = TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+    public AsyncTaskExecutor applicationTaskExecutor(ExecutorService virtualThreadExecutor) {
+        return new TaskExecutorAdapter(virtualThreadExecutor);
+    }
+
+    /**
+     * 톰캣 9 는 요청 처리 전체를 {@code SocketProcessorBase} 의 {@code synchronized} 블록 안에서 실행하고, JDBC 드라이버도
+     * {@code synchronized} 안에서 I/O 를 하므로, 요청을 처리하는 동안 가상 스레드가 캐리어 스레드에 고정(pinning)된다.
+     * 따라서 동시에 진행되는 요청 수는 캐리어 수를 넘지 못하고, 커넥션 풀이 캐리어 수보다 크면 남는 커넥션은 쓰이지 않는다.
+     * 이 경우 시작할 때 경고 로그만 남기고 막지는 않는다. 고정 자체를 막는 장치가 아니므로 이 모드는 실험용으로만 켠다.
+     * 실제 고정 지점은 {@code -Djdk.tracePinnedThreads=short} 로 확인한다.
+     */
+    @Bean
+    public SmartInitializingSingleton virtualThreadPinningWarning(Environment environment) {
+        return () -> {
+            int poolSize = environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10);
+            int carriers = carrierParallelism();
+            if (poolExceedsCarriers(poolSize, carriers)) {
+                log.warn("커넥션 풀 크기({})가 가상 스레드 캐리어 수({})보다 큽니다. 요청 처리 중 고정된 가상 스레드가 캐리어를 모두 차지하므로 남는 커넥션은 쓰이지 않습니다. "
+                        + "spring.datasource.hikari.maximum-pool-size 를 줄이거나 -Djdk.virtualThreadScheduler.parallelism 을 늘리세요.", poolSize, carriers);
+            }
+            log.info("가상 스레드 실행 모드 - 커넥션 풀: {}, 캐리어: {}", poolSize, carriers);
+        };
+    }
+
+    static boolean poolExceedsCarriers(int poolSize, int carriers) {
+        return poolSize > carriers;
+    }
+
+    static int carrierParallelism() {
+        return Integer.getInteger("jdk.virtualThreadScheduler.parallelism", Runtime.getRuntime().availableProcessors());
+    }
+
+    static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("가상 스레드 모드는 JDK 21 이상에서 실행해야 합니다. 현재: " + Runtime.version(), e);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("가상 스레드 실행기를 만들 수 없습니다.", e);
+        }
+    }
+
+}
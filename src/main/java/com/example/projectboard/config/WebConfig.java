@@ -0,0 +1,52 @@
+package com.example.projectboard.config;
+
+import com.example.projectboard.service.ArticleService;
+import com.example.projectboard.web.AnonymousPageCacheFilter;
+import com.example.projectboard.web.ArticleConditionalGetFilter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Objects;
+
+@Configuration
+public class WebConfig {
+
+    // 둘 다 시큐리티 필터 다음에 실행되어야 한다. 순서가 같으면 실행 순서가 빈 등록 순서에 따라 달라지므로 따로 정한다.
+    static final int ANONYMOUS_PAGE_CACHE_FILTER_ORDER = SecurityProperties.DEFAULT_FILTER_ORDER + 1;
+    static final int ARTICLE_CONDITIONAL_GET_FILTER_ORDER = SecurityProperties.DEFAULT_FILTER_ORDER + 2;
+
+    @Bean
+    public FilterRegistrationBean<ArticleConditionalGetFilter> articleConditionalGetFilter(ArticleService articleService) {
+        FilterRegistrationBean<ArticleConditionalGetFilter> registration =
+                new FilterRegistrationBean<>(new ArticleConditionalGetFilter(articleService));
+        registration.addUrlPatterns("/articles/*", "/api/articles/*", "/api/v2/articles/*");
+        registration.setOrder(ARTICLE_CONDITIONAL_GET_FILTER_ORDER); // 인증 정보와 CSRF 토큰이 준비된 뒤
+        return registration;
+    }
+
+    /**
+     * 로그인하지 않은 사용자의 게시판 목록 HTML 캐시. {@code board.web.page-cache.enabled=false} 로 끌 수 있다.
+     * 회원 정보 변경 이벤트를 받아야 하므로 필터 자체도 빈으로 둔다.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "board.web.page-cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public AnonymousPageCacheFilter anonymousPageCacheFilter(CacheManager cacheManager) {
+        return new AnonymousPageCacheFilter(Objects.requireNonNull(
+                cacheManager.getCache(AnonymousPageCacheFilter.CACHE_NAME),
+                "ehcache.xml 에 " + AnonymousPageCacheFilter.CACHE_NAME + " 캐시가 없습니다."
+        ));
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "board.web.page-cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public FilterRegistrationBean<AnonymousPageCacheFilter> anonymousPageCacheFilterRegistration(AnonymousPageCacheFilter anonymousPageCacheFilter) {
+        FilterRegistrationBean<AnonymousPageCacheFilter> registration = new FilterRegistrationBean<>(anonymousPageCacheFilter);
+        registration.setOrder(ANONYMOUS_PAGE_CACHE_FILTER_ORDER); // 로그인 여부를 알 수 있도록 시큐리티 필터 다음
+        return registration;
+    }
+
+}
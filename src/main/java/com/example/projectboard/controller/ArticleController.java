@@ -8,6 +8,8 @@ import com.example.projectboard.dto.response.ArticleWithCommentsResponse;
 import com.example.projectboard.dto.security.BoardPrincipal;
 import com.example.projectboard.service.ArticleService;
 import com.example.projectboard.service.PaginationService;
+import com.example.projectboard.web.ConcurrentReads;
+import com.example.projectboard.web.KeysetPageIterator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -18,10 +20,14 @@ import org.springframework.stereotype.Controller;
 import org.springframework.ui.ModelMap;
 import org.springframework.web.bind.annotation.*;
 
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 /**
  * /articles
+ * /articles/stream
  * /articles/{article-id}
  * /articles/search
  * /articles/search-hashtag
@@ -31,8 +37,12 @@ import java.util.List;
 @Controller
 public class ArticleController {
 
+    private static final int STREAM_BATCH_SIZE = 100;
+    private static final int MAX_STREAM_SIZE = 5000;
+
     private final ArticleService articleService;
     private final PaginationService paginationService;
+    private final ConcurrentReads concurrentReads;
 
     @GetMapping
     public String articles(
@@ -41,7 +51,7 @@ public class ArticleController {
             @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
             ModelMap map
     ) {
-        Page<ArticleResponse> articles = articleService.searchArticles(searchType, searchValue, pageable).map(ArticleResponse::from);
+        Page<ArticleResponse> articles = articleService.searchArticles(searchType, searchValue, pageable);
         List<Integer> barNumbers = paginationService.getPaginationBarNumbers(pageable.getPageNumber(), articles.getTotalPages());
 
         map.addAttribute("articles", articles);
@@ -52,12 +62,44 @@ public class ArticleController {
         return "articles/index";
     }
 
+    /**
+     * 많은 글을 한 화면에 보여줄 때 쓰는 스트리밍 목록. 헤더와 검색창을 먼저 내보내고,
+     * 게시글은 {@value #STREAM_BATCH_SIZE} 건씩 조회하면서 그린 행을 바로 내보낸다.
+     */
+    @GetMapping("/stream")
+    public String streamArticles(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "500") int size,
+            HttpServletResponse response,
+            ModelMap map
+    ) {
+        int limit = Math.max(1, Math.min(size, MAX_STREAM_SIZE));
+        KeysetPageIterator<ArticleResponse> articles = new KeysetPageIterator<>(
+                articleService::getArticlesBefore,
+                ArticleResponse::id,
+                cursor,
+                limit,
+                STREAM_BATCH_SIZE,
+                () -> flush(response)
+        );
+
+        map.addAttribute("articles", articles);
+        map.addAttribute("searchTypes", SearchType.values());
+        map.addAttribute("searchTypeHashtag", SearchType.HASHTAG);
+        map.addAttribute("size", limit);
+
+        return "articles/stream";
+    }
+
     @GetMapping("/{articleId}")
     public String article(@PathVariable Long articleId, ModelMap map) {
-        ArticleWithCommentsResponse article = ArticleWithCommentsResponse.from(articleService.getArticleWithComments(articleId));
+        ConcurrentReads.Read<ArticleWithCommentsResponse> articleWithComments = concurrentReads.submit(() -> articleService.getArticleWithComments(articleId));
+        ConcurrentReads.Read<Long> lastArticleId = concurrentReads.submit(articleService::getLastArticleId);
+
+        ArticleWithCommentsResponse article = articleWithComments.get();
         map.addAttribute("article", article);
         map.addAttribute("articleComments", article.articleCommentsResponse());
-        map.addAttribute("totalCount", articleService.getArticleCount());
+        map.addAttribute("lastArticleId", lastArticleId.get());
         map.addAttribute("searchTypeHashtag", SearchType.HASHTAG);
 
         return "articles/detail";
@@ -69,12 +111,13 @@ public class ArticleController {
             @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
             ModelMap map
     ) {
-        Page<ArticleResponse> articles = articleService.searchArticlesViaHashtag(searchValue, pageable).map(ArticleResponse::from);
+        ConcurrentReads.Read<List<String>> hashtags = concurrentReads.submit(articleService::getHashtags);
+
+        Page<ArticleResponse> articles = articleService.searchArticlesViaHashtag(searchValue, pageable);
         List<Integer> barNumbers = paginationService.getPaginationBarNumbers(pageable.getPageNumber(), articles.getTotalPages());
-        List<String> hashtags = articleService.getHashtags();
 
         map.addAttribute("articles", articles);
-        map.addAttribute("hashtags", hashtags);
+        map.addAttribute("hashtags", hashtags.get());
         map.addAttribute("paginationBarNumbers", barNumbers);
         map.addAttribute("searchType", SearchType.HASHTAG);
 
@@ -100,7 +143,7 @@ public class ArticleController {
 
     @GetMapping("/{articleId}/form")
     public String updateArticleForm(@PathVariable Long articleId, ModelMap map) {
-        ArticleResponse article = ArticleResponse.from(articleService.getArticle(articleId));
+        ArticleResponse article = articleService.getArticle(articleId);
 
         map.addAttribute("article", article);
         map.addAttribute("formStatus", FormStatus.UPDATE);
@@ -129,4 +172,12 @@ public class ArticleController {
         return "redirect:/articles";
     }
 
+    private static void flush(HttpServletResponse response) {
+        try {
+            response.flushBuffer();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // 클라이언트가 연결을 끊었으면 렌더링도 멈춘다.
+        }
+    }
+
 }
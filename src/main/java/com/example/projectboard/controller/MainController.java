@@ -1,6 +1,7 @@
 package com.example.projectboard.controller;
 
 import com.example.projectboard.dto.response.ArticleCommentResponse;
+import com.example.projectboard.dto.response.AuthorSummary;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ResponseBody;
@@ -34,9 +35,7 @@ public class MainController {
                 id,
                 "content",
                 LocalDateTime.now(),
-                "e@mail.com",
-                "Lbk",
-                "lbk"
+                AuthorSummary.of("lbk", "Lbk", "e@mail.com")
         );
     }
 
@@ -0,0 +1,85 @@
+package com.example.projectboard.controller;
+
+import com.example.projectboard.dto.api.CursorPage;
+import com.example.projectboard.service.ReadApiService;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * 읽기 전용 API. Spring Data REST(/api) 와 달리 엔티티를 거치지 않고 DTO 를 바로 조회해서,
+ * HAL 링크 없이 JSON 을 응답 스트림에 바로 쓴다.
+ * <p>
+ * /api/v2/articles
+ * /api/v2/articles/{article-id}/comments
+ * /api/v2/hashtags
+ */
+@RequiredArgsConstructor
+@RequestMapping("/api/v2")
+@RestController
+public class ReadApiController {
+
+    private final ReadApiService readApiService;
+    private final ObjectMapper objectMapper;
+
+    @GetMapping("/articles")
+    public void articles(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size,
+            HttpServletResponse response
+    ) throws IOException {
+        write(response, readApiService.getArticles(cursor, size));
+    }
+
+    @GetMapping("/articles/{articleId}/comments")
+    public void articleComments(
+            @PathVariable Long articleId,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size,
+            HttpServletResponse response
+    ) throws IOException {
+        write(response, readApiService.getArticleComments(articleId, cursor, size));
+    }
+
+    @GetMapping("/hashtags")
+    public void hashtags(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size,
+            HttpServletResponse response
+    ) throws IOException {
+        write(response, readApiService.getHashtags(cursor, size));
+    }
+
+    /**
+     * 목록 전체를 문자열이나 트리로 만들지 않고, 한 건씩 응답 스트림에 직렬화한다.
+     */
+    private void write(HttpServletResponse response, CursorPage<?> page) throws IOException {
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+
+        ObjectWriter rowWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE); // 건마다 flush 하지 않는다
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(response.getOutputStream(), JsonEncoding.UTF8)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("content");
+            for (Object row : page.content()) {
+                rowWriter.writeValue(generator, row);
+            }
+            generator.writeEndArray();
+            if (page.nextCursor() == null) {
+                generator.writeNullField("nextCursor");
+            } else {
+                generator.writeNumberField("nextCursor", page.nextCursor());
+            }
+            generator.writeEndObject();
+        }
+    }
+
+}
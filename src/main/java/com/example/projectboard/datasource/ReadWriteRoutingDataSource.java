@@ -0,0 +1,113 @@
+package com.example.projectboard.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.Closeable;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 읽기 전용 트랜잭션은 레플리카로, 그 외에는 프라이머리로 커넥션을 보내는 데이터소스.
+ * 트랜잭션의 읽기 전용 여부는 트랜잭션이 시작된 뒤에야 알 수 있으므로, 반드시 {@link LazyConnectionDataSourceProxy} 로 감싸서
+ * 첫 문장을 실행할 때 커넥션을 고르게 한다.
+ *
+ * <p>
+ * 쓰기 트랜잭션을 커밋한 사용자는 {@link RecentWriters} 가 기억하는 동안 읽기 전용 트랜잭션도 프라이머리에서 실행한다.
+ * 대상별 라우팅 수는 {@code board.datasource.routing} 지표로, 풀 상태는 {@code hikaricp.*{pool=primary|replica}} 지표로 본다.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource implements MeterBinder, Closeable {
+
+    public enum Target { PRIMARY, REPLICA }
+
+    private final HikariDataSource primary;
+    private final HikariDataSource replica;
+    private final RecentWriters recentWriters;
+    private volatile Map<Target, Counter> routings = Map.of();
+
+    public ReadWriteRoutingDataSource(HikariDataSource primary, HikariDataSource replica, RecentWriters recentWriters) {
+        this.primary = primary;
+        this.replica = replica;
+        this.recentWriters = recentWriters;
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+    }
+
+    /**
+     * 지표 레지스트리가 만들어질 때 호출된다. 레지스트리가 데이터소스 지표를 위해 데이터소스 빈을 먼저 찾으므로 생성자에서 받지 않는다.
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (HikariDataSource pool : List.of(primary, replica)) {
+            if (pool.getMetricRegistry() == null && pool.getMetricsTrackerFactory() == null) {
+                pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+            }
+        }
+        Map<Target, Counter> counters = new EnumMap<>(Target.class);
+        for (Target target : Target.values()) {
+            counters.put(target, Counter.builder("board.datasource.routing")
+                    .description("커넥션을 보낸 데이터소스")
+                    .tag("target", target.name().toLowerCase(Locale.ROOT))
+                    .register(registry));
+        }
+        routings = counters;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Target target = route();
+        Counter counter = routings.get(target);
+        if (counter != null) {
+            counter.increment();
+        }
+        return target;
+    }
+
+    @Override
+    public void close() {
+        replica.close();
+        primary.close();
+    }
+
+    private Target route() {
+        String username = currentUsername();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            rememberWriterAfterCommit(username);
+            return Target.PRIMARY;
+        }
+        return recentWriters.contains(username) ? Target.PRIMARY : Target.REPLICA;
+    }
+
+    private void rememberWriterAfterCommit(String username) {
+        if (username == null || !recentWriters.isEnabled() || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recentWriters.record(username);
+            }
+        });
+    }
+
+    private static String currentUsername() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken || !authentication.isAuthenticated()) {
+            return null;
+        }
+        return authentication.getName();
+    }
+
+}
@@ -0,0 +1,61 @@
+package com.example.projectboard.datasource;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 최근에 쓰기 트랜잭션을 커밋한 사용자를 정해진 시간 동안 기억한다.
+ * 이 시간 동안 해당 사용자의 읽기는 레플리카 지연과 상관없이 방금 쓴 내용을 볼 수 있도록 프라이머리로 보낸다.
+ * 노드마다 따로 기억하므로, 여러 노드로 운영하면 같은 노드로 요청이 가도록(sticky session) 해야 효과가 있다.
+ */
+public class RecentWriters {
+
+    private static final int CLEANUP_THRESHOLD = 10_000;
+
+    private final Duration window;
+    private final Clock clock;
+    private final Map<String, Instant> writtenAt = new ConcurrentHashMap<>();
+
+    public RecentWriters(Duration window, Clock clock) {
+        this.window = window;
+        this.clock = clock;
+    }
+
+    public boolean isEnabled() {
+        return !window.isZero() && !window.isNegative();
+    }
+
+    public void record(String username) {
+        if (!isEnabled() || username == null) {
+            return;
+        }
+        Instant now = clock.instant();
+        writtenAt.put(username, now);
+        if (writtenAt.size() > CLEANUP_THRESHOLD) {
+            writtenAt.values().removeIf(time -> expired(time, now));
+        }
+    }
+
+    public boolean contains(String username) {
+        if (username == null) {
+            return false;
+        }
+        Instant time = writtenAt.get(username);
+        if (time == null) {
+            return false;
+        }
+        if (expired(time, clock.instant())) {
+            writtenAt.remove(username, time);
+            return false;
+        }
+        return true;
+    }
+
+    private boolean expired(Instant time, Instant now) {
+        return !time.plus(window).isAfter(now);
+    }
+
+}
@@ -1,5 +1,6 @@
 package com.example.projectboard.domain;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
@@ -14,7 +15,9 @@ import java.util.Set;
 @Table(indexes = {
         @Index(columnList = "title"),
         @Index(columnList = "createdAt"),
-        @Index(columnList = "createdBy")
+        @Index(columnList = "createdBy"),
+        @Index(columnList = "normalizedTitle"),
+        @Index(columnList = "normalizedCreatedBy")
 })
 @Entity
 public class Article extends AuditingFields{
@@ -36,6 +39,18 @@ public class Article extends AuditingFields{
     @Column(nullable = false, length = 10000)
     private String content; // 본문
 
+    // 대소문자 구분 없는 검색용 섀도 컬럼. 저장할 때 채운다. (SearchNormalizer)
+    @Getter(AccessLevel.NONE) @ToString.Exclude
+    private String normalizedTitle;
+
+    @Getter(AccessLevel.NONE) @ToString.Exclude
+    @Column(length = 10000)
+    private String normalizedContent;
+
+    @Getter(AccessLevel.NONE) @ToString.Exclude
+    @Column(length = 100)
+    private String normalizedCreatedBy;
+
 
     @ToString.Exclude
     @JoinTable(             // 연관관계의 주인:hashtags 에서 주는 설정 값 설정하기
@@ -77,6 +92,15 @@ public class Article extends AuditingFields{
         this.getHashtags().clear();
     }
 
+    // 감사(auditing) 리스너가 createdBy 를 채운 뒤에 호출된다.
+    @PrePersist
+    @PreUpdate
+    void normalizeSearchColumns() {
+        this.normalizedTitle = SearchNormalizer.normalize(title);
+        this.normalizedContent = SearchNormalizer.normalize(content);
+        this.normalizedCreatedBy = SearchNormalizer.normalize(createdBy);
+    }
+
     /**
      *  Entity 에서는 롬복이 아닌 독특한 방법으로
      *  equals ANd hashCode 를 만들어야한다.
@@ -1,5 +1,6 @@
 package com.example.projectboard.domain;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
@@ -11,9 +12,10 @@ import java.util.Set;
 @Getter
 @ToString(callSuper = true)
 @Table(indexes = {
-        @Index(columnList = "content"),
+        @Index(name = "idx_article_comment_article_id_created_at", columnList = "article_id, createdAt"),
         @Index(columnList = "createdAt"),
-        @Index(columnList = "createdBy")
+        @Index(columnList = "createdBy"),
+        @Index(columnList = "normalizedCreatedBy")
 })
 @Entity
 public class ArticleComment extends AuditingFields{
@@ -43,6 +45,15 @@ public class ArticleComment extends AuditingFields{
     @Column(nullable = false, length = 500)
     private String content; // 본문
 
+    // 대소문자 구분 없는 검색용 섀도 컬럼. 저장할 때 채운다. (SearchNormalizer)
+    @Getter(AccessLevel.NONE) @ToString.Exclude
+    @Column(length = 500)
+    private String normalizedContent;
+
+    @Getter(AccessLevel.NONE) @ToString.Exclude
+    @Column(length = 100)
+    private String normalizedCreatedBy;
+
     protected ArticleComment() {
     }
 
@@ -62,6 +73,14 @@ public class ArticleComment extends AuditingFields{
         this.getChildComments().add(child);
     }
 
+    // 감사(auditing) 리스너가 createdBy 를 채운 뒤에 호출된다.
+    @PrePersist
+    @PreUpdate
+    void normalizeSearchColumns() {
+        this.normalizedContent = SearchNormalizer.normalize(content);
+        this.normalizedCreatedBy = SearchNormalizer.normalize(createdBy);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
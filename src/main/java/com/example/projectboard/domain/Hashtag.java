@@ -3,6 +3,10 @@ package com.example.projectboard.domain;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 import javax.persistence.*;
 import java.util.LinkedHashSet;
@@ -16,6 +20,8 @@ import java.util.Set;
         @Index(columnList = "createdAt"),
         @Index(columnList = "createdBy")
 })
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@NaturalIdCache
 @Entity
 public class Hashtag extends AuditingFields {
 
@@ -28,6 +34,7 @@ public class Hashtag extends AuditingFields {
     private Set<Article> articles = new LinkedHashSet<>();
 
     @Setter
+    @NaturalId(mutable = true)
     @Column(nullable = false)
     private String hashtagName; // 해시태그 이름
 
@@ -0,0 +1,21 @@
+package com.example.projectboard.domain;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+/**
+ * 대소문자 구분 없는 검색을 위해 섀도 컬럼(normalized*)과 검색어를 같은 형태로 맞춘다.
+ * 유니코드 NFC 로 합친 뒤 소문자로 바꾼다. 검색 시 {@code lower(컬럼)} 을 쓰지 않아도 되므로 컬럼 인덱스를 탈 수 있다.
+ */
+public final class SearchNormalizer {
+
+    private SearchNormalizer() {}
+
+    public static String normalize(String value) {
+        if (value == null) {
+            return null;
+        }
+        return Normalizer.normalize(value, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+    }
+
+}
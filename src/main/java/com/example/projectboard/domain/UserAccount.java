@@ -1,8 +1,11 @@
 package com.example.projectboard.domain;
 
+import com.example.projectboard.domain.listener.UserAccountChangeListener;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import javax.persistence.*;
 import java.util.Objects;
@@ -14,6 +17,8 @@ import java.util.Objects;
         @Index(columnList = "createdAt"),
         @Index(columnList = "createdBy")
 })
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE) // 게시글 / 댓글마다 EAGER 로 조회되므로 2차 캐시에 둔다.
+@EntityListeners(UserAccountChangeListener.class) // 수정 / 삭제되면 이벤트를 발행해 작성자 정보 캐시를 지운다.
 @Entity
 public class UserAccount extends AuditingFields {
     @Id
@@ -0,0 +1,14 @@
+package com.example.projectboard.domain.event;
+
+/**
+ * 회원 정보가 수정 / 삭제되었음을 알리는 이벤트. 회원 정보를 캐시하는 쪽에서 받아 지운다.
+ *
+ * @param userId 바뀐 회원의 아이디
+ */
+public record UserAccountChangedEvent(String userId) {
+
+    public static UserAccountChangedEvent of(String userId) {
+        return new UserAccountChangedEvent(userId);
+    }
+
+}
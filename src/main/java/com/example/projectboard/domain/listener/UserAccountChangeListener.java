@@ -0,0 +1,28 @@
+package com.example.projectboard.domain.listener;
+
+import com.example.projectboard.domain.UserAccount;
+import com.example.projectboard.domain.event.UserAccountChangedEvent;
+import org.springframework.context.ApplicationEventPublisher;
+
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+
+/**
+ * {@link UserAccount} 엔티티 리스너. 회원이 수정 / 삭제되면 (서비스, Data REST 어느 경로든) {@link UserAccountChangedEvent} 를 발행한다.
+ * 하이버네이트가 스프링 빈 팩토리로 만든다. 이벤트는 같은 스레드, 같은 트랜잭션 안에서 전달된다.
+ */
+public class UserAccountChangeListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public UserAccountChangeListener(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostUpdate
+    @PostRemove
+    void publish(UserAccount userAccount) {
+        eventPublisher.publishEvent(UserAccountChangedEvent.of(userAccount.getUserId()));
+    }
+
+}
@@ -1,7 +1,6 @@
 package com.example.projectboard.domain.projection;
 
 import com.example.projectboard.domain.ArticleComment;
-import com.example.projectboard.domain.UserAccount;
 import org.springframework.data.rest.core.config.Projection;
 
 import java.time.LocalDateTime;
@@ -9,7 +8,7 @@ import java.time.LocalDateTime;
 @Projection(name = "withUserAccount", types = ArticleComment.class)
 public interface ArticleCommentProjection {
     Long getId();
-    UserAccount getUserAccount();
+    AuthorProjection getUserAccount();
     Long getParentCommentId();
     String getContent();
     LocalDateTime getCreatedAt();
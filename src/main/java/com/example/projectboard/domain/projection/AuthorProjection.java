@@ -0,0 +1,10 @@
+package com.example.projectboard.domain.projection;
+
+/**
+ * 게시글/댓글 excerpt 에 포함되는 작성자 정보.
+ * 회원 엔티티를 그대로 내보내면 비밀번호까지 직렬화되므로 아이디와 닉네임만 노출한다.
+ */
+public interface AuthorProjection {
+    String getUserId();
+    String getNickname();
+}
@@ -0,0 +1,63 @@
+package com.example.projectboard.dto;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * 게시글과 댓글 스레드의 변경 여부만 판단하기 위한 버전 정보. 본문은 담지 않는다.
+ * 댓글 수를 함께 보므로, 가장 최근 댓글이 아닌 댓글이 삭제되어도 버전이 바뀐다.
+ * 응답에 작성자 / 댓글 작성자의 닉네임이 들어가므로, 회원 정보 수정 시각도 함께 본다.
+ */
+public record ArticleVersion(
+        Long articleId,
+        LocalDateTime articleModifiedAt,
+        LocalDateTime lastCommentModifiedAt,
+        Long commentCount,
+        LocalDateTime authorModifiedAt,
+        LocalDateTime lastCommenterModifiedAt,
+        Long lastArticleId
+) {
+
+    public static ArticleVersion of(
+            Long articleId,
+            LocalDateTime articleModifiedAt,
+            LocalDateTime lastCommentModifiedAt,
+            Long commentCount,
+            LocalDateTime authorModifiedAt,
+            LocalDateTime lastCommenterModifiedAt,
+            Long lastArticleId
+    ) {
+        return new ArticleVersion(articleId, articleModifiedAt, lastCommentModifiedAt, commentCount, authorModifiedAt, lastCommenterModifiedAt, lastArticleId);
+    }
+
+    /**
+     * 상세 화면의 다음 글 링크 활성화 여부. 전체 글 수 대신 가장 큰 게시글 ID 와 비교한다.
+     */
+    public boolean hasNextArticle() {
+        return lastArticleId != null && articleId < lastArticleId;
+    }
+
+    /**
+     * 게시글, 댓글, 작성자, 댓글 작성자 중 가장 늦은 수정 시각 (epoch millis)
+     */
+    public long lastModified() {
+        LocalDateTime lastModified = Stream.of(articleModifiedAt, lastCommentModifiedAt, authorModifiedAt, lastCommenterModifiedAt)
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder())
+                .orElseThrow();
+        return lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    /**
+     * ETag 재료. 같은 초 안의 수정도 구분되도록 나노초까지 담는다.
+     * 다음 글 링크는 상세 화면에만 있으므로 여기에 넣지 않는다.
+     */
+    public String tag() {
+        return articleId + ":" + articleModifiedAt + ":" + lastCommentModifiedAt + ":" + commentCount
+                + ":" + authorModifiedAt + ":" + lastCommenterModifiedAt;
+    }
+
+}
@@ -0,0 +1,17 @@
+package com.example.projectboard.dto.api;
+
+import java.time.LocalDateTime;
+
+/**
+ * 읽기 API 용 댓글 한 줄. 엔티티를 거치지 않고 쿼리 결과를 바로 담는다.
+ */
+public record ArticleCommentSummary(
+        Long id,
+        Long articleId,
+        Long parentCommentId,
+        String content,
+        String userId,
+        String nickname,
+        LocalDateTime createdAt,
+        LocalDateTime modifiedAt
+) {}
@@ -0,0 +1,16 @@
+package com.example.projectboard.dto.api;
+
+import java.time.LocalDateTime;
+
+/**
+ * 읽기 API 용 게시글 한 줄. 엔티티를 거치지 않고 쿼리 결과를 바로 담는다.
+ */
+public record ArticleSummary(
+        Long id,
+        String title,
+        String content,
+        String userId,
+        String nickname,
+        LocalDateTime createdAt,
+        LocalDateTime modifiedAt
+) {}
@@ -0,0 +1,26 @@
+package com.example.projectboard.dto.api;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반 페이지. 다음 페이지는 {@code nextCursor} 를 그대로 넘겨서 요청하며, 마지막 페이지면 {@code null} 이다.
+ * offset 페이징과 달리 뒤 페이지로 갈수록 느려지지 않고, 전체 건수 쿼리도 하지 않는다.
+ */
+public record CursorPage<T>(
+        List<T> content,
+        Long nextCursor
+) {
+
+    /**
+     * @param rows {@code size + 1} 건까지 조회한 결과. 한 건이 더 있으면 다음 페이지가 있다는 뜻이다.
+     */
+    public static <T> CursorPage<T> of(List<T> rows, int size, Function<T, Long> cursorExtractor) {
+        if (rows.size() <= size) {
+            return new CursorPage<>(rows, null);
+        }
+        List<T> content = rows.subList(0, size);
+        return new CursorPage<>(content, cursorExtractor.apply(content.get(size - 1)));
+    }
+
+}
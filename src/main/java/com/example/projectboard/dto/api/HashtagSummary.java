@@ -0,0 +1,9 @@
+package com.example.projectboard.dto.api;
+
+/**
+ * 읽기 API 용 해시태그 한 줄.
+ */
+public record HashtagSummary(
+        Long id,
+        String hashtagName
+) {}
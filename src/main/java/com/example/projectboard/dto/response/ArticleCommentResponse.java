@@ -1,11 +1,15 @@
 package com.example.projectboard.dto.response;
 
+import com.example.projectboard.domain.ArticleComment;
+import com.example.projectboard.domain.UserAccount;
 import com.example.projectboard.dto.ArticleCommentDto;
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
 
 import java.time.LocalDateTime;
 import java.util.Comparator;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.function.Function;
 
 /**
  * 댓글 응답 표준 포맷
@@ -14,41 +18,57 @@ public record ArticleCommentResponse(
         Long id,
         String content,
         LocalDateTime createdAt,
-        String email,
-        String nickname,
-        String userId,
+        @JsonUnwrapped AuthorSummary author,
         Long parentCommentId,
         Set<ArticleCommentResponse> childComments
 ) {
 
-    public static ArticleCommentResponse of(Long id, String content, LocalDateTime createdAt, String email, String nickname, String userId) {
-        return ArticleCommentResponse.of(id, content, createdAt, email, nickname, userId, null);
+    public static ArticleCommentResponse of(Long id, String content, LocalDateTime createdAt, AuthorSummary author) {
+        return ArticleCommentResponse.of(id, content, createdAt, author, null);
     }
 
-    public static ArticleCommentResponse of(Long id, String content, LocalDateTime createdAt, String email, String nickname, String userId, Long parentCommentId) {
+    public static ArticleCommentResponse of(Long id, String content, LocalDateTime createdAt, AuthorSummary author, Long parentCommentId) {
         Comparator<ArticleCommentResponse> childCommentComparator = Comparator  // 정렬 기준 생성
                 .comparing(ArticleCommentResponse::createdAt)   // 첫번째 정렬 기준
                 .thenComparingLong(ArticleCommentResponse::id); // 두번째 정렬 기준
-        return new ArticleCommentResponse(id, content, createdAt, email, nickname, userId, parentCommentId, new TreeSet<>(childCommentComparator));
+        return new ArticleCommentResponse(id, content, createdAt, author, parentCommentId, new TreeSet<>(childCommentComparator));
     }
 
     public static ArticleCommentResponse from(ArticleCommentDto dto) {
-        String nickname = dto.userAccountDto().nickname();
-        if (nickname == null || nickname.isBlank()) {
-            nickname = dto.userAccountDto().userId();
-        }
-
         return ArticleCommentResponse.of(
                 dto.id(),
                 dto.content(),
                 dto.createdAt(),
-                dto.userAccountDto().email(),
-                nickname,
-                dto.userAccountDto().userId(),
+                AuthorSummary.from(dto.userAccountDto()),
                 dto.parentCommentId()
         );
     }
 
+    /**
+     * 조회 경로용. 엔티티에서 바로 응답을 만들고, 작성자 정보는 {@code authors} 에서 가져온다.
+     */
+    public static ArticleCommentResponse from(ArticleComment entity, Function<UserAccount, AuthorSummary> authors) {
+        return ArticleCommentResponse.of(
+                entity.getId(),
+                entity.getContent(),
+                entity.getCreatedAt(),
+                authors.apply(entity.getUserAccount()),
+                entity.getParentCommentId()
+        );
+    }
+
+    public String email() {
+        return author.email();
+    }
+
+    public String nickname() {
+        return author.nickname();
+    }
+
+    public String userId() {
+        return author.userId();
+    }
+
     public boolean hasParentComment() {
         return parentCommentId != null;
     }
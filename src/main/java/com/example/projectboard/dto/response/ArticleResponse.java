@@ -1,10 +1,16 @@
 package com.example.projectboard.dto.response;
 
+import com.example.projectboard.domain.Article;
+import com.example.projectboard.domain.Hashtag;
+import com.example.projectboard.domain.UserAccount;
 import com.example.projectboard.dto.ArticleDto;
 import com.example.projectboard.dto.HashtagDto;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
 
 import java.time.LocalDateTime;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 public record ArticleResponse(
@@ -13,20 +19,14 @@ public record ArticleResponse(
         String content,
         Set<String> hashtags,
         LocalDateTime createdAt,
-        String email,
-        String nickname
+        @JsonIgnoreProperties("userId") @JsonUnwrapped AuthorSummary author // 목록 응답은 예전처럼 email, nickname 만 내려준다.
 ) {
 
-    public static ArticleResponse of(Long id, String title, String content, Set<String> hashtags, LocalDateTime createdAt, String email, String nickname) {
-        return new ArticleResponse(id, title, content, hashtags, createdAt, email, nickname);
+    public static ArticleResponse of(Long id, String title, String content, Set<String> hashtags, LocalDateTime createdAt, AuthorSummary author) {
+        return new ArticleResponse(id, title, content, hashtags, createdAt, author);
     }
 
     public static ArticleResponse from(ArticleDto dto) {
-        String nickname = dto.userAccountDto().nickname();
-        if (nickname == null || nickname.isBlank()) {
-            nickname = dto.userAccountDto().userId();
-        }
-
         return new ArticleResponse(
                 dto.id(),
                 dto.title(),
@@ -36,9 +36,40 @@ public record ArticleResponse(
                         .collect(Collectors.toUnmodifiableSet())
                 ,
                 dto.createdAt(),
-                dto.userAccountDto().email(),
-                nickname
+                AuthorSummary.from(dto.userAccountDto())
         );
     }
 
+    /**
+     * 조회 경로용. 엔티티에서 바로 응답을 만든다. ({@link ArticleDto}, {@code UserAccountDto} 를 거치지 않는다.)
+     */
+    public static ArticleResponse from(Article entity) {
+        return ArticleResponse.from(entity, AuthorSummary::from);
+    }
+
+    /**
+     * 작성자 정보는 {@code authors} 에서 가져온다. (예: {@code AuthorSummaryCache::get})
+     */
+    public static ArticleResponse from(Article entity, Function<UserAccount, AuthorSummary> authors) {
+        return new ArticleResponse(
+                entity.getId(),
+                entity.getTitle(),
+                entity.getContent(),
+                entity.getHashtags().stream()
+                        .map(Hashtag::getHashtagName)
+                        .collect(Collectors.toUnmodifiableSet())
+                ,
+                entity.getCreatedAt(),
+                authors.apply(entity.getUserAccount())
+        );
+    }
+
+    public String email() {
+        return author.email();
+    }
+
+    public String nickname() {
+        return author.nickname();
+    }
+
 }
@@ -1,13 +1,17 @@
 package com.example.projectboard.dto.response;
 
-import com.example.projectboard.dto.ArticleCommentDto;
+import com.example.projectboard.domain.Article;
+import com.example.projectboard.domain.Hashtag;
+import com.example.projectboard.domain.UserAccount;
 import com.example.projectboard.dto.ArticleWithCommentsDto;
 import com.example.projectboard.dto.HashtagDto;
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
 
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public record ArticleWithCommentsResponse(
         Long id,
@@ -15,21 +19,14 @@ public record ArticleWithCommentsResponse(
         String content,
         Set<String> hashtags,
         LocalDateTime createdAt,
-        String email,
-        String nickname,
-        String userId,
+        @JsonUnwrapped AuthorSummary author,
         Set<ArticleCommentResponse> articleCommentsResponse
 ) {
-    public static ArticleWithCommentsResponse of(Long id, String title, String content, Set<String> hashtags, LocalDateTime createdAt, String email, String nickname, String userId, Set<ArticleCommentResponse> articleCommentResponses) {
-        return new ArticleWithCommentsResponse(id, title, content, hashtags, createdAt, email, nickname, userId, articleCommentResponses);
+    public static ArticleWithCommentsResponse of(Long id, String title, String content, Set<String> hashtags, LocalDateTime createdAt, AuthorSummary author, Set<ArticleCommentResponse> articleCommentResponses) {
+        return new ArticleWithCommentsResponse(id, title, content, hashtags, createdAt, author, articleCommentResponses);
     }
 
     public static ArticleWithCommentsResponse from(ArticleWithCommentsDto dto) {
-        String nickname = dto.userAccountDto().nickname();
-        if (nickname == null || nickname.isBlank()) {
-            nickname = dto.userAccountDto().userId();
-        }
-
         return new ArticleWithCommentsResponse(
                 dto.id(),
                 dto.title(),
@@ -39,17 +36,51 @@ public record ArticleWithCommentsResponse(
                         .collect(Collectors.toUnmodifiableSet())
                 ,
                 dto.createdAt(),
-                dto.userAccountDto().email(),
-                nickname,
-                dto.userAccountDto().userId(),
-                organizeChildComments(dto.articleCommentDtos())
+                AuthorSummary.from(dto.userAccountDto()),
+                organizeChildComments(dto.articleCommentDtos().stream().map(ArticleCommentResponse::from))
         );
     }
 
-    private static Set<ArticleCommentResponse> organizeChildComments(Set<ArticleCommentDto> dtos) {
+    /**
+     * 조회 경로용. 엔티티에서 바로 응답을 만든다. ({@link ArticleWithCommentsDto} 와 댓글 DTO 를 거치지 않는다.)
+     */
+    public static ArticleWithCommentsResponse from(Article entity) {
+        return ArticleWithCommentsResponse.from(entity, AuthorSummary::from);
+    }
+
+    /**
+     * 게시글과 댓글의 작성자 정보는 {@code authors} 에서 가져온다. (예: {@code AuthorSummaryCache::get})
+     */
+    public static ArticleWithCommentsResponse from(Article entity, Function<UserAccount, AuthorSummary> authors) {
+        return new ArticleWithCommentsResponse(
+                entity.getId(),
+                entity.getTitle(),
+                entity.getContent(),
+                entity.getHashtags().stream()
+                        .map(Hashtag::getHashtagName)
+                        .collect(Collectors.toUnmodifiableSet())
+                ,
+                entity.getCreatedAt(),
+                authors.apply(entity.getUserAccount()),
+                organizeChildComments(entity.getArticleComments().stream().map(comment -> ArticleCommentResponse.from(comment, authors)))
+        );
+    }
+
+    public String email() {
+        return author.email();
+    }
+
+    public String nickname() {
+        return author.nickname();
+    }
+
+    public String userId() {
+        return author.userId();
+    }
+
+    private static Set<ArticleCommentResponse> organizeChildComments(Stream<ArticleCommentResponse> comments) {
         // Set 은 데이터에 접근할 수 있는 방법을 제공하지 않는다. 그래서 Map 을 이용
-        Map<Long, ArticleCommentResponse> map = dtos.stream()
-                .map(ArticleCommentResponse::from)
+        Map<Long, ArticleCommentResponse> map = comments
                 .collect(Collectors.toMap(ArticleCommentResponse::id, Function.identity()));
 
         map.values().stream()
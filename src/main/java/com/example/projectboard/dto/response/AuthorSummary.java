@@ -0,0 +1,33 @@
+package com.example.projectboard.dto.response;
+
+import com.example.projectboard.domain.UserAccount;
+import com.example.projectboard.dto.UserAccountDto;
+
+/**
+ * 게시글 / 댓글 응답의 작성자 정보. 닉네임이 없으면 userId 를 표시한다.
+ * 응답 레코드의 {@code from} 팩토리는 엔티티 / DTO 어느 쪽에서 만들든 작성자 정보를 이 클래스로 만들므로, 이 규칙은 {@code displayName} 한 곳에만 있다.
+ * 조회 경로에서는 회원마다 하나만 만들어 캐시하고({@code AuthorSummaryCache}), 같은 회원의 응답들이 같은 인스턴스를 참조한다.
+ */
+public record AuthorSummary(
+        String userId,
+        String nickname,
+        String email
+) {
+
+    public static AuthorSummary of(String userId, String nickname, String email) {
+        return new AuthorSummary(userId, nickname, email);
+    }
+
+    public static AuthorSummary from(UserAccount entity) {
+        return AuthorSummary.of(entity.getUserId(), displayName(entity.getNickname(), entity.getUserId()), entity.getEmail());
+    }
+
+    public static AuthorSummary from(UserAccountDto dto) {
+        return AuthorSummary.of(dto.userId(), displayName(dto.nickname(), dto.userId()), dto.email());
+    }
+
+    private static String displayName(String nickname, String userId) {
+        return nickname == null || nickname.isBlank() ? userId : nickname;
+    }
+
+}
@@ -0,0 +1,12 @@
+package com.example.projectboard.monitoring;
+
+/**
+ * {@link StatementListeningDataSource} 를 통해 실행된 JDBC 문장을 전달받는다.
+ * 문장을 실행한 스레드에서 호출되므로 오래 걸리는 작업을 하면 안 된다.
+ */
+@FunctionalInterface
+public interface JdbcStatementListener {
+
+    void afterExecution(StatementExecution execution);
+
+}
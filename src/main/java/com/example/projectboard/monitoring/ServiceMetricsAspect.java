@@ -0,0 +1,99 @@
+package com.example.projectboard.monitoring;
+
+import com.example.projectboard.domain.constant.SearchType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Page;
+import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
+
+/**
+ * 서비스 핫 패스의 처리 시간을 Micrometer 타이머로 남긴다.
+ * 모든 타이머에는 성공 여부({@code outcome}) 태그가 붙고, 백분위 히스토그램은 {@code management.metrics.distribution} 설정을 따른다.
+ *
+ * <p>
+ * 저장 / 수정의 쓰기는 대부분 커밋할 때 flush 되므로, 트랜잭션 인터셉터보다 바깥에서 실행해 flush 와 커밋 시간까지 잰다.
+ * SQL 수 애스펙트({@link SqlStatementCountAspect})보다도 바깥이라 그 기록 시간도 포함된다.
+ */
+@Aspect
+@Order(ServiceMetricsAspect.ORDER)
+@RequiredArgsConstructor
+public class ServiceMetricsAspect {
+
+    public static final int ORDER = SqlStatementCountAspect.ORDER - 1;
+
+    private final MeterRegistry meterRegistry;
+
+    @Around("execution(* com.example.projectboard.service.ArticleService.searchArticles(..)) && args(searchType, searchKeyword, ..)")
+    public Object searchArticles(ProceedingJoinPoint joinPoint, SearchType searchType, String searchKeyword) throws Throwable {
+        boolean hasKeyword = searchKeyword != null && !searchKeyword.isBlank();
+        Tags tags = Tags.of(
+                // 검색어가 없으면 검색 타입과 관계없이 전체 목록을 조회한다.
+                Tag.of("searchType", hasKeyword && searchType != null ? searchType.name() : "NONE"),
+                Tag.of("keyword", String.valueOf(hasKeyword))
+        );
+
+        Object result = time("board.article.search", "게시글 목록 / 검색", tags, joinPoint);
+        if (result instanceof Page<?> page && page.isEmpty()) {
+            meterRegistry.counter("board.article.search.empty", tags).increment();
+        }
+        return result;
+    }
+
+    @Around("execution(* com.example.projectboard.service.ArticleService.getArticleWithComments(..))")
+    public Object getArticleWithComments(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time("board.article.detail", "게시글 상세 (댓글 포함)", Tags.empty(), joinPoint);
+    }
+
+    @Around("execution(* com.example.projectboard.service.ArticleService.saveArticle(..)) "
+            + "|| execution(* com.example.projectboard.service.ArticleService.updateArticle(..))")
+    public Object saveArticle(ProceedingJoinPoint joinPoint) throws Throwable {
+        String operation = joinPoint.getSignature().getName().equals("saveArticle") ? "save" : "update";
+        return time("board.article.save", "게시글 저장 / 수정", Tags.of("operation", operation), joinPoint);
+    }
+
+    /**
+     * 게시글 저장 / 수정 중 해시태그 파싱, 조회, 정리에 든 시간. {@code board.article.save} 에 포함된다.
+     */
+    @Around("execution(public * com.example.projectboard.service.HashtagService.*(..))")
+    public Object resolveHashtags(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time("board.hashtag.resolution", "해시태그 파싱 / 조회 / 정리",
+                Tags.of("step", joinPoint.getSignature().getName()), joinPoint);
+    }
+
+    @Around("execution(* com.example.projectboard.service.ArticleCommentService.saveArticleComment(..))")
+    public Object saveArticleComment(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time("board.comment.save", "댓글 저장", Tags.empty(), joinPoint);
+    }
+
+    @Around("execution(* org.springframework.security.oauth2.client.userinfo.OAuth2UserService.loadUser(..)) "
+            + "&& bean(oAuth2UserService) && args(userRequest)")
+    public Object loadOAuth2User(ProceedingJoinPoint joinPoint, OAuth2UserRequest userRequest) throws Throwable {
+        return time("board.oauth2.user.load", "OAuth2 사용자 정보 조회 및 가입",
+                Tags.of("registrationId", userRequest.getClientRegistration().getRegistrationId()), joinPoint);
+    }
+
+    private Object time(String name, String description, Tags tags, ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            outcome = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(name)
+                    .description(description)
+                    .tags(tags)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
+}
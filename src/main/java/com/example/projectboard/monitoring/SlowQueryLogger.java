@@ -0,0 +1,50 @@
+package com.example.projectboard.monitoring;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * 임계값을 넘은 JDBC 문장을 표본 추출해서 SQL, 파라미터, 실행 시간, 행 수와 함께 한 줄로 남긴다.
+ * 바인딩 파라미터마다 로그를 남기던 {@code BasicBinder} trace 로그를 운영 환경에서 대신한다.
+ */
+@Slf4j(topic = "board.sql.slow")
+public class SlowQueryLogger implements JdbcStatementListener {
+
+    private final long thresholdNanos;
+    private final double sampleRate;
+    private final int maxParameterLength;
+
+    public SlowQueryLogger(SlowQueryProperties properties) {
+        this.thresholdNanos = properties.getThreshold().toNanos();
+        this.sampleRate = properties.getSampleRate();
+        this.maxParameterLength = properties.getMaxParameterLength();
+    }
+
+    @Override
+    public void afterExecution(StatementExecution execution) {
+        if (execution.elapsed().toNanos() < thresholdNanos || !sampled() || !log.isWarnEnabled()) {
+            return;
+        }
+
+        log.warn("slow query - {} ms, rows: {}, success: {}, sql: {}, params: {}",
+                execution.elapsed().toMillis(),
+                execution.rowCount(),
+                execution.success(),
+                execution.sql().replaceAll("\\s+", " ").strip(),
+                execution.parameters().stream()
+                        .map(this::abbreviate)
+                        .collect(Collectors.joining(", ", "[", "]")));
+    }
+
+    private boolean sampled() {
+        return sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+
+    private String abbreviate(Object parameter) {
+        String value = String.valueOf(parameter);
+        return value.length() <= maxParameterLength ? value : value.substring(0, maxParameterLength) + "...";
+    }
+
+}
@@ -0,0 +1,42 @@
+package com.example.projectboard.monitoring;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@Getter
+@ConstructorBinding
+@ConfigurationProperties("board.monitoring.slow-query")
+public class SlowQueryProperties {
+    /**
+     * 느린 쿼리 로그 사용 여부
+     */
+    private final boolean enabled;
+    /**
+     * 이 시간 이상 걸린 문장만 기록한다.
+     */
+    private final Duration threshold;
+    /**
+     * 임계값을 넘은 문장 중 실제로 기록할 비율 (0.0 ~ 1.0)
+     */
+    private final double sampleRate;
+    /**
+     * 파라미터 값 하나를 기록할 최대 길이. 본문처럼 긴 값은 잘라낸다.
+     */
+    private final int maxParameterLength;
+
+    public SlowQueryProperties(
+            @DefaultValue("false") boolean enabled,
+            @DefaultValue("200ms") Duration threshold,
+            @DefaultValue("1.0") double sampleRate,
+            @DefaultValue("100") int maxParameterLength
+    ) {
+        this.enabled = enabled;
+        this.threshold = threshold;
+        this.sampleRate = sampleRate;
+        this.maxParameterLength = maxParameterLength;
+    }
+}
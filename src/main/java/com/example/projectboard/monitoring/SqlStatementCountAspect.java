@@ -0,0 +1,56 @@
+package com.example.projectboard.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+/**
+ * 서비스 계층의 {@code @Transactional} 메소드 호출 하나가 실행한 SQL 수를 {@code board.sql.statements.method} 지표로 남긴다.
+ * 커밋할 때 flush 되는 insert / update 까지 세도록 트랜잭션 인터셉터(기본 {@link Ordered#LOWEST_PRECEDENCE})보다 바깥에서 실행한다.
+ */
+@Slf4j
+@Aspect
+@Order(SqlStatementCountAspect.ORDER)
+@RequiredArgsConstructor
+public class SqlStatementCountAspect {
+
+    public static final int ORDER = Ordered.LOWEST_PRECEDENCE - 1;
+
+    private final MeterRegistry meterRegistry;
+    private final SqlStatementProperties properties;
+
+    @Around("within(com.example.projectboard.service..*) && ("
+            + "@within(org.springframework.transaction.annotation.Transactional) || "
+            + "@annotation(org.springframework.transaction.annotation.Transactional))")
+    public Object count(ProceedingJoinPoint joinPoint) throws Throwable {
+        try (SqlStatementCounter.Scope scope = SqlStatementCounter.start()) {
+            try {
+                return joinPoint.proceed();
+            } finally {
+                String className = joinPoint.getSignature().getDeclaringType().getSimpleName();
+                String methodName = joinPoint.getSignature().getName();
+                long count = scope.count();
+
+                DistributionSummary.builder("board.sql.statements.method")
+                        .description("서비스 트랜잭션 메소드 호출 하나가 실행한 SQL 수")
+                        .baseUnit("statements")
+                        .tag("class", className)
+                        .tag("method", methodName)
+                        .register(meterRegistry)
+                        .record(count);
+
+                if (count > properties.getMethodBudget()) {
+                    log.warn("SQL 예산 초과 - {}.{} : {} 건 (예산 {} 건)",
+                            className, methodName, count, properties.getMethodBudget());
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,79 @@
+package com.example.projectboard.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * HTTP 요청 하나가 실행한 SQL 수를 {@code board.sql.statements} 지표로 남기고,
+ * 예산을 넘거나 같은 SQL 이 반복되면(N+1 의심) 경고 로그를 남긴다.
+ * 예산과 반복 기준은 핸들러 패턴별로 바꿀 수 있다. ({@link SqlStatementProperties#getRoutes()})
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class SqlStatementCountFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+    private final SqlStatementProperties properties;
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        try (SqlStatementCounter.Scope scope = SqlStatementCounter.start()) {
+            try {
+                filterChain.doFilter(request, response);
+            } finally {
+                record(request, scope);
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, SqlStatementCounter.Scope scope) {
+        long count = scope.count();
+        String uri = uriPattern(request);
+
+        DistributionSummary.builder("board.sql.statements")
+                .description("HTTP 요청 하나가 실행한 SQL 수")
+                .baseUnit("statements")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(count);
+
+        int budget = properties.requestBudget(uri);
+        if (count > budget) {
+            log.warn("SQL 예산 초과 - {} {} : {} 건 (예산 {} 건)",
+                    request.getMethod(), request.getRequestURI(), count, budget);
+        }
+
+        List<SqlStatementCounter.RepeatedStatement> repeated =
+                scope.repeatedStatements(properties.repeatedStatementThreshold(uri));
+        if (!repeated.isEmpty()) {
+            meterRegistry.counter("board.sql.n-plus-one", "method", request.getMethod(), "uri", uri).increment();
+            repeated.forEach(statement -> log.warn("N+1 의심 - {} {} : 같은 SQL {} 회 실행\n{}",
+                    request.getMethod(), request.getRequestURI(), statement.count(), statement.sql()));
+        }
+    }
+
+    /**
+     * 태그 값이 무한히 늘어나지 않도록, 매핑된 핸들러 패턴({@code /articles/{articleId}})을 우선 사용한다.
+     */
+    private static String uriPattern(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+
+}
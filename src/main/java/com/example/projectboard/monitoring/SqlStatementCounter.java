@@ -0,0 +1,142 @@
+package com.example.projectboard.monitoring;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 하이버네이트가 실행하는 SQL 을 스레드별로 세는 {@link StatementInspector}.
+ *
+ * <p>
+ * {@code hibernate.session_factory.statement_inspector} 설정으로 등록되며, 하이버네이트가 직접 생성하므로 상태는 static 으로 둔다.
+ * HTTP 요청, 트랜잭션 메소드, 테스트처럼 측정하고 싶은 구간을 {@link #start()} 로 열면
+ * 그 구간 동안 실행된 SQL 수와, 같은 SQL 이 반복 실행된 횟수(N+1 의심)를 알 수 있다.
+ * 구간은 중첩할 수 있다. 다른 스레드에서 실행한 작업의 SQL 은 {@link Recording} 으로 기록해서 호출한 스레드의 구간에 더한다.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<Tally> TALLY = ThreadLocal.withInitial(Tally::new);
+
+    @Override
+    public String inspect(String sql) {
+        Tally tally = TALLY.get();
+        tally.total++;
+        if (tally.depth > 0) {
+            tally.statements.merge(sql, 1, Integer::sum);
+        }
+        return sql;
+    }
+
+    /**
+     * 현재 스레드에서 측정 구간을 시작한다. 반드시 {@link Scope#close()} 로 닫아야 한다.
+     */
+    public static Scope start() {
+        Tally tally = TALLY.get();
+        tally.depth++;
+        return new Scope(tally, tally.total, Map.copyOf(tally.statements));
+    }
+
+    /**
+     * 다른 스레드(작업 스레드)에서 실행한 SQL 을 기록한다. 작업을 제출한 스레드에서 만들고, 작업이 끝난 뒤
+     * 제출한 스레드에서 {@link #addToCurrentThread()} 를 호출하면 그 스레드의 구간에 SQL 수와 SQL 목록이 더해진다.
+     */
+    public static final class Recording {
+
+        private final Thread owner = Thread.currentThread();
+        private long count;
+        private Map<String, Integer> statements = Map.of();
+
+        public <T> T run(Supplier<T> task) {
+            if (Thread.currentThread() == owner) {
+                return task.get(); // 제출한 스레드에서 바로 실행되면 이미 그 스레드의 구간에서 세고 있다.
+            }
+            try (Scope scope = start()) {
+                try {
+                    return task.get();
+                } finally {
+                    count = scope.count();
+                    statements = scope.statementsSinceStart();
+                }
+            }
+        }
+
+        public void addToCurrentThread() {
+            Tally tally = TALLY.get();
+            tally.total += count;
+            if (tally.depth > 0) {
+                statements.forEach((sql, executions) -> tally.statements.merge(sql, executions, Integer::sum));
+            }
+            count = 0;
+            statements = Map.of();
+        }
+
+    }
+
+    private static class Tally {
+        private long total;
+        private int depth;
+        private final Map<String, Integer> statements = new HashMap<>();
+    }
+
+    public static class Scope implements AutoCloseable {
+
+        private final Tally tally;
+        private final long startTotal;
+        private final Map<String, Integer> startStatements;
+        private long closedCount = -1;
+
+        private Scope(Tally tally, long startTotal, Map<String, Integer> startStatements) {
+            this.tally = tally;
+            this.startTotal = startTotal;
+            this.startStatements = startStatements;
+        }
+
+        /**
+         * 구간이 시작된 뒤 실행된 SQL 수
+         */
+        public long count() {
+            return closedCount >= 0 ? closedCount : tally.total - startTotal;
+        }
+
+        /**
+         * 구간 안에서 {@code threshold} 번 이상 실행된 select 문 목록. N+1 패턴을 찾는 데 쓴다.
+         * 구간을 닫기 전에 호출해야 한다.
+         */
+        public List<RepeatedStatement> repeatedStatements(int threshold) {
+            return statementsSinceStart().entrySet().stream()
+                    .map(entry -> new RepeatedStatement(entry.getKey(), entry.getValue()))
+                    .filter(statement -> statement.count() >= threshold)
+                    .filter(statement -> statement.sql().stripLeading().regionMatches(true, 0, "select", 0, 6))
+                    .toList();
+        }
+
+        private Map<String, Integer> statementsSinceStart() {
+            Map<String, Integer> statements = new HashMap<>();
+            tally.statements.forEach((sql, executions) -> {
+                int since = executions - startStatements.getOrDefault(sql, 0);
+                if (since > 0) {
+                    statements.put(sql, since);
+                }
+            });
+            return statements;
+        }
+
+        @Override
+        public void close() {
+            if (closedCount >= 0) {
+                return;
+            }
+            closedCount = tally.total - startTotal;
+            if (--tally.depth == 0) {
+                tally.statements.clear();
+            }
+        }
+
+    }
+
+    public record RepeatedStatement(String sql, int count) {}
+
+}
@@ -0,0 +1,58 @@
+package com.example.projectboard.monitoring;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.Map;
+
+@Getter
+@ConstructorBinding
+@ConfigurationProperties("board.monitoring.sql")
+public class SqlStatementProperties {
+    /**
+     * 요청 하나에 허용하는 SQL 수. 넘으면 경고 로그를 남긴다.
+     */
+    private final int requestBudget;
+    /**
+     * 서비스 트랜잭션 메소드 호출 하나에 허용하는 SQL 수. 넘으면 경고 로그를 남긴다.
+     */
+    private final int methodBudget;
+    /**
+     * 같은 SQL 이 요청 하나에서 이 횟수 이상 실행되면 N+1 으로 의심한다.
+     */
+    private final int repeatedStatementThreshold;
+    /**
+     * 핸들러 패턴({@code /articles/stream})별로 요청 예산과 N+1 기준을 바꾼다. 값이 없는 항목은 전역 설정을 쓴다.
+     */
+    private final Map<String, Route> routes;
+
+    public SqlStatementProperties(
+            @DefaultValue("10") int requestBudget,
+            @DefaultValue("6") int methodBudget,
+            @DefaultValue("3") int repeatedStatementThreshold,
+            Map<String, Route> routes
+    ) {
+        this.requestBudget = requestBudget;
+        this.methodBudget = methodBudget;
+        this.repeatedStatementThreshold = repeatedStatementThreshold;
+        this.routes = routes == null ? Map.of() : Map.copyOf(routes);
+    }
+
+    public int requestBudget(String uriPattern) {
+        Route route = routes.get(uriPattern);
+        return route != null && route.requestBudget() != null ? route.requestBudget() : requestBudget;
+    }
+
+    public int repeatedStatementThreshold(String uriPattern) {
+        Route route = routes.get(uriPattern);
+        return route != null && route.repeatedStatementThreshold() != null ? route.repeatedStatementThreshold() : repeatedStatementThreshold;
+    }
+
+    /**
+     * @param requestBudget              이 경로의 요청 하나에 허용하는 SQL 수
+     * @param repeatedStatementThreshold 이 경로에서 N+1 으로 의심하는 같은 SQL 반복 횟수
+     */
+    public record Route(Integer requestBudget, Integer repeatedStatementThreshold) {}
+}
@@ -0,0 +1,21 @@
+package com.example.projectboard.monitoring;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * JDBC 문장 하나의 실행 결과.
+ *
+ * @param sql 실행한 SQL (파라미터는 {@code ?} 그대로)
+ * @param parameters 바인딩된 파라미터 (인덱스 순서)
+ * @param elapsed 실행 시간. select 는 결과를 모두 읽을 때까지의 시간이다.
+ * @param rowCount select 는 읽은 행 수, 그 외에는 영향받은 행 수
+ * @param success 예외 없이 실행되었는지 여부
+ */
+public record StatementExecution(
+        String sql,
+        List<Object> parameters,
+        Duration elapsed,
+        long rowCount,
+        boolean success
+) {}
@@ -0,0 +1,196 @@
+package com.example.projectboard.monitoring;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.TreeMap;
+
+/**
+ * 커넥션 / 문장 / 결과셋을 동적 프록시로 감싸서, 실행된 JDBC 문장마다 SQL, 파라미터, 실행 시간, 행 수를
+ * {@link JdbcStatementListener} 들에게 알려주는 데이터소스.
+ *
+ * <p>
+ * select 문은 결과셋을 닫을 때(읽은 행 수가 확정될 때) 한 번, 그 외 문장은 실행 직후 한 번 알린다.
+ */
+public class StatementListeningDataSource extends DelegatingDataSource {
+
+    private final List<JdbcStatementListener> listeners;
+
+    public StatementListeningDataSource(DataSource targetDataSource, List<JdbcStatementListener> listeners) {
+        super(targetDataSource);
+        this.listeners = List.copyOf(listeners);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return proxy(Connection.class, new ConnectionHandler(super.getConnection()));
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return proxy(Connection.class, new ConnectionHandler(super.getConnection(username, password)));
+    }
+
+    private void publish(StatementExecution execution) {
+        for (JdbcStatementListener listener : listeners) {
+            listener.afterExecution(execution);
+        }
+    }
+
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(
+                StatementListeningDataSource.class.getClassLoader(),
+                new Class<?>[] { type },
+                handler
+        ));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private class ConnectionHandler implements InvocationHandler {
+
+        private final Connection connection;
+
+        private ConnectionHandler(Connection connection) {
+            this.connection = connection;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = StatementListeningDataSource.invoke(connection, method, args);
+            return switch (method.getName()) {
+                case "prepareStatement" ->
+                        proxy(PreparedStatement.class, new StatementHandler((Statement) result, (String) args[0]));
+                case "createStatement" ->
+                        proxy(Statement.class, new StatementHandler((Statement) result, null));
+                default -> result;
+            };
+        }
+
+    }
+
+    private class StatementHandler implements InvocationHandler {
+
+        private final Statement statement;
+        private final String preparedSql;
+        private final TreeMap<Integer, Object> parameters = new TreeMap<>();
+        private ResultSetHandler openResultSet;
+
+        private StatementHandler(Statement statement, String preparedSql) {
+            this.statement = statement;
+            this.preparedSql = preparedSql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                parameters.put(index, name.equals("setNull") ? null : args[1]);
+                return StatementListeningDataSource.invoke(statement, method, args);
+            }
+            if (name.equals("close") && openResultSet != null) {
+                openResultSet.publishOnce(); // 결과셋을 닫지 않고 문장만 닫는 경우
+            }
+            if (name.equals("clearParameters")) {
+                parameters.clear();
+                return StatementListeningDataSource.invoke(statement, method, args);
+            }
+            if (!name.startsWith("execute")) {
+                return StatementListeningDataSource.invoke(statement, method, args);
+            }
+
+            String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : preparedSql;
+            List<Object> boundParameters = Collections.unmodifiableList(new ArrayList<>(parameters.values()));
+            long start = System.nanoTime();
+            Object result;
+            try {
+                result = StatementListeningDataSource.invoke(statement, method, args);
+            } catch (Throwable e) {
+                publish(new StatementExecution(sql, boundParameters, Duration.ofNanos(System.nanoTime() - start), 0, false));
+                throw e;
+            }
+
+            if (result instanceof ResultSet resultSet) {
+                openResultSet = new ResultSetHandler(resultSet, sql, boundParameters, start);
+                return proxy(ResultSet.class, openResultSet);
+            }
+            publish(new StatementExecution(sql, boundParameters, Duration.ofNanos(System.nanoTime() - start), rowCount(result), true));
+            return result;
+        }
+
+        private long rowCount(Object result) throws SQLException {
+            if (result instanceof Integer count) {
+                return count;
+            }
+            if (result instanceof Long count) {
+                return count;
+            }
+            if (result instanceof int[] counts) {
+                long sum = 0;
+                for (int count : counts) {
+                    sum += Math.max(count, 0);
+                }
+                return sum;
+            }
+            return Math.max(statement.getUpdateCount(), 0); // execute() 의 반환값은 boolean 이다.
+        }
+
+    }
+
+    private class ResultSetHandler implements InvocationHandler {
+
+        private final ResultSet resultSet;
+        private final String sql;
+        private final List<Object> parameters;
+        private final long start;
+        private long rows;
+        private boolean published;
+
+        private ResultSetHandler(ResultSet resultSet, String sql, List<Object> parameters, long start) {
+            this.resultSet = resultSet;
+            this.sql = sql;
+            this.parameters = parameters;
+            this.start = start;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getName().equals("close")) {
+                publishOnce();
+            }
+            Object result = StatementListeningDataSource.invoke(resultSet, method, args);
+            if (method.getName().equals("next") && Boolean.TRUE.equals(result)) {
+                rows++;
+            }
+            return result;
+        }
+
+        private void publishOnce() {
+            if (!published) {
+                published = true;
+                publish(new StatementExecution(sql, parameters, Duration.ofNanos(System.nanoTime() - start), rows, true));
+            }
+        }
+
+    }
+
+}
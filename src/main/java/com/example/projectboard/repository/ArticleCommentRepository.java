@@ -3,8 +3,8 @@ package com.example.projectboard.repository;
 import com.example.projectboard.domain.ArticleComment;
 import com.example.projectboard.domain.QArticleComment;
 import com.example.projectboard.domain.projection.ArticleCommentProjection;
+import com.example.projectboard.repository.querydsl.NormalizedSearch;
 import com.querydsl.core.types.dsl.DateTimeExpression;
-import com.querydsl.core.types.dsl.StringExpression;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
 import org.springframework.data.querydsl.binding.QuerydslBinderCustomizer;
@@ -28,9 +28,9 @@ public interface ArticleCommentRepository extends
     default void customize(QuerydslBindings bindings, QArticleComment root) {
         bindings.excludeUnlistedProperties(true);
         bindings.including(root.content, root.createdAt, root.createdBy);
-        bindings.bind(root.content).first(StringExpression::containsIgnoreCase);
+        bindings.bind(root.content).first((path, value) -> NormalizedSearch.matches(root.normalizedContent, value));
         bindings.bind(root.createdAt).first(DateTimeExpression::eq);
-        bindings.bind(root.createdBy).first(StringExpression::containsIgnoreCase);
+        bindings.bind(root.createdBy).first((path, value) -> NormalizedSearch.matches(root.normalizedCreatedBy, value));
     }
 
 }
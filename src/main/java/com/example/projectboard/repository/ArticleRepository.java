@@ -4,15 +4,18 @@ import com.example.projectboard.domain.Article;
 import com.example.projectboard.domain.QArticle;
 import com.example.projectboard.domain.projection.ArticleProjection;
 import com.example.projectboard.repository.querydsl.ArticleRepositoryCustom;
+import com.example.projectboard.repository.querydsl.NormalizedSearch;
 import com.querydsl.core.types.dsl.DateTimeExpression;
 import com.querydsl.core.types.dsl.StringExpression;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
 import org.springframework.data.querydsl.binding.QuerydslBinderCustomizer;
 import org.springframework.data.querydsl.binding.QuerydslBindings;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+import org.springframework.data.rest.core.annotation.RestResource;
 
 
 @RepositoryRestResource(excerptProjection = ArticleProjection.class)
@@ -29,6 +32,10 @@ public interface ArticleRepository extends
 
     void deleteByIdAndUserAccount_UserId(Long articleId, String userId);
 
+    // 스트리밍 목록용 id 커서 조회. count 쿼리 없이 다음 묶음 유무만 본다.
+    @RestResource(exported = false)
+    Slice<Article> findByIdLessThan(Long id, Pageable pageable);
+
     /**
      *  검색을 세부적으로 할 수 있게 도와줌
      *  자바8 이후로 인터페이스에 구현 메소드 가능
@@ -43,11 +50,12 @@ public interface ArticleRepository extends
         // 검색 원하는 필드를 추가
         bindings.including(root.title, root.content, root.hashtags, root.createdAt, root.createdBy);
 
-        bindings.bind(root.title).first(StringExpression::containsIgnoreCase);  // like '%${value}%'
-        bindings.bind(root.content).first(StringExpression::containsIgnoreCase);
+        // 정규화 섀도 컬럼으로 검색한다. like '%${value}%', 검색어가 * 로 끝나면 like '${value}%' (인덱스 사용)
+        bindings.bind(root.title).first((path, value) -> NormalizedSearch.matches(root.normalizedTitle, value));
+        bindings.bind(root.content).first((path, value) -> NormalizedSearch.matches(root.normalizedContent, value));
         bindings.bind(root.hashtags.any().hashtagName).first(StringExpression::containsIgnoreCase);
         bindings.bind(root.createdAt).first(DateTimeExpression::eq);
-        bindings.bind(root.createdBy).first(StringExpression::containsIgnoreCase);
+        bindings.bind(root.createdBy).first((path, value) -> NormalizedSearch.matches(root.normalizedCreatedBy, value));
     }
 
 }
@@ -3,9 +3,11 @@ package com.example.projectboard.repository;
 import com.example.projectboard.domain.Hashtag;
 import com.example.projectboard.repository.querydsl.HashtagRepositoryCustom;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
 
+import javax.persistence.QueryHint;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -15,6 +17,9 @@ public interface HashtagRepository extends
         JpaRepository<Hashtag, Long>,
         HashtagRepositoryCustom,
         QuerydslPredicateExecutor<Hashtag> {
+    // 해시태그 조회 결과는 쿼리 캐시에 둔다. hashtag 테이블이 바뀌면 하이버네이트가 자동으로 무효화한다.
+    @QueryHints(@QueryHint(name = org.hibernate.annotations.QueryHints.CACHEABLE, value = "true"))
     Optional<Hashtag> findByHashtagName(String hashtagName);
+    @QueryHints(@QueryHint(name = org.hibernate.annotations.QueryHints.CACHEABLE, value = "true"))
     List<Hashtag> findByHashtagNameIn(Set<String> hashtagNames);
 }
@@ -0,0 +1,94 @@
+package com.example.projectboard.repository;
+
+import com.example.projectboard.domain.Article;
+import com.example.projectboard.domain.QArticle;
+import com.example.projectboard.domain.QArticleComment;
+import com.example.projectboard.domain.QHashtag;
+import com.example.projectboard.dto.api.ArticleCommentSummary;
+import com.example.projectboard.dto.api.ArticleSummary;
+import com.example.projectboard.dto.api.HashtagSummary;
+import com.querydsl.core.types.Projections;
+import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 읽기 API 전용 조회. 엔티티 대신 필요한 컬럼만 DTO 로 바로 조회하며, id 커서로 페이징한다.
+ * 각 메소드는 다음 페이지 유무를 알 수 있도록 {@code limit} 건을 조회한다.
+ */
+@Repository
+public class ReadApiRepository extends QuerydslRepositorySupport {
+
+    public ReadApiRepository() {
+        super(Article.class);
+    }
+
+    /**
+     * 최신 글부터 (id 내림차순)
+     */
+    public List<ArticleSummary> findArticles(Long cursor, int limit) {
+        QArticle article = QArticle.article;
+
+        return from(article)
+                .innerJoin(article.userAccount)
+                .select(Projections.constructor(ArticleSummary.class,
+                        article.id,
+                        article.title,
+                        article.content,
+                        article.userAccount.userId,
+                        article.userAccount.nickname,
+                        article.createdAt,
+                        article.modifiedAt
+                ))
+                .where(cursor == null ? null : article.id.lt(cursor))
+                .orderBy(article.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * 작성 순서대로 (id 오름차순)
+     */
+    public List<ArticleCommentSummary> findArticleComments(Long articleId, Long cursor, int limit) {
+        QArticleComment articleComment = QArticleComment.articleComment;
+
+        return from(articleComment)
+                .innerJoin(articleComment.userAccount)
+                .select(Projections.constructor(ArticleCommentSummary.class,
+                        articleComment.id,
+                        articleComment.article.id,
+                        articleComment.parentCommentId,
+                        articleComment.content,
+                        articleComment.userAccount.userId,
+                        articleComment.userAccount.nickname,
+                        articleComment.createdAt,
+                        articleComment.modifiedAt
+                ))
+                .where(
+                        articleComment.article.id.eq(articleId),
+                        cursor == null ? null : articleComment.id.gt(cursor)
+                )
+                .orderBy(articleComment.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * 이름순이 아닌 id 오름차순 (커서 기준)
+     */
+    public List<HashtagSummary> findHashtags(Long cursor, int limit) {
+        QHashtag hashtag = QHashtag.hashtag;
+
+        return from(hashtag)
+                .select(Projections.constructor(HashtagSummary.class,
+                        hashtag.id,
+                        hashtag.hashtagName
+                ))
+                .where(cursor == null ? null : hashtag.id.gt(cursor))
+                .orderBy(hashtag.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+}
@@ -1,11 +1,13 @@
 package com.example.projectboard.repository.querydsl;
 
 import com.example.projectboard.domain.Article;
+import com.example.projectboard.dto.ArticleVersion;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface ArticleRepositoryCustom {
 
@@ -16,4 +18,14 @@ public interface ArticleRepositoryCustom {
     @Deprecated
     List<String> findAllDistinctHashtags();
     Page<Article> findByHashtagNames(Collection<String> hashtagNames, Pageable pageable);
+
+    /**
+     * 게시글 본문과 댓글을 불러오지 않고, 게시글 / 댓글 / 작성자 / 댓글 작성자의 수정 시각과 댓글 수만 집계한다.
+     */
+    Optional<ArticleVersion> findArticleVersion(Long articleId);
+
+    /**
+     * 가장 큰 게시글 ID. PK 인덱스만 읽으므로 {@code count(*)} 와 달리 글 수에 비례하지 않는다.
+     */
+    Optional<Long> findLastArticleId();
 }
@@ -2,7 +2,12 @@ package com.example.projectboard.repository.querydsl;
 
 import com.example.projectboard.domain.Article;
 import com.example.projectboard.domain.QArticle;
+import com.example.projectboard.domain.QArticleComment;
 import com.example.projectboard.domain.QHashtag;
+import com.example.projectboard.domain.QUserAccount;
+import com.example.projectboard.dto.ArticleVersion;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.JPQLQuery;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -11,6 +16,7 @@ import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public class ArticleRepositoryCustomImpl extends QuerydslRepositorySupport implements ArticleRepositoryCustom {
 
@@ -42,4 +48,39 @@ public class ArticleRepositoryCustomImpl extends QuerydslRepositorySupport imple
         return new PageImpl<>(articles, pageable, query.fetchCount());
     }
 
+    @Override
+    public Optional<ArticleVersion> findArticleVersion(Long articleId) {
+        QArticle article = QArticle.article;
+        QArticleComment articleComment = QArticleComment.articleComment;
+        QUserAccount author = new QUserAccount("author");
+        QUserAccount commenter = new QUserAccount("commenter");
+        QArticle lastArticle = new QArticle("lastArticle");
+
+        ArticleVersion version = from(article)
+                .innerJoin(article.userAccount, author)
+                .leftJoin(article.articleComments, articleComment)
+                .leftJoin(articleComment.userAccount, commenter)
+                .where(article.id.eq(articleId))
+                .groupBy(article.id, article.modifiedAt, author.modifiedAt)
+                .select(Projections.constructor(ArticleVersion.class,
+                        article.id,
+                        article.modifiedAt,
+                        articleComment.modifiedAt.max(),
+                        articleComment.count(),
+                        author.modifiedAt,
+                        commenter.modifiedAt.max(),
+                        JPAExpressions.select(lastArticle.id.max()).from(lastArticle)
+                ))
+                .fetchOne();
+
+        return Optional.ofNullable(version);
+    }
+
+    @Override
+    public Optional<Long> findLastArticleId() {
+        QArticle article = QArticle.article;
+
+        return Optional.ofNullable(from(article).select(article.id.max()).fetchOne());
+    }
+
 }
@@ -0,0 +1,29 @@
+package com.example.projectboard.repository.querydsl;
+
+import com.example.projectboard.domain.SearchNormalizer;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.StringPath;
+
+/**
+ * Querydsl 검색 바인딩에서 쓰는 정규화 컬럼 검색 조건.
+ * 검색어도 같은 규칙으로 정규화해서 비교하므로 {@code lower(컬럼)} 없이 대소문자를 무시한다.
+ *
+ * <p>
+ * 검색어가 {@value #PREFIX_WILDCARD} 로 끝나면 앞부분 일치({@code like '검색어%'})로 찾는다. 이 경우 컬럼 인덱스를 쓸 수 있다.
+ * 그 외에는 부분 일치({@code like '%검색어%'})로 찾는다.
+ */
+public final class NormalizedSearch {
+
+    public static final String PREFIX_WILDCARD = "*";
+
+    private NormalizedSearch() {}
+
+    public static Predicate matches(StringPath normalizedColumn, String value) {
+        String keyword = SearchNormalizer.normalize(value.strip());
+        if (keyword.length() > PREFIX_WILDCARD.length() && keyword.endsWith(PREFIX_WILDCARD)) {
+            return normalizedColumn.startsWith(keyword.substring(0, keyword.length() - PREFIX_WILDCARD.length()));
+        }
+        return normalizedColumn.contains(keyword);
+    }
+
+}
@@ -0,0 +1,70 @@
+package com.example.projectboard.security;
+
+import org.springframework.security.oauth2.client.web.AuthorizationRequestRepository;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+import org.springframework.util.SerializationUtils;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.time.Duration;
+
+/**
+ * 카카오 인증 서버로 보낸 인가 요청(state 등)을 세션 대신 서명된 쿠키에 보관한다.
+ * 인증 서버에서 돌아오는 요청이 다른 노드로 가도 검증할 수 있다.
+ *
+ * <p>
+ * 서명이 맞는 쿠키(이 서버가 직접 만든 값)만 역직렬화한다.
+ */
+public class CookieOAuth2AuthorizationRequestRepository implements AuthorizationRequestRepository<OAuth2AuthorizationRequest> {
+
+    static final String COOKIE_NAME = "BOARD_OAUTH2_AUTH_REQUEST";
+    private static final Duration MAX_AGE = Duration.ofMinutes(3);
+
+    private final SignedCookieCodec codec;
+
+    public CookieOAuth2AuthorizationRequestRepository(SignedCookieCodec codec) {
+        this.codec = codec;
+    }
+
+    @Override
+    public OAuth2AuthorizationRequest loadAuthorizationRequest(HttpServletRequest request) {
+        OAuth2AuthorizationRequest authorizationRequest = codec.read(request, COOKIE_NAME)
+                .map(SerializationUtils::deserialize)
+                .filter(OAuth2AuthorizationRequest.class::isInstance)
+                .map(OAuth2AuthorizationRequest.class::cast)
+                .orElse(null);
+        String state = request.getParameter("state");
+
+        return authorizationRequest != null && (state == null || state.equals(authorizationRequest.getState()))
+                ? authorizationRequest
+                : null;
+    }
+
+    @Override
+    public void saveAuthorizationRequest(
+            OAuth2AuthorizationRequest authorizationRequest,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) {
+        if (authorizationRequest == null) {
+            codec.clear(response, COOKIE_NAME);
+            return;
+        }
+        codec.write(response, COOKIE_NAME, SerializationUtils.serialize(authorizationRequest), MAX_AGE);
+    }
+
+    @Override
+    public OAuth2AuthorizationRequest removeAuthorizationRequest(HttpServletRequest request) {
+        return loadAuthorizationRequest(request);
+    }
+
+    @Override
+    public OAuth2AuthorizationRequest removeAuthorizationRequest(HttpServletRequest request, HttpServletResponse response) {
+        OAuth2AuthorizationRequest authorizationRequest = loadAuthorizationRequest(request);
+        if (authorizationRequest != null) {
+            codec.clear(response, COOKIE_NAME);
+        }
+        return authorizationRequest;
+    }
+
+}
@@ -0,0 +1,104 @@
+package com.example.projectboard.security;
+
+import org.springframework.http.ResponseCookie;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * HMAC-SHA256 으로 서명한 쿠키를 읽고 쓴다.
+ * 값은 {@code base64url(payload).base64url(signature)} 형태이며, 서명이 맞지 않는 쿠키는 없는 것으로 취급한다.
+ * 모든 노드가 같은 비밀 키를 쓰면 어느 노드에서든 검증할 수 있다.
+ */
+public class SignedCookieCodec {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec key;
+    private final boolean secure;
+
+    public SignedCookieCodec(byte[] secret, boolean secure) {
+        if (secret.length < 32) {
+            throw new IllegalArgumentException("서명 키는 32 바이트 이상이어야 합니다.");
+        }
+        this.key = new SecretKeySpec(secret, ALGORITHM);
+        this.secure = secure;
+    }
+
+    public Optional<byte[]> read(HttpServletRequest request, String name) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return Optional.empty();
+        }
+        return Arrays.stream(cookies)
+                .filter(cookie -> cookie.getName().equals(name))
+                .findFirst()
+                .flatMap(cookie -> verify(cookie.getValue()));
+    }
+
+    public boolean contains(HttpServletRequest request, String name) {
+        Cookie[] cookies = request.getCookies();
+        return cookies != null && Arrays.stream(cookies).anyMatch(cookie -> cookie.getName().equals(name));
+    }
+
+    public void write(HttpServletResponse response, String name, byte[] payload, Duration maxAge) {
+        String value = ENCODER.encodeToString(payload) + "." + ENCODER.encodeToString(sign(payload));
+        addCookie(response, name, value, maxAge);
+    }
+
+    public void clear(HttpServletResponse response, String name) {
+        addCookie(response, name, "", Duration.ZERO);
+    }
+
+    private Optional<byte[]> verify(String value) {
+        int separator = value.indexOf('.');
+        if (separator < 0) {
+            return Optional.empty();
+        }
+        try {
+            byte[] payload = DECODER.decode(value.substring(0, separator));
+            byte[] signature = DECODER.decode(value.substring(separator + 1));
+            return MessageDigest.isEqual(sign(payload), signature) ? Optional.of(payload) : Optional.empty();
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    private byte[] sign(byte[] payload) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(payload);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void addCookie(HttpServletResponse response, String name, String value, Duration maxAge) {
+        ResponseCookie cookie = ResponseCookie.from(name, value)
+                .path("/")
+                .httpOnly(true)
+                .secure(secure)
+                .sameSite("Lax") // 카카오 로그인 후 돌아오는 top-level GET 요청에는 쿠키가 실려야 한다.
+                .maxAge(maxAge)
+                .build();
+        response.addHeader("Set-Cookie", cookie.toString());
+    }
+
+    static String utf8(byte[] bytes) {
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+}
@@ -0,0 +1,112 @@
+package com.example.projectboard.security;
+
+import com.example.projectboard.service.UserAccountService;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.context.HttpRequestResponseHolder;
+import org.springframework.security.web.context.SecurityContextRepository;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * 세션 대신 서명된 쿠키에 인증 정보를 담는 {@link SecurityContextRepository}.
+ *
+ * <p>
+ * 쿠키에는 username, 권한, 만료 시각만 담는다. ({@code BoardPrincipal} 전체나 OAuth2 속성은 담지 않는다.)
+ * 요청마다 username 으로 인증 주체를 다시 만들며, 이 조회는 {@link UserAccountService#searchPrincipal} 의 캐시를 탄다.
+ * 로그인 필터가 인증 직후 {@link #saveContext} 를 명시적으로 호출해야 한다. ({@code requireExplicitSave})
+ */
+public class SignedCookieSecurityContextRepository implements SecurityContextRepository {
+
+    private final SignedCookieCodec codec;
+    private final UserAccountService userAccountService;
+    private final String cookieName;
+    private final Duration maxAge;
+    private final Clock clock;
+
+    public SignedCookieSecurityContextRepository(
+            SignedCookieCodec codec,
+            UserAccountService userAccountService,
+            String cookieName,
+            Duration maxAge,
+            Clock clock
+    ) {
+        this.codec = codec;
+        this.userAccountService = userAccountService;
+        this.cookieName = cookieName;
+        this.maxAge = maxAge;
+        this.clock = clock;
+    }
+
+    @Override
+    public SecurityContext loadContext(HttpRequestResponseHolder requestResponseHolder) {
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        readToken(requestResponseHolder.getRequest())
+                .flatMap(this::authenticate)
+                .ifPresent(context::setAuthentication);
+        return context;
+    }
+
+    @Override
+    public void saveContext(SecurityContext context, HttpServletRequest request, HttpServletResponse response) {
+        Authentication authentication = context.getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken || !authentication.isAuthenticated()) {
+            if (codec.contains(request, cookieName)) {
+                codec.clear(response, cookieName);
+            }
+            return;
+        }
+
+        String roles = authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.joining(","));
+        long expiresAt = clock.instant().plus(maxAge).getEpochSecond();
+        String payload = String.join("\n", authentication.getName(), roles, String.valueOf(expiresAt));
+
+        codec.write(response, cookieName, payload.getBytes(StandardCharsets.UTF_8), maxAge);
+    }
+
+    @Override
+    public boolean containsContext(HttpServletRequest request) {
+        return readToken(request).isPresent();
+    }
+
+    private Optional<Token> readToken(HttpServletRequest request) {
+        return codec.read(request, cookieName)
+                .map(SignedCookieCodec::utf8)
+                .map(payload -> payload.split("\n", -1))
+                .filter(fields -> fields.length == 3)
+                .map(fields -> new Token(fields[0], List.of(fields[1].split(",")), Long.parseLong(fields[2])))
+                .filter(token -> token.expiresAt() > clock.instant().getEpochSecond());
+    }
+
+    /**
+     * 탈퇴 등으로 회원이 없어졌으면 인증하지 않는다.
+     */
+    private Optional<Authentication> authenticate(Token token) {
+        return userAccountService.searchPrincipal(token.username())
+                .map(principal -> UsernamePasswordAuthenticationToken.authenticated(
+                        principal,
+                        null,
+                        token.roles().stream()
+                                .filter(role -> !role.isBlank())
+                                .map(SimpleGrantedAuthority::new)
+                                .toList()
+                ));
+    }
+
+    private record Token(String username, List<String> roles, long expiresAt) {}
+
+}
@@ -0,0 +1,59 @@
+package com.example.projectboard.security;
+
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.web.authentication.SimpleUrlAuthenticationFailureHandler;
+import org.springframework.security.web.csrf.CookieCsrfTokenRepository;
+import org.springframework.security.web.savedrequest.CookieRequestCache;
+
+/**
+ * 세션 없이 동작하도록 {@link HttpSecurity} 를 바꾼다.
+ * 인증 정보, CSRF 토큰, 로그인 전 요청, OAuth2 인가 요청을 모두 쿠키에 두므로 여러 노드를 sticky session 없이 운영할 수 있다.
+ *
+ * <p>
+ * {@code SecurityConfig} 의 폼 로그인 / OAuth2 로그인 설정 위에 덧붙이는 방식이라, 로그인 방식 자체는 그대로다.
+ */
+public class StatelessSessionConfigurer {
+
+    private final SignedCookieSecurityContextRepository securityContextRepository;
+    private final CookieOAuth2AuthorizationRequestRepository authorizationRequestRepository;
+    private final String cookieName;
+
+    public StatelessSessionConfigurer(
+            SignedCookieSecurityContextRepository securityContextRepository,
+            CookieOAuth2AuthorizationRequestRepository authorizationRequestRepository,
+            String cookieName
+    ) {
+        this.securityContextRepository = securityContextRepository;
+        this.authorizationRequestRepository = authorizationRequestRepository;
+        this.cookieName = cookieName;
+    }
+
+    public void configure(HttpSecurity http) throws Exception {
+        http
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                // 로그인 필터가 인증 직후 저장하도록 한다. (응답이 커밋된 뒤에는 쿠키를 쓸 수 없으므로)
+                .securityContext(securityContext -> securityContext
+                        .securityContextRepository(securityContextRepository)
+                        .requireExplicitSave(true)
+                )
+                .csrf(csrf -> csrf.csrfTokenRepository(new CookieCsrfTokenRepository()))
+                .requestCache(requestCache -> requestCache.requestCache(new CookieRequestCache()))
+                // 기본 실패 처리기는 예외를 세션에 담으므로 세션을 만들지 않는 처리기로 바꾼다. (로그인 페이지는 ?error 만 보고 메시지를 보여준다)
+                .formLogin(form -> form.failureHandler(failureHandler()))
+                .oauth2Login(oAuth -> oAuth
+                        .authorizationEndpoint(authorization -> authorization
+                                .authorizationRequestRepository(authorizationRequestRepository)
+                        )
+                        .failureHandler(failureHandler())
+                )
+                .logout(logout -> logout.deleteCookies(cookieName));
+    }
+
+    private static SimpleUrlAuthenticationFailureHandler failureHandler() {
+        SimpleUrlAuthenticationFailureHandler failureHandler = new SimpleUrlAuthenticationFailureHandler("/login?error");
+        failureHandler.setAllowSessionCreation(false);
+        return failureHandler;
+    }
+
+}
@@ -5,23 +5,38 @@ import com.example.projectboard.domain.Hashtag;
 import com.example.projectboard.domain.UserAccount;
 import com.example.projectboard.domain.constant.SearchType;
 import com.example.projectboard.dto.ArticleDto;
-import com.example.projectboard.dto.ArticleWithCommentsDto;
+import com.example.projectboard.dto.ArticleVersion;
+import com.example.projectboard.dto.response.ArticleResponse;
+import com.example.projectboard.dto.response.ArticleWithCommentsResponse;
 import com.example.projectboard.repository.ArticleRepository;
 import com.example.projectboard.repository.HashtagRepository;
 import com.example.projectboard.repository.UserAccountRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import javax.persistence.EntityNotFoundException;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+/**
+ * 게시글 서비스.
+ *
+ * <p>
+ * 조회 메소드는 {@code dto.response} 의 응답 레코드를 바로 돌려준다. 컨트롤러 / 서비스 경계에 조회용 DTO 를 따로 두면
+ * 엔티티 → DTO → 응답으로 두 번 복사하게 되어, 목록 조회의 할당량이 두 배 넘게 늘어난다. (README "조회 응답 매핑")
+ * 그래서 조회 경로에서는 응답 레코드를 서비스의 반환 타입으로 쓰기로 했다. 응답 레코드는 엔티티를 참조하지 않는 불변 값이라
+ * 트랜잭션 밖으로 나가도 지연 로딩이 일어나지 않는다.
+ * 저장 / 수정 경로는 예전처럼 {@link ArticleDto} 를 받는다.
+ */
 @Slf4j
 @RequiredArgsConstructor
 @Transactional
@@ -32,41 +47,53 @@ public class ArticleService {
     private final ArticleRepository articleRepository;
     private final UserAccountRepository userAccountRepository;
     private final HashtagRepository hashtagRepository;
+    private final AuthorSummaryCache authorSummaryCache;
 
     @Transactional(readOnly = true)
-    public Page<ArticleDto> searchArticles(SearchType searchType, String searchKeyword, Pageable pageable) {
+    public Page<ArticleResponse> searchArticles(SearchType searchType, String searchKeyword, Pageable pageable) {
         // 검색어가 없는 경우
         if (searchKeyword == null || searchKeyword.isBlank()) {
             // Page 인터페이스 안에 map() 은 Page<U> 안에 내용물을 형 변환한 것을 다시 Page로 감싸는 기능
-            // ArticleDto.from 을 이용해서 Article 을 ArticleDto 로 형 변환
-            return articleRepository.findAll(pageable).map(ArticleDto::from);
+            // toResponse 를 이용해서 Article 을 ArticleResponse 로 형 변환
+            return articleRepository.findAll(pageable).map(this::toResponse);
         }
 
         // 검색어가 있는 경우 : 제목 검색 쿼리, id 검색 쿼리 SearchType 에 따라 쿼리를 따로 만들 예정
         return switch (searchType) {
-            case TITLE -> articleRepository.findByTitleContaining(searchKeyword, pageable).map(ArticleDto::from);
-            case CONTENT -> articleRepository.findByContentContaining(searchKeyword, pageable).map(ArticleDto::from);
-            case ID -> articleRepository.findByUserAccount_UserIdContaining(searchKeyword, pageable).map(ArticleDto::from);
-            case NICKNAME -> articleRepository.findByUserAccount_NicknameContaining(searchKeyword, pageable).map(ArticleDto::from);
+            case TITLE -> articleRepository.findByTitleContaining(searchKeyword, pageable).map(this::toResponse);
+            case CONTENT -> articleRepository.findByContentContaining(searchKeyword, pageable).map(this::toResponse);
+            case ID -> articleRepository.findByUserAccount_UserIdContaining(searchKeyword, pageable).map(this::toResponse);
+            case NICKNAME -> articleRepository.findByUserAccount_NicknameContaining(searchKeyword, pageable).map(this::toResponse);
             case HASHTAG -> articleRepository.findByHashtagNames(
                             Arrays.stream(searchKeyword.split(" ")).toList(),
                             pageable
                     )
-                    .map(ArticleDto::from);
+                    .map(this::toResponse);
         };
     }
 
+    /**
+     * id 커서 이전(더 오래된) 게시글을 최신순으로 {@code size} 건 조회한다. 커서가 없으면 가장 최근 글부터.
+     */
     @Transactional(readOnly = true)
-    public ArticleWithCommentsDto getArticleWithComments(Long articleId) {
+    public List<ArticleResponse> getArticlesBefore(Long cursor, int size) {
+        Pageable pageable = PageRequest.of(0, size, Sort.by(Sort.Direction.DESC, "id"));
+        return articleRepository.findByIdLessThan(cursor == null ? Long.MAX_VALUE : cursor, pageable)
+                .map(this::toResponse)
+                .getContent();
+    }
+
+    @Transactional(readOnly = true)
+    public ArticleWithCommentsResponse getArticleWithComments(Long articleId) {
         return articleRepository.findById(articleId)
-                .map(ArticleWithCommentsDto::from)
+                .map(article -> ArticleWithCommentsResponse.from(article, authorSummaryCache::get))
                 .orElseThrow(() -> new EntityNotFoundException("게시글이 없습니다 - articleId: " + articleId));
     }
 
     @Transactional(readOnly = true)
-    public ArticleDto getArticle(Long articleId) {
+    public ArticleResponse getArticle(Long articleId) {
         return articleRepository.findById(articleId)
-                .map(ArticleDto::from)
+                .map(this::toResponse)
                 .orElseThrow(() -> new EntityNotFoundException("게시글이 없습니다 - articleId: " + articleId));
     }
 
@@ -116,22 +143,41 @@ public class ArticleService {
         hashtagIds.forEach(hashtagService::deleteHashtagWithoutArticles);
     }
 
+    @Transactional(readOnly = true)
+    public Optional<ArticleVersion> getArticleVersion(Long articleId) {
+        return articleRepository.findArticleVersion(articleId);
+    }
+
+    @Transactional(readOnly = true)
+    public long getLastArticleId() {
+        return articleRepository.findLastArticleId().orElse(0L);
+    }
+
+    @Transactional(readOnly = true)
     public long getArticleCount() {
         return articleRepository.count();
     }
 
     @Transactional(readOnly = true)
-    public Page<ArticleDto> searchArticlesViaHashtag(String hashtagName, Pageable pageable) {
+    public Page<ArticleResponse> searchArticlesViaHashtag(String hashtagName, Pageable pageable) {
         if (hashtagName == null || hashtagName.isBlank()) {
             return Page.empty(pageable);
         }
-        return articleRepository.findByHashtagNames(List.of(hashtagName), pageable).map(ArticleDto::from);
+        return articleRepository.findByHashtagNames(List.of(hashtagName), pageable).map(this::toResponse);
     }
 
+    @Transactional(readOnly = true)
     public List<String> getHashtags() {
         return hashtagRepository.findAllHashtagNames(); // TODO: HashtagService 로 이동을 고려해보자.
     }
 
+    /**
+     * 작성자 정보는 회원별로 캐시된 인스턴스를 쓴다. (한 페이지에서 같은 회원의 글은 같은 작성자 정보를 참조)
+     */
+    private ArticleResponse toResponse(Article article) {
+        return ArticleResponse.from(article, authorSummaryCache::get);
+    }
+
     private Set<Hashtag> renewHashtagsFromContent(String content) {
         Set<String> hashtagNamesInContent = hashtagService.parseHashtagNames(content);
         Set<Hashtag> hashtags = hashtagService.findHashtagsByNames(hashtagNamesInContent);
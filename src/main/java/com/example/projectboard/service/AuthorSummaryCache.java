@@ -0,0 +1,61 @@
+package com.example.projectboard.service;
+
+import com.example.projectboard.domain.UserAccount;
+import com.example.projectboard.domain.event.UserAccountChangedEvent;
+import com.example.projectboard.dto.response.AuthorSummary;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Objects;
+
+/**
+ * 회원별 작성자 정보({@link AuthorSummary}) 캐시. 목록 / 댓글 스레드를 그릴 때 행마다 작성자 정보를 새로 만들지 않고 캐시된 인스턴스를 쓴다.
+ * 회원이 수정 / 삭제되면 {@link UserAccountChangedEvent} 를 받아 해당 회원의 캐시를 지운다.
+ */
+@Component
+public class AuthorSummaryCache {
+
+    public static final String CACHE_NAME = "authorSummaries";
+
+    private final Cache cache;
+
+    public AuthorSummaryCache(CacheManager cacheManager) {
+        this.cache = Objects.requireNonNull(cacheManager.getCache(CACHE_NAME), "ehcache.xml 에 " + CACHE_NAME + " 캐시가 없습니다.");
+    }
+
+    public AuthorSummary get(UserAccount userAccount) {
+        AuthorSummary cached = cache.get(userAccount.getUserId(), AuthorSummary.class);
+        if (cached != null) {
+            return cached;
+        }
+
+        // 동시에 만들었으면 먼저 들어간 인스턴스를 쓴다.
+        AuthorSummary created = AuthorSummary.from(userAccount);
+        Cache.ValueWrapper existing = cache.putIfAbsent(userAccount.getUserId(), created);
+        return existing != null && existing.get() instanceof AuthorSummary summary ? summary : created;
+    }
+
+    @EventListener
+    public void onUserAccountChanged(UserAccountChangedEvent event) {
+        evict(event.userId());
+    }
+
+    public void evict(String userId) {
+        cache.evict(userId);
+
+        // 커밋 전에 다른 요청이 이전 값을 다시 캐시할 수 있으므로 커밋 후에 한 번 더 지운다.
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.evict(userId);
+                }
+            });
+        }
+    }
+
+}
@@ -0,0 +1,40 @@
+package com.example.projectboard.service;
+
+import com.example.projectboard.dto.api.ArticleCommentSummary;
+import com.example.projectboard.dto.api.ArticleSummary;
+import com.example.projectboard.dto.api.CursorPage;
+import com.example.projectboard.dto.api.HashtagSummary;
+import com.example.projectboard.repository.ReadApiRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Service
+public class ReadApiService {
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private final ReadApiRepository readApiRepository;
+
+    public CursorPage<ArticleSummary> getArticles(Long cursor, int size) {
+        int pageSize = normalize(size);
+        return CursorPage.of(readApiRepository.findArticles(cursor, pageSize + 1), pageSize, ArticleSummary::id);
+    }
+
+    public CursorPage<ArticleCommentSummary> getArticleComments(Long articleId, Long cursor, int size) {
+        int pageSize = normalize(size);
+        return CursorPage.of(readApiRepository.findArticleComments(articleId, cursor, pageSize + 1), pageSize, ArticleCommentSummary::id);
+    }
+
+    public CursorPage<HashtagSummary> getHashtags(Long cursor, int size) {
+        int pageSize = normalize(size);
+        return CursorPage.of(readApiRepository.findHashtags(cursor, pageSize + 1), pageSize, HashtagSummary::id);
+    }
+
+    private int normalize(int size) {
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+
+}
@@ -1,11 +1,20 @@
 package com.example.projectboard.service;
 
 import com.example.projectboard.domain.UserAccount;
+import com.example.projectboard.domain.event.UserAccountChangedEvent;
 import com.example.projectboard.dto.UserAccountDto;
+import com.example.projectboard.dto.security.BoardPrincipal;
 import com.example.projectboard.repository.UserAccountRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.Optional;
 
@@ -14,7 +23,10 @@ import java.util.Optional;
 @Service
 public class UserAccountService {
 
+    public static final String PRINCIPAL_CACHE_NAME = "principals";
+
     private final UserAccountRepository userAccountRepository;
+    private final CacheManager cacheManager;
 
     @Transactional(readOnly = true)
     public Optional<UserAccountDto> searchUser(String username) {
@@ -22,10 +34,46 @@ public class UserAccountService {
                 .map(UserAccountDto::from);
     }
 
+    /**
+     * 로그인(폼, OAuth2)마다 호출되므로 인증 주체를 username 으로 캐시한다.
+     * 없는 사용자는 캐시하지 않는다. (OAuth2 최초 로그인 직후 가입되므로)
+     */
+    @Cacheable(cacheNames = PRINCIPAL_CACHE_NAME, unless = "#result == null")
+    @Transactional(readOnly = true)
+    public Optional<BoardPrincipal> searchPrincipal(String username) {
+        return userAccountRepository.findById(username)
+                .map(UserAccountDto::from)
+                .map(BoardPrincipal::from);
+    }
+
+    @CacheEvict(cacheNames = PRINCIPAL_CACHE_NAME, key = "#username")
     public UserAccountDto saveUser(String username, String password, String email, String nickname, String memo) {
         return UserAccountDto.from(
                 userAccountRepository.save(UserAccount.of(username, password, email, nickname, memo, username))
         );
     }
 
+    /**
+     * 회원이 수정 / 삭제되면(더티 체킹, Data REST 포함) 캐시된 인증 주체를 지운다.
+     * 지우지 않으면 바뀌기 전 비밀번호 / 닉네임이나 삭제된 회원으로 TTL 동안 계속 인증된다.
+     */
+    @EventListener
+    public void onUserAccountChanged(UserAccountChangedEvent event) {
+        Cache cache = cacheManager.getCache(PRINCIPAL_CACHE_NAME);
+        if (cache == null) {
+            return;
+        }
+        cache.evict(event.userId());
+
+        // 커밋 전에 다른 요청이 이전 값을 다시 캐시할 수 있으므로 커밋 후에 한 번 더 지운다.
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.evict(event.userId());
+                }
+            });
+        }
+    }
+
 }
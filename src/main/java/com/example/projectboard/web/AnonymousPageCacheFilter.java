@@ -0,0 +1,143 @@
+package com.example.projectboard.web;
+
+import com.example.projectboard.domain.event.UserAccountChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AuthenticationTrustResolver;
+import org.springframework.security.authentication.AuthenticationTrustResolverImpl;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.UrlPathHelper;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * 로그인하지 않은 사용자의 게시판 목록 GET 요청에 대해, 렌더링된 HTML 전체를 짧게(ehcache.xml) 캐시한다.
+ * <p>
+ * 캐시 키는 경로와, 이름순으로 정렬한 쿼리 파라미터(검색, 페이지, 정렬)다.
+ * 게시글 / 댓글 / Data REST 쓰기 요청이 성공하면 캐시 전체를 비운다. 회원 정보(닉네임 등)가 바뀌었을 때도 커밋 후에 비운다.
+ * 다른 노드의 캐시는 TTL 로 만료된다.
+ * 시큐리티 필터 다음에 실행되어야 로그인 여부를 알 수 있다.
+ */
+@RequiredArgsConstructor
+public class AnonymousPageCacheFilter extends OncePerRequestFilter {
+
+    public static final String CACHE_NAME = "anonymousPages";
+    public static final String CACHE_STATUS_HEADER = "X-Page-Cache";
+
+    private static final Set<String> CACHEABLE_PATHS = Set.of("/", "/articles", "/articles/search-hashtag");
+    private static final Set<String> READ_METHODS = Set.of("GET", "HEAD", "OPTIONS", "TRACE");
+
+    private final Cache cache;
+    private final AuthenticationTrustResolver trustResolver = new AuthenticationTrustResolverImpl();
+    private final UrlPathHelper urlPathHelper = new UrlPathHelper();
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        String path = normalizePath(urlPathHelper.getPathWithinApplication(request));
+
+        if (!READ_METHODS.contains(request.getMethod())) {
+            filterChain.doFilter(request, response);
+            if (affectsCachedPages(path) && response.getStatus() < HttpStatus.BAD_REQUEST.value()) {
+                cache.clear();
+            }
+            return;
+        }
+
+        if (!"GET".equals(request.getMethod()) || !CACHEABLE_PATHS.contains(path) || !isAnonymous()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String key = cacheKey(path, request);
+        CachedPage cached = cache.get(key, CachedPage.class);
+        if (cached != null) {
+            response.setHeader(CACHE_STATUS_HEADER, "HIT");
+            response.setContentType(cached.contentType());
+            response.setContentLength(cached.body().length);
+            response.getOutputStream().write(cached.body());
+            return;
+        }
+
+        response.setHeader(CACHE_STATUS_HEADER, "MISS");
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        try {
+            filterChain.doFilter(request, responseWrapper);
+            if (isCacheable(responseWrapper)) {
+                cache.put(key, CachedPage.of(responseWrapper.getContentType(), responseWrapper.getContentAsByteArray()));
+            }
+        } finally {
+            responseWrapper.copyBodyToResponse();
+        }
+    }
+
+    /**
+     * 목록에 작성자 닉네임이 찍혀 있으므로 회원 정보가 바뀌면 비운다. 커밋 전에 비우면 그 사이 요청이 예전 닉네임으로 다시 캐시할 수 있다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserAccountChanged(UserAccountChangedEvent event) {
+        cache.clear();
+    }
+
+    private boolean isAnonymous() {
+        var authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication == null || trustResolver.isAnonymous(authentication);
+    }
+
+    /**
+     * 200 HTML 이면서, 세션 쿠키처럼 방문자마다 다른 헤더가 없는 응답만 캐시한다.
+     */
+    private static boolean isCacheable(ContentCachingResponseWrapper response) {
+        return response.getStatus() == HttpStatus.OK.value()
+                && response.getContentType() != null
+                && MediaType.TEXT_HTML.isCompatibleWith(MediaType.parseMediaType(response.getContentType()))
+                && !response.containsHeader(HttpHeaders.SET_COOKIE);
+    }
+
+    private static boolean affectsCachedPages(String path) {
+        return path.startsWith("/articles") || path.startsWith("/api/");
+    }
+
+    private static String normalizePath(String path) {
+        return path.length() > 1 && path.endsWith("/") ? path.substring(0, path.length() - 1) : path;
+    }
+
+    /**
+     * 파라미터 순서가 달라도 같은 키가 되도록 이름순으로 정렬한다. 값이 빈 파라미터는 없는 것과 같다.
+     * 여러 값을 가진 파라미터는 {@code name=value} 를 값마다 반복하고(값의 순서는 유지), 이름과 값은 URL 인코딩해서
+     * {@code sort=title,asc&sort=createdAt,desc} 와 {@code sort=title,asc,createdAt,desc} 가 다른 키가 되도록 한다.
+     */
+    static String cacheKey(String path, HttpServletRequest request) {
+        String query = new TreeMap<>(request.getParameterMap()).entrySet().stream()
+                .flatMap(entry -> Arrays.stream(entry.getValue())
+                        .filter(value -> !value.isBlank())
+                        .map(value -> encode(entry.getKey()) + "=" + encode(value)))
+                .collect(Collectors.joining("&"));
+
+        return query.isEmpty() ? path : path + "?" + query;
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+}
@@ -0,0 +1,121 @@
+package com.example.projectboard.web;
+
+import com.example.projectboard.dto.ArticleVersion;
+import com.example.projectboard.service.ArticleService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.PathContainer;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.csrf.CsrfToken;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 게시글 상세 / 댓글 스레드 조회에 ETag, Last-Modified 를 붙이고,
+ * 버전이 같으면 게시글 조회와 템플릿 렌더링 없이 304 로 응답한다.
+ * <p>
+ * 버전은 게시글 / 댓글 / 작성자 / 댓글 작성자의 수정 시각과 댓글 수로 정하며 본문은 조회하지 않는다.
+ * 시큐리티 필터 다음에 실행되어야 로그인 사용자와 CSRF 토큰을 알 수 있다.
+ */
+@RequiredArgsConstructor
+public class ArticleConditionalGetFilter extends OncePerRequestFilter {
+
+    private static final List<Route> ROUTES = List.of(
+            // 화면은 로그인 사용자, CSRF 토큰, 다음 글 링크에 따라서도 달라진다. 이전 글 링크는 게시글 ID 만으로 정해진다.
+            new Route("/articles/{articleId}", true, true),
+            // Data REST 가 @LastModifiedDate 로 Last-Modified 를 직접 쓰므로 ETag 만 붙인다.
+            new Route("/api/articles/{articleId}", false, false),
+            new Route("/api/articles/{articleId}/articleComments", false, true),
+            new Route("/api/v2/articles/{articleId}/comments", false, true)
+    );
+
+    private final ArticleService articleService;
+    private final UrlPathHelper urlPathHelper = new UrlPathHelper();
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"GET".equals(request.getMethod()) && !"HEAD".equals(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        PathContainer path = PathContainer.parsePath(urlPathHelper.getPathWithinApplication(request));
+
+        for (Route route : ROUTES) {
+            PathPattern.PathMatchInfo matchInfo = route.pattern().matchAndExtract(path);
+            if (matchInfo == null) {
+                continue;
+            }
+
+            Optional<ArticleVersion> version = parseArticleId(matchInfo).flatMap(articleService::getArticleVersion);
+            if (version.isPresent() && isNotModified(route, version.get(), request, response)) {
+                return;
+            }
+            break;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private boolean isNotModified(Route route, ArticleVersion version, HttpServletRequest request, HttpServletResponse response) {
+        String etag = etag(route, version, request);
+        CacheControl cacheControl = route.personalized() ? CacheControl.noCache().cachePrivate() : CacheControl.noCache();
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue()); // 시큐리티의 no-store 기본값 대신 재검증만 요구한다.
+
+        ServletWebRequest webRequest = new ServletWebRequest(request, response);
+        return route.lastModified()
+                ? webRequest.checkNotModified(etag, version.lastModified())
+                : webRequest.checkNotModified(etag);
+    }
+
+    private String etag(Route route, ArticleVersion version, HttpServletRequest request) {
+        StringBuilder source = new StringBuilder(version.tag());
+        if (route.personalized()) {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            CsrfToken csrfToken = (CsrfToken) request.getAttribute(CsrfToken.class.getName());
+            source.append('|').append(version.hasNextArticle())
+                    .append('|').append(authentication == null ? "" : authentication.getName())
+                    .append('|').append(csrfToken == null ? "" : csrfToken.getToken());
+        }
+
+        return "\"" + DigestUtils.md5DigestAsHex(source.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    private static Optional<Long> parseArticleId(PathPattern.PathMatchInfo matchInfo) {
+        try {
+            return Optional.of(Long.valueOf(matchInfo.getUriVariables().get("articleId")));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * @param personalized 사용자마다 응답이 다른 화면인지 여부
+     * @param lastModified Last-Modified 를 이 필터가 쓸지 여부
+     */
+    private record Route(PathPattern pattern, boolean personalized, boolean lastModified) {
+        Route(String pattern, boolean personalized, boolean lastModified) {
+            this(PathPatternParser.defaultInstance.parse(pattern), personalized, lastModified);
+        }
+    }
+
+}
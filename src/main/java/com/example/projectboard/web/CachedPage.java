@@ -0,0 +1,17 @@
+package com.example.projectboard.web;
+
+import java.io.Serializable;
+
+/**
+ * 익명 사용자용으로 렌더링이 끝난 HTML 응답.
+ */
+public record CachedPage(
+        String contentType,
+        byte[] body
+) implements Serializable {
+
+    public static CachedPage of(String contentType, byte[] body) {
+        return new CachedPage(contentType, body);
+    }
+
+}
@@ -0,0 +1,87 @@
+package com.example.projectboard.web;
+
+import com.example.projectboard.monitoring.SqlStatementCounter;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 컨트롤러가 화면 모델을 만들 때, 서로 관계없는 조회용 서비스 호출을 동시에 실행한다.
+ * 호출마다 다른 스레드에서 실행되므로 서비스 메소드의 {@code @Transactional(readOnly = true)} 로 각자 읽기 전용 트랜잭션을 연다.
+ * 호출한 스레드의 인증 정보(SecurityContext)는 작업 스레드로 전달되고, 작업 스레드가 실행한 SQL 은
+ * 결과를 받을 때 호출한 스레드의 SQL 수 측정 구간({@link SqlStatementCounter})에 더해진다.
+ */
+public class ConcurrentReads {
+
+    private final ExecutorService executor;
+    private final Duration timeout;
+
+    public ConcurrentReads(ExecutorService executor, Duration timeout) {
+        this.executor = new DelegatingSecurityContextExecutorService(executor);
+        this.timeout = timeout;
+    }
+
+    /**
+     * 조회를 바로 시작하고, 결과는 {@link Read#get()} 으로 받는다. 제출한 시점부터 제한 시간을 센다.
+     */
+    public <T> Read<T> submit(Supplier<T> query) {
+        long deadlineNanos = System.nanoTime() + timeout.toNanos();
+        SqlStatementCounter.Recording recording = new SqlStatementCounter.Recording();
+        return new Read<>(executor.submit(() -> recording.run(query)), deadlineNanos, recording);
+    }
+
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+
+    public static final class Read<T> {
+
+        private final Future<T> future;
+        private final long deadlineNanos;
+        private final SqlStatementCounter.Recording recording;
+
+        private Read(Future<T> future, long deadlineNanos, SqlStatementCounter.Recording recording) {
+            this.future = future;
+            this.deadlineNanos = deadlineNanos;
+            this.recording = recording;
+        }
+
+        /**
+         * 결과를 기다린다. 조회 중 발생한 예외는 그대로 던지고, 제한 시간을 넘기면 조회를 취소하고 503 으로 응답한다.
+         */
+        public T get() {
+            try {
+                T result = future.get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+                recording.addToCurrentThread();
+                return result;
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "조회 시간이 초과되었습니다.", e);
+            } catch (InterruptedException e) {
+                future.cancel(true);
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("조회 결과를 기다리다 중단되었습니다.", e);
+            } catch (ExecutionException e) {
+                recording.addToCurrentThread();
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                if (e.getCause() instanceof Error error) {
+                    throw error;
+                }
+                throw new IllegalStateException(e.getCause());
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,86 @@
+package com.example.projectboard.web;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * 키(id) 커서로 한 묶음씩 필요할 때 조회하는 반복자. 템플릿이 행을 그리는 동안 다음 묶음을 조회하므로,
+ * 전체 목록을 미리 메모리에 올리지 않고 한 묶음만 들고 있다.
+ * <p>
+ * 묶음을 조회하기 직전마다 {@code beforeFetch} 를 호출한다. 화면에서는 지금까지 그린 HTML 을 내보내는(flush) 데 쓴다.
+ */
+public class KeysetPageIterator<T> implements Iterator<T> {
+
+    private final BiFunction<Long, Integer, List<T>> fetcher;
+    private final Function<T, Long> keyExtractor;
+    private final int limit;
+    private final int batchSize;
+    private final Runnable beforeFetch;
+
+    private Iterator<T> batch = List.<T>of().iterator();
+    private Long lastKey;
+    private int returned;
+    private boolean exhausted;
+
+    /**
+     * @param fetcher  (커서, 묶음 크기) 로 커서 다음 행들을 조회한다. 커서가 {@code null} 이면 처음부터 조회한다.
+     * @param cursor   시작 커서. 이 키 다음부터 조회한다.
+     * @param limit    최대 행 수
+     */
+    public KeysetPageIterator(
+            BiFunction<Long, Integer, List<T>> fetcher,
+            Function<T, Long> keyExtractor,
+            Long cursor,
+            int limit,
+            int batchSize,
+            Runnable beforeFetch
+    ) {
+        this.fetcher = fetcher;
+        this.keyExtractor = keyExtractor;
+        this.lastKey = cursor;
+        this.limit = limit;
+        this.batchSize = batchSize;
+        this.beforeFetch = beforeFetch;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (returned >= limit) {
+            return false;
+        }
+        if (!batch.hasNext() && !exhausted) {
+            fetchNextBatch();
+        }
+        return batch.hasNext();
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        T row = batch.next();
+        lastKey = keyExtractor.apply(row);
+        returned++;
+        return row;
+    }
+
+    /**
+     * 반복이 끝난 뒤에, 최대 행 수에서 멈췄다면 다음 페이지 커서를 반환한다. 끝까지 읽었으면 {@code null}.
+     */
+    public Long getNextCursor() {
+        return returned >= limit && !exhausted ? lastKey : null;
+    }
+
+    private void fetchNextBatch() {
+        beforeFetch.run();
+        int size = Math.min(batchSize, limit - returned);
+        List<T> rows = fetcher.apply(lastKey, size);
+        exhausted = rows.size() < size;
+        batch = rows.iterator();
+    }
+
+}
@@ -0,0 +1,37 @@
+package com.example.projectboard.web;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.resource.ResourceHttpRequestHandler;
+import org.springframework.web.util.UrlPathHelper;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * 정적 리소스 캐시 헤더.
+ * 내용 해시가 붙은 경로({@code /css/search-bar-<md5>.css})는 내용이 바뀌면 경로도 바뀌므로 1년 동안 재검증 없이 캐시하고,
+ * 해시 없는 경로는 매번 재검증(Last-Modified)하게 한다.
+ */
+public class StaticResourceCacheInterceptor implements HandlerInterceptor {
+
+    private static final Pattern CONTENT_VERSION = Pattern.compile("-[0-9a-f]{32}\\.[^/.]+$");
+    // 스프링 5.3 의 CacheControl 에는 immutable 이 없어서 직접 붙인다.
+    private static final String IMMUTABLE = CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().getHeaderValue() + ", immutable";
+    private static final String REVALIDATE = CacheControl.noCache().cachePublic().getHeaderValue();
+
+    private final UrlPathHelper urlPathHelper = new UrlPathHelper();
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof ResourceHttpRequestHandler) {
+            String path = urlPathHelper.getLookupPathForRequest(request);
+            response.setHeader(HttpHeaders.CACHE_CONTROL, CONTENT_VERSION.matcher(path).find() ? IMMUTABLE : REVALIDATE);
+        }
+        return true;
+    }
+
+}
@@ -0,0 +1,83 @@
+-- 기준 스키마: 지금까지 hibernate.ddl-auto=create 로 만들던 스키마와 같다. (H2Dialect)
+
+create table article (
+    id bigint generated by default as identity,
+    created_at timestamp not null,
+    created_by varchar(100) not null,
+    modified_at timestamp not null,
+    modified_by varchar(100) not null,
+    content varchar(10000) not null,
+    normalized_content varchar(10000),
+    normalized_created_by varchar(100),
+    normalized_title varchar(255),
+    title varchar(255) not null,
+    user_id varchar(50) not null,
+    primary key (id)
+);
+
+create table article_hashtag (
+    article_id bigint not null,
+    hashtag_id bigint not null,
+    primary key (article_id, hashtag_id)
+);
+
+create table article_comment (
+    id bigint generated by default as identity,
+    created_at timestamp not null,
+    created_by varchar(100) not null,
+    modified_at timestamp not null,
+    modified_by varchar(100) not null,
+    content varchar(500) not null,
+    normalized_content varchar(500),
+    normalized_created_by varchar(100),
+    parent_comment_id bigint,
+    article_id bigint not null,
+    user_id varchar(50) not null,
+    primary key (id)
+);
+
+create table hashtag (
+    id bigint generated by default as identity,
+    created_at timestamp not null,
+    created_by varchar(100) not null,
+    modified_at timestamp not null,
+    modified_by varchar(100) not null,
+    hashtag_name varchar(255) not null,
+    primary key (id)
+);
+
+create table user_account (
+    user_id varchar(50) not null,
+    created_at timestamp not null,
+    created_by varchar(100) not null,
+    modified_at timestamp not null,
+    modified_by varchar(100) not null,
+    email varchar(100),
+    memo varchar(255),
+    nickname varchar(100),
+    user_password varchar(255) not null,
+    primary key (user_id)
+);
+
+create index IDX571gx7oqo5xpmgocegaidlcu9 on article (title);
+create index IDXrmt77yibijtk4sarremr67saa on article (created_at);
+create index IDXjl4utii2etiocimt799wvtuvv on article (created_by);
+create index IDX7x055f1f4g3lijq70jrwiprlt on article (normalized_title);
+create index IDXhiyutejpmoeqpqacsxf6yvouf on article (normalized_created_by);
+create index IDXpieqqnljv147sefofs56h25qx on article_comment (content);
+create index IDXh1jx107qecntcbcpc2vfb07ij on article_comment (created_at);
+create index IDXc6pa61djuf2o8xnceyyvtdbaq on article_comment (created_by);
+create index IDXgkl1n38uenunr9s28nam4akwv on article_comment (normalized_content);
+create index IDXrjylg09g0ui3hfev72rnaax3o on article_comment (normalized_created_by);
+create index IDXqsw749049hk4qchgifri26i47 on hashtag (created_at);
+create index IDX86k52tgc32cdprjluy33m0k2d on hashtag (created_by);
+alter table hashtag add constraint UKl5g14scs493ujoy0bh0slbp7a unique (hashtag_name);
+create index IDXogja11wxoxigeh554wd4094xv on user_account (created_at);
+create index IDX9twf822xbr2e0qcmnxueulgfw on user_account (created_by);
+alter table user_account add constraint UKhl02wv5hym99ys465woijmfib unique (email);
+
+alter table article add constraint FK81hjxo20c0so6pxe8rjpjlhj4 foreign key (user_id) references user_account;
+alter table article_hashtag add constraint FKe3ccvxb3rjbjyugsttrkpabma foreign key (hashtag_id) references hashtag;
+alter table article_hashtag add constraint FK4adimje6fx9kut67u6jd9c174 foreign key (article_id) references article;
+alter table article_comment add constraint FKghmocqkgqs5tkmucf5putw64t foreign key (article_id) references article;
+alter table article_comment add constraint FK67dybe2dob8uvrr7fyicyb1no foreign key (user_id) references user_account;
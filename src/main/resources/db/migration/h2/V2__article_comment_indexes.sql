@@ -0,0 +1,5 @@
+-- 게시글 상세의 댓글 목록은 article_id 로 찾고 created_at 으로 정렬한다. 정렬까지 인덱스로 끝내도록 복합 인덱스를 만든다.
+create index idx_article_comment_article_id_created_at on article_comment (article_id, created_at);
+
+-- 댓글 본문 검색은 normalized_content 를 쓰므로 content 인덱스는 어떤 실행 계획에도 나오지 않는다. (인덱스 점검 리포트의 unused)
+drop index IDXpieqqnljv147sefofs56h25qx;
@@ -0,0 +1,3 @@
+-- 댓글 본문 검색은 접두어 검색('java*')일 때만 normalized_content 인덱스를 쓰고, 기본인 포함 검색(like '%java%')에서는 쓰지 못한다.
+-- 부하 테스트 인덱스 점검 리포트에서도 unused 로 나오고, 댓글을 쓸 때마다 갱신 비용만 들므로 지운다.
+drop index IDXgkl1n38uenunr9s28nam4akwv on article_comment;
@@ -1,3 +1,5 @@
+-- 개발 / 테스트용 시드 데이터. 스키마 마이그레이션을 모두 적용한 뒤, 별도 이력 테이블(flyway_seed_history)로 한 번만 적용된다. (SeedDataConfig)
+
 -- 테스트 계정
 -- TODO: 테스트용이지만 비밀번호가 노출된 데이터 세팅. 개선하는 것이 좋을 지 고민해 보자.
 insert into user_account (user_id, user_password, nickname, email, memo, created_at, created_by, modified_at, modified_by) values
@@ -1008,3 +1010,9 @@ insert into article_hashtag (article_id, hashtag_id) values
 (120, 18),
 (122, 18)
 ;
+
+-- 대소문자 구분 없는 검색용 섀도 컬럼 (애플리케이션에서 저장할 때는 엔티티가 SearchNormalizer 로 채운다)
+-- lower() 는 유니코드 NFC 정규화를 하지 않고 데이터베이스마다 대소문자 규칙이 달라 SearchNormalizer 와 다를 수 있다.
+-- 시드 데이터는 ASCII 와 이미 NFC 인 한글뿐이라 결과가 같다. 다른 문자를 넣으면 SeedDataConfigTest 의 섀도 컬럼 검증이 실패한다.
+update article set normalized_title = lower(title), normalized_content = lower(content), normalized_created_by = lower(created_by);
+update article_comment set normalized_content = lower(content), normalized_created_by = lower(created_by);
@@ -0,0 +1,126 @@
+package com.example.projectboard.config;
+
+import com.example.projectboard.dto.UserAccountDto;
+import com.example.projectboard.dto.security.BoardPrincipal;
+import com.example.projectboard.service.UserAccountService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.oauth2.client.registration.ClientRegistration;
+import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
+import org.springframework.security.oauth2.client.userinfo.OAuth2UserService;
+import org.springframework.security.oauth2.core.AuthorizationGrantType;
+import org.springframework.security.oauth2.core.OAuth2AccessToken;
+import org.springframework.security.oauth2.core.user.DefaultOAuth2User;
+import org.springframework.security.oauth2.core.user.OAuth2User;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@DisplayName("설정 - 카카오 OAuth2 로그인")
+@ExtendWith(MockitoExtension.class)
+class SecurityConfigTest {
+
+    private static final String USERNAME = "kakao_1234567890";
+
+    @Mock private OAuth2UserService<OAuth2UserRequest, OAuth2User> delegate;
+    @Mock private UserAccountService userAccountService;
+    @Mock private PasswordEncoder passwordEncoder;
+
+    private OAuth2UserService<OAuth2UserRequest, OAuth2User> sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = SecurityConfig.kakaoOAuth2UserService(delegate, userAccountService, passwordEncoder);
+    }
+
+    @DisplayName("이미 가입한 회원이 카카오로 로그인하면, 더미 비밀번호를 인코딩하지 않고 기존 회원 정보를 반환한다.")
+    @Test
+    void givenExistingUser_whenLoadingUser_thenReturnsPrincipalWithoutEncodingPassword() {
+        // Given
+        OAuth2UserRequest userRequest = createUserRequest();
+        BoardPrincipal principal = BoardPrincipal.from(createUserAccountDto(USERNAME));
+        given(delegate.loadUser(userRequest)).willReturn(createKakaoUser());
+        given(userAccountService.searchPrincipal(USERNAME)).willReturn(Optional.of(principal));
+
+        // When
+        OAuth2User result = sut.loadUser(userRequest);
+
+        // Then
+        assertThat(result).isSameAs(principal);
+        then(passwordEncoder).should(never()).encode(any());
+        then(userAccountService).should(never()).saveUser(anyString(), anyString(), anyString(), anyString(), any());
+    }
+
+    @DisplayName("처음 카카오로 로그인하면, 더미 비밀번호를 인코딩해 회원으로 가입시킨다.")
+    @Test
+    void givenNewUser_whenLoadingUser_thenSavesUserWithEncodedPassword() {
+        // Given
+        OAuth2UserRequest userRequest = createUserRequest();
+        given(delegate.loadUser(userRequest)).willReturn(createKakaoUser());
+        given(userAccountService.searchPrincipal(USERNAME)).willReturn(Optional.empty());
+        given(passwordEncoder.encode(anyString())).willReturn("{bcrypt}encoded");
+        given(userAccountService.saveUser(USERNAME, "{bcrypt}encoded", "kakao@mail.com", "kakao", null))
+                .willReturn(createUserAccountDto(USERNAME));
+
+        // When
+        OAuth2User result = sut.loadUser(userRequest);
+
+        // Then
+        assertThat(result.getName()).isEqualTo(USERNAME);
+        then(passwordEncoder).should().encode(anyString());
+        then(userAccountService).should().saveUser(USERNAME, "{bcrypt}encoded", "kakao@mail.com", "kakao", null);
+    }
+
+
+    private OAuth2UserRequest createUserRequest() {
+        ClientRegistration registration = ClientRegistration.withRegistrationId("kakao")
+                .clientId("client-id")
+                .authorizationGrantType(AuthorizationGrantType.AUTHORIZATION_CODE)
+                .redirectUri("{baseUrl}/login/oauth2/code/kakao")
+                .authorizationUri("https://kauth.kakao.com/oauth/authorize")
+                .tokenUri("https://kauth.kakao.com/oauth/token")
+                .userInfoUri("https://kapi.kakao.com/v2/user/me")
+                .userNameAttributeName("id")
+                .build();
+        OAuth2AccessToken accessToken = new OAuth2AccessToken(
+                OAuth2AccessToken.TokenType.BEARER, "token", Instant.now(), Instant.now().plusSeconds(60)
+        );
+
+        return new OAuth2UserRequest(registration, accessToken);
+    }
+
+    private OAuth2User createKakaoUser() {
+        return new DefaultOAuth2User(
+                List.of(),
+                Map.of(
+                        "id", 1234567890L,
+                        "connected_at", "2024-05-15T13:37:00Z",
+                        "properties", Map.of("nickname", "kakao"),
+                        "kakao_account", Map.of(
+                                "profile", Map.of("nickname", "kakao"),
+                                "email", "kakao@mail.com"
+                        )
+                ),
+                "id"
+        );
+    }
+
+    private UserAccountDto createUserAccountDto(String userId) {
+        return UserAccountDto.of(userId, "{noop}dummy", "kakao@mail.com", "kakao", null);
+    }
+
+}
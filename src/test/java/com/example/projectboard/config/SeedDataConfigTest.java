@@ -0,0 +1,62 @@
+package com.example.projectboard.config;
+
+import com.example.projectboard.domain.SearchNormalizer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("설정 - 시드 데이터 마이그레이션")
+@Import(SeedDataConfig.class)
+@JdbcTest
+class SeedDataConfigTest {
+
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @DisplayName("시드 데이터는 스키마 이력과 다른 이력 테이블에 남아, 스키마 버전과 섞이지 않는다.")
+    @Test
+    void givenMigratedDatabase_whenReadingHistories_thenSeedHasOwnHistory() {
+        // Given
+
+        // When
+        List<String> schemaScripts = jdbcTemplate.queryForList(
+                "select \"script\" from \"flyway_schema_history\" where \"success\" = true order by \"installed_rank\"", String.class);
+        List<String> seedScripts = jdbcTemplate.queryForList(
+                "select \"script\" from \"" + SeedDataConfig.SEED_HISTORY_TABLE + "\" where \"version\" <> '0' order by \"installed_rank\"", String.class);
+        Long userCount = jdbcTemplate.queryForObject("select count(*) from user_account", Long.class);
+
+        // Then
+        assertThat(schemaScripts).noneMatch(script -> script.contains("seed"));
+        assertThat(seedScripts).containsExactly("V1__seed_data.sql");
+        assertThat(userCount).isPositive();
+    }
+
+    @DisplayName("시드의 섀도 컬럼은 SQL lower() 로 채우지만, 애플리케이션의 SearchNormalizer 결과와 같다.")
+    @Test
+    void givenSeedData_whenReadingShadowColumns_thenMatchesSearchNormalizer() {
+        // Given
+        List<Map<String, Object>> articles = jdbcTemplate.queryForList(
+                "select title, content, created_by, normalized_title, normalized_content, normalized_created_by from article");
+        List<Map<String, Object>> comments = jdbcTemplate.queryForList(
+                "select content, created_by, normalized_content, normalized_created_by from article_comment");
+
+        // When & Then
+        assertThat(articles).isNotEmpty().allSatisfy(row -> {
+            assertThat(row.get("NORMALIZED_TITLE")).isEqualTo(SearchNormalizer.normalize((String) row.get("TITLE")));
+            assertThat(row.get("NORMALIZED_CONTENT")).isEqualTo(SearchNormalizer.normalize((String) row.get("CONTENT")));
+            assertThat(row.get("NORMALIZED_CREATED_BY")).isEqualTo(SearchNormalizer.normalize((String) row.get("CREATED_BY")));
+        });
+        assertThat(comments).isNotEmpty().allSatisfy(row -> {
+            assertThat(row.get("NORMALIZED_CONTENT")).isEqualTo(SearchNormalizer.normalize((String) row.get("CONTENT")));
+            assertThat(row.get("NORMALIZED_CREATED_BY")).isEqualTo(SearchNormalizer.normalize((String) row.get("CREATED_BY")));
+        });
+    }
+
+}
@@ -1,6 +1,7 @@
 package com.example.projectboard.config;
 
 import com.example.projectboard.dto.UserAccountDto;
+import com.example.projectboard.dto.security.BoardPrincipal;
 import com.example.projectboard.service.UserAccountService;
 import org.mockito.ArgumentMatchers;
 import org.mockito.BDDMockito;
@@ -23,6 +24,8 @@ public class TestSecurityConfig {
     public void securitySetUp() {
         given(userAccountService.searchUser(anyString()))
                 .willReturn(Optional.of(createUserAccountDto()));
+        given(userAccountService.searchPrincipal(anyString()))
+                .willReturn(Optional.of(BoardPrincipal.from(createUserAccountDto())));
         given(userAccountService.saveUser(anyString(), anyString(), anyString(), anyString(), anyString()))
                 .willReturn(createUserAccountDto());
     }
@@ -0,0 +1,78 @@
+package com.example.projectboard.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@DisplayName("설정 - 가상 스레드 실행 모드")
+class VirtualThreadConfigTest {
+
+    @AfterEach
+    void tearDown() {
+        System.clearProperty("jdk.virtualThreadScheduler.parallelism");
+    }
+
+    @DisplayName("JDK 21 미만에서 가상 스레드 실행기를 만들면, 필요한 JDK 버전을 알려주며 실패한다.")
+    @Test
+    void givenJdkBelow21_whenCreatingExecutor_thenThrowsWithRequiredVersion() {
+        // Given
+        assumeTrue(Runtime.version().feature() < 21);
+
+        // When & Then
+        assertThatThrownBy(VirtualThreadConfig::newVirtualThreadPerTaskExecutor)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("JDK 21")
+                .hasCauseInstanceOf(NoSuchMethodException.class);
+    }
+
+    @DisplayName("JDK 21 이상에서 가상 스레드 실행기를 만들면, 작업을 가상 스레드에서 실행한다.")
+    @Test
+    void givenJdk21OrLater_whenCreatingExecutor_thenRunsTaskOnVirtualThread() throws Exception {
+        // Given
+        assumeTrue(Runtime.version().feature() >= 21);
+
+        // When
+        ExecutorService executor = VirtualThreadConfig.newVirtualThreadPerTaskExecutor();
+        Object isVirtual;
+        try {
+            isVirtual = executor.submit(() -> Thread.class.getMethod("isVirtual").invoke(Thread.currentThread())).get();
+        } finally {
+            executor.shutdown();
+        }
+
+        // Then
+        assertThat(isVirtual).isEqualTo(true);
+    }
+
+    @DisplayName("커넥션 풀이 캐리어 수보다 클 때만 경고 대상이다.")
+    @Test
+    void givenPoolAndCarrierSizes_whenChecking_thenWarnsOnlyWhenPoolIsLarger() {
+        // Given & When & Then
+        assertThat(VirtualThreadConfig.poolExceedsCarriers(10, 4)).isTrue();
+        assertThat(VirtualThreadConfig.poolExceedsCarriers(4, 4)).isFalse();
+        assertThat(VirtualThreadConfig.poolExceedsCarriers(2, 4)).isFalse();
+    }
+
+    @DisplayName("캐리어 수는 jdk.virtualThreadScheduler.parallelism 이 있으면 그 값을, 없으면 CPU 수를 쓴다.")
+    @Test
+    void givenParallelismProperty_whenReadingCarriers_thenUsesProperty() {
+        // Given
+        int processors = Runtime.getRuntime().availableProcessors();
+
+        // When
+        int withoutProperty = VirtualThreadConfig.carrierParallelism();
+        System.setProperty("jdk.virtualThreadScheduler.parallelism", "32");
+        int withProperty = VirtualThreadConfig.carrierParallelism();
+
+        // Then
+        assertThat(withoutProperty).isEqualTo(processors);
+        assertThat(withProperty).isEqualTo(32);
+    }
+
+}
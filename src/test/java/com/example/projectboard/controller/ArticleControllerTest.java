@@ -1,14 +1,14 @@
 package com.example.projectboard.controller;
 
+import com.example.projectboard.config.ConcurrentReadConfig;
 import com.example.projectboard.config.TestSecurityConfig;
 import com.example.projectboard.domain.constant.FormStatus;
 import com.example.projectboard.domain.constant.SearchType;
 import com.example.projectboard.dto.ArticleDto;
-import com.example.projectboard.dto.ArticleWithCommentsDto;
-import com.example.projectboard.dto.HashtagDto;
-import com.example.projectboard.dto.UserAccountDto;
 import com.example.projectboard.dto.request.ArticleRequest;
 import com.example.projectboard.dto.response.ArticleResponse;
+import com.example.projectboard.dto.response.ArticleWithCommentsResponse;
+import com.example.projectboard.dto.response.AuthorSummary;
 import com.example.projectboard.service.ArticleService;
 import com.example.projectboard.service.PaginationService;
 import com.example.projectboard.util.FormDataEncoder;
@@ -17,6 +17,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentMatchers;
 import org.mockito.BDDMockito;
+import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
@@ -31,6 +32,7 @@ import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.security.test.context.support.WithUserDetails;
 import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
@@ -38,13 +40,14 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Set;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @DisplayName("View 컨트롤러 - 게시글")
-@Import({TestSecurityConfig.class, FormDataEncoder.class})
+@Import({TestSecurityConfig.class, FormDataEncoder.class, ConcurrentReadConfig.class})
 @WebMvcTest(ArticleController.class)
 class ArticleControllerTest {
 
@@ -132,9 +135,9 @@ class ArticleControllerTest {
     void givenAuthorizedUser_whenRequestingArticleView_thenReturnsArticleView() throws Exception {
         // given
         Long articleId = 1L;
-        long totalCount = 1L;
-        BDDMockito.given(articleService.getArticleWithComments(articleId)).willReturn(createArticleWithCommentsDto());
-        BDDMockito.given(articleService.getArticleCount()).willReturn(totalCount);
+        long lastArticleId = 1L;
+        BDDMockito.given(articleService.getArticleWithComments(articleId)).willReturn(createArticleWithCommentsResponse());
+        BDDMockito.given(articleService.getLastArticleId()).willReturn(lastArticleId);
 
         // when & then
         mvc.perform(MockMvcRequestBuilders.get("/articles/" + articleId))
@@ -143,11 +146,12 @@ class ArticleControllerTest {
                 .andExpect(MockMvcResultMatchers.view().name("articles/detail"))
                 .andExpect(MockMvcResultMatchers.model().attributeExists("article"))
                 .andExpect(MockMvcResultMatchers.model().attributeExists("articleComments"))
-                .andExpect(MockMvcResultMatchers.model().attribute("totalCount", totalCount))
+                .andExpect(MockMvcResultMatchers.model().attribute("lastArticleId", lastArticleId))
                 .andExpect(MockMvcResultMatchers.model().attribute("searchTypeHashtag", SearchType.HASHTAG));
 
         BDDMockito.then(articleService).should().getArticleWithComments(articleId);
-        BDDMockito.then(articleService).should().getArticleCount();
+        BDDMockito.then(articleService).should().getLastArticleId();
+        BDDMockito.then(articleService).should(Mockito.never()).getArticleCount();
     }
 
     @DisplayName("[view][GET] 게시글 리스트 (게시판) 페이지 - 페이징, 정렬 기능")
@@ -301,15 +305,15 @@ class ArticleControllerTest {
     void givenAuthorizedUser_whenRequesting_thenReturnsUpdatedArticlePage() throws Exception {
         // Given
         long articleId = 1L;
-        ArticleDto dto = createArticleDto();
-        given(articleService.getArticle(articleId)).willReturn(dto);
+        ArticleResponse response = createArticleResponse();
+        given(articleService.getArticle(articleId)).willReturn(response);
 
         // When & Then
         mvc.perform(get("/articles/" + articleId + "/form"))
                 .andExpect(status().isOk())
                 .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_HTML))
                 .andExpect(view().name("articles/form"))
-                .andExpect(model().attribute("article", ArticleResponse.from(dto)))
+                .andExpect(model().attribute("article", response))
                 .andExpect(model().attribute("formStatus", FormStatus.UPDATE));
         then(articleService).should().getArticle(articleId);
     }
@@ -357,42 +361,31 @@ class ArticleControllerTest {
         then(articleService).should().deleteArticle(articleId, userId);
     }
 
-    private ArticleWithCommentsDto createArticleWithCommentsDto() {
-        return ArticleWithCommentsDto.of(
+    private ArticleWithCommentsResponse createArticleWithCommentsResponse() {
+        return ArticleWithCommentsResponse.of(
                 1L,
-                createUserAccountDto(),
-                Set.of(),
                 "title",
                 "content",
-                Set.of(HashtagDto.of("java")),
+                Set.of("java"),
                 LocalDateTime.now(),
-                "lbk",
-                LocalDateTime.now(),
-                "lbk"
+                createAuthorSummary(),
+                Set.of()
         );
     }
 
-    private ArticleDto createArticleDto() {
-        return ArticleDto.of(
-                createUserAccountDto(),
+    private ArticleResponse createArticleResponse() {
+        return ArticleResponse.of(
+                1L,
                 "title",
                 "content",
-                Set.of(HashtagDto.of("java"))
+                Set.of("java"),
+                LocalDateTime.now(),
+                createAuthorSummary()
         );
     }
 
-    private UserAccountDto createUserAccountDto() {
-        return UserAccountDto.of(
-                "lbk",
-                "pw",
-                "lbk@gmail.com",
-                "Forest",
-                "memo",
-                LocalDateTime.now(),
-                "lbk",
-                LocalDateTime.now(),
-                "lbk"
-        );
+    private AuthorSummary createAuthorSummary() {
+        return AuthorSummary.of("lbk", "Forest", "lbk@gmail.com");
     }
 
 }
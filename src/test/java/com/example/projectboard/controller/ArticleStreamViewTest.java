@@ -0,0 +1,100 @@
+package com.example.projectboard.controller;
+
+import com.example.projectboard.config.ConcurrentReadConfig;
+import com.example.projectboard.config.TestSecurityConfig;
+import com.example.projectboard.config.ThymeleafConfig;
+import com.example.projectboard.dto.response.ArticleResponse;
+import com.example.projectboard.dto.response.AuthorSummary;
+import com.example.projectboard.service.ArticleService;
+import com.example.projectboard.service.PaginationService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.view;
+
+/**
+ * 스트리밍 목록은 템플릿이 반복자를 돌면서 묶음을 조회하므로, decoupled logic({@link ThymeleafConfig})까지 켜고 실제로 렌더링한다.
+ */
+@DisplayName("View 컨트롤러 - 게시글 스트리밍 목록 렌더링")
+@Import({TestSecurityConfig.class, ConcurrentReadConfig.class, ThymeleafConfig.class})
+@EnableConfigurationProperties(ThymeleafConfig.Thymeleaf3Properties.class)
+@WebMvcTest(ArticleController.class)
+class ArticleStreamViewTest {
+
+    private final MockMvc mvc;
+
+    @MockBean private ArticleService articleService;
+    @MockBean private PaginationService paginationService;
+
+    ArticleStreamViewTest(@Autowired MockMvc mvc) {
+        this.mvc = mvc;
+    }
+
+    @DisplayName("[view][GET] 게시글 스트리밍 리스트 페이지 - 렌더링하면서 묶음 단위로 조회하고, 다음 커서를 넘긴다")
+    @Test
+    void givenCursorAndSize_whenRequestingArticleStreamView_thenFetchesRowsInBatchesWhileRendering() throws Exception {
+        // given
+        Long cursor = 1000L;
+        int size = 150;
+        given(articleService.getArticlesBefore(cursor, 100)).willReturn(createArticleResponses(999L, 100));
+        given(articleService.getArticlesBefore(900L, 50)).willReturn(createArticleResponses(899L, 50));
+
+        // when
+        MvcResult result = mvc.perform(
+                        get("/articles/stream")
+                                .queryParam("cursor", String.valueOf(cursor))
+                                .queryParam("size", String.valueOf(size))
+                )
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_HTML))
+                .andExpect(view().name("articles/stream"))
+                .andExpect(content().string(containsString("href=\"/articles/999\"")))
+                .andExpect(content().string(containsString("href=\"/articles/850\"")))
+                .andExpect(content().string(containsString("/articles/stream?cursor=850")))
+                .andReturn();
+
+        // then
+        // 예시 행은 모두 지워지고, 조회한 행만 그려진다.
+        assertThat(StringUtils.countOccurrencesOf(result.getResponse().getContentAsString(), "<td class=\"title\">"))
+                .isEqualTo(size);
+        then(articleService).should().getArticlesBefore(cursor, 100);
+        then(articleService).should().getArticlesBefore(900L, 50);
+        then(articleService).shouldHaveNoMoreInteractions();
+    }
+
+
+    private List<ArticleResponse> createArticleResponses(long firstId, int count) {
+        return LongStream.range(0, count)
+                .mapToObj(i -> ArticleResponse.of(
+                        firstId - i,
+                        "title " + (firstId - i),
+                        "content",
+                        Set.of("java"),
+                        LocalDateTime.now(),
+                        AuthorSummary.of("lbk", "Forest", "lbk@gmail.com")
+                ))
+                .toList();
+    }
+
+}
@@ -0,0 +1,56 @@
+package com.example.projectboard.controller;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("Data REST - excerpt 프로젝션")
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@SpringBootTest
+class DataRestProjectionTest {
+
+    private final MockMvc mvc;
+
+    DataRestProjectionTest(@Autowired MockMvc mvc) {
+        this.mvc = mvc;
+    }
+
+    @DisplayName("[api] 게시글 리스트 조회 - 작성자는 아이디와 닉네임만 내려주고, 비밀번호는 노출하지 않는다.")
+    @Test
+    void givenNothing_whenRequestingArticles_thenReturnsAuthorWithoutPassword() throws Exception {
+        // Given
+
+        // When & Then
+        mvc.perform(get("/api/articles"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$._embedded.articles[0].userAccount.userId").exists())
+                .andExpect(jsonPath("$._embedded.articles[0].userAccount.nickname").exists())
+                .andExpect(jsonPath("$._embedded.articles[0].userAccount.email").doesNotExist())
+                .andExpect(content().string(not(containsString("userPassword"))));
+    }
+
+    @DisplayName("[api] 댓글 리스트 조회 - 작성자 비밀번호는 노출하지 않는다.")
+    @Test
+    void givenNothing_whenRequestingArticleComments_thenReturnsAuthorWithoutPassword() throws Exception {
+        // Given
+
+        // When & Then
+        mvc.perform(get("/api/articleComments"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$._embedded.articleComments[0].userAccount.userId").exists())
+                .andExpect(content().string(not(containsString("userPassword"))));
+    }
+
+}
@@ -0,0 +1,114 @@
+package com.example.projectboard.controller;
+
+import com.example.projectboard.config.TestSecurityConfig;
+import com.example.projectboard.dto.api.ArticleCommentSummary;
+import com.example.projectboard.dto.api.ArticleSummary;
+import com.example.projectboard.dto.api.CursorPage;
+import com.example.projectboard.dto.api.HashtagSummary;
+import com.example.projectboard.service.ReadApiService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@DisplayName("API 컨트롤러 - 읽기 전용 API")
+@Import(TestSecurityConfig.class)
+@WebMvcTest(ReadApiController.class)
+class ReadApiControllerTest {
+
+    private final MockMvc mvc;
+
+    @MockBean
+    private ReadApiService readApiService;
+
+    ReadApiControllerTest(@Autowired MockMvc mvc) {
+        this.mvc = mvc;
+    }
+
+    @DisplayName("[api][GET] 게시글 리스트 - 커서와 크기를 넘기면, 평평한 JSON 과 다음 커서를 반환")
+    @Test
+    void givenCursorAndSize_whenRequestingArticles_thenReturnsFlatJson() throws Exception {
+        // Given
+        given(readApiService.getArticles(100L, 1))
+                .willReturn(new CursorPage<>(List.of(createArticleSummary()), 99L));
+
+        // When & Then
+        mvc.perform(get("/api/v2/articles").param("cursor", "100").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.content[0].id").value(99))
+                .andExpect(jsonPath("$.content[0].userId").value("lbk"))
+                .andExpect(jsonPath("$.content[0].createdAt").value("2022-06-01T10:00:00"))
+                .andExpect(jsonPath("$.content[0].userPassword").doesNotExist())
+                .andExpect(jsonPath("$.content[0]._links").doesNotExist())
+                .andExpect(jsonPath("$.nextCursor").value(99));
+        then(readApiService).should().getArticles(100L, 1);
+    }
+
+    @DisplayName("[api][GET] 게시글 리스트 - 마지막 페이지면, nextCursor 는 null")
+    @Test
+    void givenLastPage_whenRequestingArticles_thenReturnsNullCursor() throws Exception {
+        // Given
+        given(readApiService.getArticles(null, 20)).willReturn(new CursorPage<>(List.of(), null));
+
+        // When & Then
+        mvc.perform(get("/api/v2/articles"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content").isEmpty())
+                .andExpect(jsonPath("$.nextCursor").isEmpty());
+        then(readApiService).should().getArticles(null, 20);
+    }
+
+    @DisplayName("[api][GET] 게시글의 댓글 리스트 - 정상 호출")
+    @Test
+    void givenArticleId_whenRequestingComments_thenReturnsComments() throws Exception {
+        // Given
+        long articleId = 1L;
+        ArticleCommentSummary comment = new ArticleCommentSummary(
+                10L, articleId, null, "content", "lbk", "Lbk",
+                LocalDateTime.of(2022, 6, 1, 10, 0), LocalDateTime.of(2022, 6, 1, 10, 0)
+        );
+        given(readApiService.getArticleComments(articleId, null, 20)).willReturn(new CursorPage<>(List.of(comment), null));
+
+        // When & Then
+        mvc.perform(get("/api/v2/articles/" + articleId + "/comments"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].articleId").value(articleId))
+                .andExpect(jsonPath("$.content[0].parentCommentId").isEmpty());
+        then(readApiService).should().getArticleComments(articleId, null, 20);
+    }
+
+    @DisplayName("[api][GET] 해시태그 리스트 - 정상 호출")
+    @Test
+    void givenNothing_whenRequestingHashtags_thenReturnsHashtags() throws Exception {
+        // Given
+        given(readApiService.getHashtags(null, 20))
+                .willReturn(new CursorPage<>(List.of(new HashtagSummary(1L, "blue")), null));
+
+        // When & Then
+        mvc.perform(get("/api/v2/hashtags"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].hashtagName").value("blue"));
+        then(readApiService).should().getHashtags(null, 20);
+    }
+
+    private ArticleSummary createArticleSummary() {
+        return new ArticleSummary(
+                99L, "title", "content", "lbk", "Lbk",
+                LocalDateTime.of(2022, 6, 1, 10, 0), LocalDateTime.of(2022, 6, 1, 10, 0)
+        );
+    }
+
+}
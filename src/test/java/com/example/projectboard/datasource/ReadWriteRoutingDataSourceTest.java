@@ -0,0 +1,103 @@
+package com.example.projectboard.datasource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("데이터소스 라우팅 - 프라이머리 / 레플리카 H2")
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:primary;DB_CLOSE_DELAY=-1",
+        "board.datasource.replica.url=jdbc:h2:mem:replica;DB_CLOSE_DELAY=-1",
+        "board.datasource.replica.read-your-writes-window=1m"
+})
+class ReadWriteRoutingDataSourceTest {
+
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private PlatformTransactionManager transactionManager;
+    @Autowired private MeterRegistry meterRegistry;
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @DisplayName("읽기 전용 트랜잭션은 레플리카에서 실행한다.")
+    @Test
+    void givenReadOnlyTransaction_whenQuerying_thenUsesReplica() {
+        // Given
+        loginAs("lbk");
+
+        // When
+        String database = currentDatabase(true);
+
+        // Then
+        assertThat(database).isEqualTo("REPLICA");
+    }
+
+    @DisplayName("쓰기 트랜잭션은 프라이머리에서 실행한다.")
+    @Test
+    void givenReadWriteTransaction_whenQuerying_thenUsesPrimary() {
+        // Given
+
+        // When
+        String database = currentDatabase(false);
+
+        // Then
+        assertThat(database).isEqualTo("PRIMARY");
+    }
+
+    @DisplayName("쓰기를 커밋한 사용자의 읽기는 정해진 시간 동안 프라이머리에서, 다른 사용자의 읽기는 레플리카에서 실행한다.")
+    @Test
+    void givenUserCommittedWrite_whenSameUserReads_thenUsesPrimaryWhileOthersUseReplica() {
+        // Given
+        loginAs("writer");
+        currentDatabase(false);
+
+        // When
+        String writerDatabase = currentDatabase(true);
+        loginAs("reader");
+        String readerDatabase = currentDatabase(true);
+
+        // Then
+        assertThat(writerDatabase).isEqualTo("PRIMARY");
+        assertThat(readerDatabase).isEqualTo("REPLICA");
+    }
+
+    @DisplayName("풀마다, 라우팅 대상마다 지표를 남긴다.")
+    @Test
+    void givenQueriesOnBothTargets_whenReadingMetrics_thenHasPerPoolMetrics() {
+        // Given
+        currentDatabase(true);
+        currentDatabase(false);
+
+        // When & Then
+        assertThat(meterRegistry.find("hikaricp.connections").tag("pool", "primary").gauge()).isNotNull();
+        assertThat(meterRegistry.find("hikaricp.connections").tag("pool", "replica").gauge()).isNotNull();
+        assertThat(meterRegistry.get("board.datasource.routing").tag("target", "replica").counter().count()).isPositive();
+        assertThat(meterRegistry.get("board.datasource.routing").tag("target", "primary").counter().count()).isPositive();
+    }
+
+
+    private String currentDatabase(boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status -> jdbcTemplate.queryForObject("select database()", String.class));
+    }
+
+    private static void loginAs(String username) {
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken(username, null, "ROLE_USER"));
+    }
+
+}
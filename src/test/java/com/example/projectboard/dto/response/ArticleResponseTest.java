@@ -0,0 +1,60 @@
+package com.example.projectboard.dto.response;
+
+import com.example.projectboard.domain.Article;
+import com.example.projectboard.domain.UserAccount;
+import com.example.projectboard.dto.ArticleCommentDto;
+import com.example.projectboard.dto.ArticleDto;
+import com.example.projectboard.dto.UserAccountDto;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("DTO - 게시글 응답 테스트")
+class ArticleResponseTest {
+
+    private final ObjectMapper mapper = Jackson2ObjectMapperBuilder.json().build();
+
+    @DisplayName("게시글 응답을 json 으로 바꾸면, 작성자 정보는 email, nickname 만 평평하게 펼쳐서 내려준다.")
+    @Test
+    void givenArticleResponse_whenSerializing_thenUnwrapsAuthorWithoutUserId() throws Exception {
+        // Given
+        ArticleResponse response = ArticleResponse.of(
+                1L, "title", "content", Set.of("java"), LocalDateTime.now(), AuthorSummary.of("lbk", "Lbk", "lbk@mail.com")
+        );
+
+        // When
+        JsonNode result = mapper.readTree(mapper.writeValueAsString(response));
+
+        // Then
+        assertThat(result.has("author")).isFalse();
+        assertThat(result.has("userId")).isFalse();
+        assertThat(result.get("nickname").asText()).isEqualTo("Lbk");
+        assertThat(result.get("email").asText()).isEqualTo("lbk@mail.com");
+    }
+
+    @DisplayName("닉네임이 비어 있으면, 엔티티에서 만들든 DTO 에서 만들든 모든 응답이 userId 를 닉네임으로 보여준다.")
+    @Test
+    void givenBlankNickname_whenMappingFromEntityOrDto_thenEveryResponseFallsBackToUserId() {
+        // Given
+        UserAccount userAccount = UserAccount.of("lbk", "pw", "lbk@mail.com", " ", null);
+        UserAccountDto userAccountDto = UserAccountDto.of("lbk", "pw", "lbk@mail.com", null, null);
+
+        // When
+        ArticleResponse fromEntity = ArticleResponse.from(Article.of(userAccount, "title", "content"));
+        ArticleResponse fromDto = ArticleResponse.from(ArticleDto.of(userAccountDto, "title", "content", Set.of()));
+        ArticleCommentResponse commentFromDto = ArticleCommentResponse.from(ArticleCommentDto.of(1L, userAccountDto, "comment"));
+
+        // Then
+        assertThat(fromEntity.nickname()).isEqualTo("lbk");
+        assertThat(fromDto.nickname()).isEqualTo("lbk");
+        assertThat(commentFromDto.nickname()).isEqualTo("lbk");
+    }
+
+}
@@ -1,11 +1,16 @@
 package com.example.projectboard.dto.response;
 
+import com.example.projectboard.domain.Article;
+import com.example.projectboard.domain.ArticleComment;
+import com.example.projectboard.domain.Hashtag;
+import com.example.projectboard.domain.UserAccount;
 import com.example.projectboard.dto.ArticleCommentDto;
 import com.example.projectboard.dto.ArticleWithCommentsDto;
 import com.example.projectboard.dto.HashtagDto;
 import com.example.projectboard.dto.UserAccountDto;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
 import java.util.Iterator;
@@ -122,6 +127,42 @@ class ArticleWithCommentsResponseTest {
         }
     }
 
+    @DisplayName("게시글 엔티티를 바로 api 응답으로 변환하면, dto를 거쳐 변환한 응답과 같다.")
+    @Test
+    void givenArticleEntity_whenMappingDirectly_thenEqualsMappingViaDto() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        UserAccount userAccount = UserAccount.of("uno", "password", "uno@mail.com", null, "This is memo");
+        Article article = Article.of(userAccount, "title", "content #java");
+        ReflectionTestUtils.setField(article, "id", 1L);
+        ReflectionTestUtils.setField(article, "createdAt", now);
+        article.addHashtag(Hashtag.of("java"));
+        ArticleComment parent = createArticleComment(article, userAccount, 1L, now);
+        ArticleComment child = createArticleComment(article, userAccount, 2L, now.plusDays(1L));
+        parent.addChildComment(child);
+        article.getArticleComments().addAll(Set.of(parent, child, createArticleComment(article, userAccount, 3L, now.plusDays(2L))));
+
+        // When
+        ArticleWithCommentsResponse actual = ArticleWithCommentsResponse.from(article);
+
+        // Then
+        assertThat(actual)
+                .isEqualTo(ArticleWithCommentsResponse.from(ArticleWithCommentsDto.from(article)))
+                .hasFieldOrPropertyWithValue("author", AuthorSummary.of("uno", "uno", "uno@mail.com"))
+                .hasFieldOrPropertyWithValue("hashtags", Set.of("java"));
+        assertThat(actual.articleCommentsResponse())
+                .extracting(ArticleCommentResponse::id)
+                .containsExactly(3L, 1L);
+    }
+
+
+    private ArticleComment createArticleComment(Article article, UserAccount userAccount, Long id, LocalDateTime createdAt) {
+        ArticleComment articleComment = ArticleComment.of(article, userAccount, "test comment " + id);
+        ReflectionTestUtils.setField(articleComment, "id", id);
+        ReflectionTestUtils.setField(articleComment, "createdAt", createdAt);
+
+        return articleComment;
+    }
 
     private ArticleWithCommentsDto createArticleWithCommentsDto(Set<ArticleCommentDto> articleCommentDtos) {
         return ArticleWithCommentsDto.of(
@@ -171,9 +212,7 @@ class ArticleWithCommentsResponseTest {
                 id,
                 "test comment " + id,
                 createdAt,
-                "uno@mail.com",
-                "Uno",
-                "uno",
+                AuthorSummary.of("uno", "Uno", "uno@mail.com"),
                 parentCommentId
         );
     }
@@ -0,0 +1,126 @@
+package com.example.projectboard.monitoring;
+
+import com.example.projectboard.dto.ArticleDto;
+import com.example.projectboard.dto.UserAccountDto;
+import com.example.projectboard.service.ArticleService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aopalliance.aop.Advice;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.aspectj.AspectJPrecedenceInformation;
+import org.springframework.aop.framework.Advised;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.TestExecutionEvent;
+import org.springframework.security.test.context.support.WithUserDetails;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.interceptor.TransactionInterceptor;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 지표 애스펙트가 트랜잭션 인터셉터 바깥에서 실행되는지 확인한다. 테스트 트랜잭션 없이 실제로 커밋한다.
+ */
+@DisplayName("지표 - 서비스 애스펙트와 트랜잭션 순서")
+@ActiveProfiles("test")
+@SpringBootTest
+class MonitoringAspectOrderTest {
+
+    @Autowired private ArticleService articleService;
+    @Autowired private MeterRegistry meterRegistry;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @DisplayName("SQL 수 애스펙트는 트랜잭션 인터셉터보다 바깥에서 실행된다.")
+    @Test
+    void givenServiceProxy_whenReadingAdvisors_thenSqlCountAspectWrapsTransactionInterceptor() {
+        // Given
+        List<Advisor> advisors = Arrays.asList(((Advised) articleService).getAdvisors());
+
+        // When
+        int sqlCount = indexOfAspect(advisors, "sqlStatementCountAspect");
+        int transaction = indexOfTransactionInterceptor(advisors);
+
+        // Then
+        assertThat(sqlCount).isNotNegative().isLessThan(transaction);
+    }
+
+    @DisplayName("서비스 타이머 애스펙트는 트랜잭션 인터셉터보다 바깥에서 실행되어, flush 와 커밋 시간까지 잰다.")
+    @Test
+    void givenServiceProxy_whenReadingAdvisors_thenServiceMetricsAspectWrapsTransactionInterceptor() {
+        // Given
+        List<Advisor> advisors = Arrays.asList(((Advised) articleService).getAdvisors());
+
+        // When
+        int timer = indexOfAspect(advisors, "serviceMetricsAspect");
+        int sqlCount = indexOfAspect(advisors, "sqlStatementCountAspect");
+        int transaction = indexOfTransactionInterceptor(advisors);
+
+        // Then
+        assertThat(timer).isNotNegative().isLessThan(sqlCount).isLessThan(transaction);
+    }
+
+    @DisplayName("게시글을 저장하고 커밋하면, 커밋할 때 flush 된 해시태그 연결 insert 까지 메소드 SQL 수에 들어간다.")
+    @WithUserDetails(value = "uno", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+    @Test
+    void givenArticleWithHashtag_whenSavingAndCommitting_thenMethodCountIncludesFlushAtCommit() {
+        // Given
+        ArticleDto dto = ArticleDto.of(
+                UserAccountDto.of("uno", null, null, null, null),
+                "aspect order",
+                "commit #aspectordertest",
+                Set.of()
+        );
+        DistributionSummary summary = meterRegistry.summary("board.sql.statements.method", "class", "ArticleService", "method", "saveArticle");
+        double before = summary.totalAmount();
+        long total;
+
+        // When
+        try (SqlStatementCounter.Scope scope = SqlStatementCounter.start()) {
+            articleService.saveArticle(dto);
+            total = scope.count();
+        }
+
+        // Then
+        try {
+            // 해시태그 조회, 해시태그 insert, 게시글 insert 는 메소드 안에서, 게시글-해시태그 연결 insert 는 커밋할 때 실행된다.
+            Integer links = jdbcTemplate.queryForObject(
+                    "select count(*) from article_hashtag ah join hashtag h on h.id = ah.hashtag_id where h.hashtag_name = 'aspectordertest'",
+                    Integer.class);
+            assertThat(links).isEqualTo(1);
+            assertThat(total).isGreaterThanOrEqualTo(4);
+            assertThat(summary.totalAmount() - before).isEqualTo(total);
+        } finally {
+            Long articleId = jdbcTemplate.queryForObject("select max(id) from article where title = 'aspect order'", Long.class);
+            articleService.deleteArticle(articleId, "uno");
+        }
+    }
+
+
+    static int indexOfAspect(List<Advisor> advisors, String aspectName) {
+        for (int i = 0; i < advisors.size(); i++) {
+            if (advisors.get(i) instanceof AspectJPrecedenceInformation information
+                    && aspectName.equals(information.getAspectName())) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static int indexOfTransactionInterceptor(List<Advisor> advisors) {
+        for (int i = 0; i < advisors.size(); i++) {
+            Advice advice = advisors.get(i).getAdvice();
+            if (advice instanceof TransactionInterceptor) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+}
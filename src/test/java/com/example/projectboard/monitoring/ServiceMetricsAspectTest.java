@@ -0,0 +1,110 @@
+package com.example.projectboard.monitoring;
+
+import com.example.projectboard.domain.constant.SearchType;
+import com.example.projectboard.repository.ArticleRepository;
+import com.example.projectboard.repository.HashtagRepository;
+import com.example.projectboard.repository.UserAccountRepository;
+import com.example.projectboard.service.ArticleService;
+import com.example.projectboard.service.AuthorSummaryCache;
+import com.example.projectboard.service.HashtagService;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import javax.persistence.EntityNotFoundException;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("지표 - 서비스 핫 패스 타이머")
+class ServiceMetricsAspectTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ArticleRepository articleRepository;
+    private ArticleService sut;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        articleRepository = mock(ArticleRepository.class);
+
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new ArticleService(
+                mock(HashtagService.class),
+                articleRepository,
+                mock(UserAccountRepository.class),
+                mock(HashtagRepository.class),
+                new AuthorSummaryCache(new ConcurrentMapCacheManager(AuthorSummaryCache.CACHE_NAME))
+        ));
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(new ServiceMetricsAspect(meterRegistry));
+        sut = proxyFactory.getProxy();
+    }
+
+    @DisplayName("검색어와 함께 게시글을 검색하면, 검색 타입과 검색어 유무를 태그로 시간을 기록한다.")
+    @Test
+    void givenSearchTypeAndKeyword_whenSearchingArticles_thenRecordsTimerTaggedBySearchType() {
+        // Given
+        given(articleRepository.findByTitleContaining(anyString(), any(Pageable.class))).willReturn(Page.empty());
+
+        // When
+        sut.searchArticles(SearchType.TITLE, "title", Pageable.ofSize(20));
+
+        // Then
+        Timer timer = meterRegistry.find("board.article.search")
+                .tags("searchType", "TITLE", "keyword", "true", "outcome", "success")
+                .timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isEqualTo(1);
+        assertThat(meterRegistry.find("board.article.search.empty").counter())
+                .isNotNull()
+                .extracting(counter -> counter.count())
+                .isEqualTo(1.0);
+    }
+
+    @DisplayName("검색어 없이 게시글을 검색하면, 검색 타입 태그는 NONE 으로 기록한다.")
+    @Test
+    void givenSearchTypeWithoutKeyword_whenSearchingArticles_thenRecordsTimerWithoutSearchType() {
+        // Given
+        given(articleRepository.findAll(any(Pageable.class))).willReturn(Page.empty());
+
+        // When
+        sut.searchArticles(SearchType.HASHTAG, " ", Pageable.ofSize(20));
+
+        // Then
+        assertThat(meterRegistry.find("board.article.search")
+                .tags("searchType", "NONE", "keyword", "false")
+                .timer())
+                .isNotNull();
+    }
+
+    @DisplayName("게시글 상세 조회가 실패하면, 예외 이름을 outcome 태그로 기록한다.")
+    @Test
+    void givenNonexistentArticleId_whenSearchingArticleWithComments_thenRecordsFailureOutcome() {
+        // Given
+        given(articleRepository.findById(0L)).willReturn(Optional.empty());
+
+        // When
+        Throwable t = catchThrowable(() -> sut.getArticleWithComments(0L));
+
+        // Then
+        assertThat(t).isInstanceOf(EntityNotFoundException.class);
+        assertThat(meterRegistry.find("board.article.detail")
+                .tag("outcome", "EntityNotFoundException")
+                .timer())
+                .isNotNull()
+                .extracting(Timer::count)
+                .isEqualTo(1L);
+    }
+
+}
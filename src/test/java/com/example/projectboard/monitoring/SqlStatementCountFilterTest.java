@@ -0,0 +1,85 @@
+package com.example.projectboard.monitoring;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("지표 - 요청 단위 SQL 수 필터")
+class SqlStatementCountFilterTest {
+
+    private static final String STREAM = "/articles/stream";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SqlStatementProperties properties = new SqlStatementProperties(
+            10, 6, 3, Map.of(STREAM, new SqlStatementProperties.Route(160, 51))
+    );
+    private final SqlStatementCountFilter sut = new SqlStatementCountFilter(meterRegistry, properties);
+    private final SqlStatementCounter counter = new SqlStatementCounter();
+
+    @DisplayName("경로별 설정이 있으면 그 값을, 없거나 비어 있는 항목은 전역 값을 쓴다.")
+    @Test
+    void givenRouteOverrides_whenResolvingBudgets_thenFallsBackToGlobalValues() {
+        // Given
+        SqlStatementProperties partial = new SqlStatementProperties(
+                10, 6, 3, Map.of(STREAM, new SqlStatementProperties.Route(160, null))
+        );
+
+        // When & Then
+        assertThat(properties.requestBudget(STREAM)).isEqualTo(160);
+        assertThat(properties.repeatedStatementThreshold(STREAM)).isEqualTo(51);
+        assertThat(properties.requestBudget("/articles/{articleId}")).isEqualTo(10);
+        assertThat(partial.repeatedStatementThreshold(STREAM)).isEqualTo(3);
+    }
+
+    @DisplayName("스트리밍 목록이 묶음마다 같은 키셋 조회를 반복해도, N+1 으로 세지 않는다.")
+    @Test
+    void givenStreamRouteRepeatingKeysetQueryPerBatch_whenFiltering_thenNotCountedAsNPlusOne() throws Exception {
+        // Given
+        MockHttpServletRequest request = request(STREAM);
+
+        // When
+        sut.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            for (int batch = 0; batch < 50; batch++) {
+                counter.inspect("select * from article where id<? order by id desc limit ?");
+                counter.inspect("select * from article_hashtag where article_id in (?)");
+            }
+        });
+
+        // Then
+        assertThat(meterRegistry.get("board.sql.statements").tag("uri", STREAM).summary().max()).isEqualTo(100);
+        assertThat(meterRegistry.find("board.sql.n-plus-one").counter()).isNull();
+    }
+
+    @DisplayName("경로별 설정이 없는 요청은 전역 기준으로 N+1 을 찾는다.")
+    @Test
+    void givenOtherRouteRepeatingQuery_whenFiltering_thenCountedAsNPlusOne() throws Exception {
+        // Given
+        String uri = "/articles/{articleId}";
+        MockHttpServletRequest request = request(uri);
+
+        // When
+        sut.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            for (int i = 0; i < 3; i++) {
+                counter.inspect("select * from user_account where user_id=?");
+            }
+        });
+
+        // Then
+        assertThat(meterRegistry.get("board.sql.n-plus-one").tag("uri", uri).counter().count()).isEqualTo(1);
+    }
+
+
+    private MockHttpServletRequest request(String pattern) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", pattern);
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, pattern);
+        return request;
+    }
+
+}
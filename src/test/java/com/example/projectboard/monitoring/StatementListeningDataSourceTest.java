@@ -0,0 +1,89 @@
+package com.example.projectboard.monitoring;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DisplayName("지표 - JDBC 문장 리스너 데이터소스")
+class StatementListeningDataSourceTest {
+
+    private final List<StatementExecution> executions = new ArrayList<>();
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        StatementListeningDataSource sut = new StatementListeningDataSource(
+                new DriverManagerDataSource("jdbc:h2:mem:statement-listening;DB_CLOSE_DELAY=-1", "sa", ""),
+                List.of(executions::add)
+        );
+        jdbcTemplate = new JdbcTemplate(sut);
+        jdbcTemplate.execute("drop table if exists hashtag_test");
+        jdbcTemplate.execute("create table hashtag_test (id bigint primary key, hashtag_name varchar(50))");
+        executions.clear();
+    }
+
+    @DisplayName("파라미터를 바인딩해서 변경 문장을 실행하면, SQL 과 파라미터, 영향받은 행 수를 알린다.")
+    @Test
+    void givenPreparedUpdate_whenExecuting_thenPublishesParametersAndUpdateCount() {
+        // Given
+        String sql = "insert into hashtag_test (id, hashtag_name) values (?, ?)";
+
+        // When
+        jdbcTemplate.update(sql, 1L, "blue");
+
+        // Then
+        assertThat(executions)
+                .extracting(StatementExecution::sql, StatementExecution::parameters, StatementExecution::rowCount, StatementExecution::success)
+                .containsExactly(tuple(sql, List.of(1L, "blue"), 1L, true));
+    }
+
+    @DisplayName("select 문을 실행하면, 결과를 모두 읽은 뒤 읽은 행 수와 함께 알린다.")
+    @Test
+    void givenPreparedQuery_whenReadingResults_thenPublishesReadRowCount() {
+        // Given
+        jdbcTemplate.update("insert into hashtag_test values (1, 'blue'), (2, 'red'), (3, 'blue')");
+        executions.clear();
+        String sql = "select hashtag_name from hashtag_test where hashtag_name = ?";
+
+        // When
+        List<String> names = jdbcTemplate.queryForList(sql, String.class, "blue");
+
+        // Then
+        assertThat(names).hasSize(2);
+        assertThat(executions)
+                .singleElement()
+                .satisfies(execution -> {
+                    assertThat(execution.sql()).isEqualTo(sql);
+                    assertThat(execution.parameters()).containsExactly("blue");
+                    assertThat(execution.rowCount()).isEqualTo(2);
+                    assertThat(execution.elapsed()).isPositive();
+                });
+    }
+
+    @DisplayName("문장 실행이 실패하면, 실패로 알린다.")
+    @Test
+    void givenInvalidStatement_whenExecuting_thenPublishesFailure() {
+        // Given
+        String sql = "select * from no_such_table";
+
+        // When
+        try {
+            jdbcTemplate.queryForList(sql);
+        } catch (RuntimeException ignored) {
+        }
+
+        // Then
+        assertThat(executions)
+                .extracting(StatementExecution::sql, StatementExecution::success)
+                .containsExactly(tuple(sql, false));
+    }
+
+}
@@ -1,9 +1,13 @@
 package com.example.projectboard.repository;
 
+import com.example.projectboard.config.SeedDataConfig;
 import com.example.projectboard.domain.Article;
 import com.example.projectboard.domain.ArticleComment;
 import com.example.projectboard.domain.Hashtag;
+import com.example.projectboard.domain.QArticle;
 import com.example.projectboard.domain.UserAccount;
+import com.example.projectboard.dto.ArticleVersion;
+import com.querydsl.core.types.Predicate;
 import org.assertj.core.api.InstanceOfAssertFactories;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,17 +16,25 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
+import org.springframework.core.convert.support.DefaultConversionService;
 import org.springframework.data.domain.*;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.data.querydsl.SimpleEntityPathResolver;
+import org.springframework.data.querydsl.binding.QuerydslBindings;
+import org.springframework.data.querydsl.binding.QuerydslPredicateBuilder;
+import org.springframework.data.util.ClassTypeInformation;
+import org.springframework.util.LinkedMultiValueMap;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
 @DisplayName("JPA 연결 테스트")
-@Import(JpaRepositoryTest.TestJpaConfig.class)
+@Import({JpaRepositoryTest.TestJpaConfig.class, SeedDataConfig.class})
 @DataJpaTest
 class JpaRepositoryTest {
 
@@ -58,7 +70,7 @@ class JpaRepositoryTest {
         // Then
         assertThat(articles)
                 .isNotNull()
-                .hasSize(123);  // classpath:resources/data.sql 참조
+                .hasSize(123);  // classpath:db/seed/V1__seed_data.sql 참조
     }
 
     @DisplayName("insert 테스트")
@@ -217,6 +229,91 @@ class JpaRepositoryTest {
         assertThat(articlePage.getTotalPages()).isEqualTo(4);
     }
 
+    @DisplayName("[Querydsl] 게시글 버전 조회 - 댓글이 추가되면 버전이 바뀐다")
+    @Test
+    void givenArticleId_whenAddingComment_thenArticleVersionChanges() {
+        // Given
+        Long articleId = 1L;
+        ArticleVersion before = articleRepository.findArticleVersion(articleId).orElseThrow();
+        Article article = articleRepository.getReferenceById(articleId);
+        UserAccount userAccount = userAccountRepository.getReferenceById("lbk");
+
+        // When
+        articleCommentRepository.saveAndFlush(ArticleComment.of(article, userAccount, "new comment"));
+        ArticleVersion after = articleRepository.findArticleVersion(articleId).orElseThrow();
+
+        // Then
+        assertThat(before.commentCount()).isEqualTo(articleCommentRepository.findByArticle_Id(articleId).size() - 1);
+        assertThat(after.commentCount()).isEqualTo(before.commentCount() + 1);
+        assertThat(after.tag()).isNotEqualTo(before.tag());
+        assertThat(after.lastModified()).isGreaterThanOrEqualTo(before.lastModified());
+        assertThat(articleRepository.findArticleVersion(Long.MAX_VALUE)).isEmpty();
+    }
+
+    @DisplayName("[Querydsl] 게시글 버전 조회 - 댓글 작성자가 닉네임을 바꾸면 버전이 바뀌고, 다음 글 여부는 가장 큰 게시글 ID 로 정한다")
+    @Test
+    void givenCommenter_whenChangingNickname_thenArticleVersionChanges() {
+        // Given
+        Long articleId = 1L;
+        Article article = articleRepository.getReferenceById(articleId);
+        UserAccount commenter = userAccountRepository.getReferenceById("uno2");
+        articleCommentRepository.saveAndFlush(ArticleComment.of(article, commenter, "new comment"));
+        ArticleVersion before = articleRepository.findArticleVersion(articleId).orElseThrow();
+
+        // When
+        commenter.setNickname("new nickname");
+        userAccountRepository.saveAndFlush(commenter);
+        ArticleVersion after = articleRepository.findArticleVersion(articleId).orElseThrow();
+
+        // Then
+        long lastArticleId = articleRepository.findLastArticleId().orElseThrow();
+        assertThat(after.commentCount()).isEqualTo(before.commentCount());
+        assertThat(after.lastCommenterModifiedAt()).isAfter(before.lastCommenterModifiedAt());
+        assertThat(after.tag()).isNotEqualTo(before.tag());
+        assertThat(after.lastArticleId()).isEqualTo(lastArticleId);
+        assertThat(after.hasNextArticle()).isTrue();
+        assertThat(articleRepository.findArticleVersion(lastArticleId).orElseThrow().hasNextArticle()).isFalse();
+    }
+
+    @DisplayName("[Querydsl] 검색 바인딩 - 정규화 컬럼으로 대소문자를 무시하고, * 로 끝나면 앞부분 일치로 찾는다")
+    @Test
+    void givenSavedArticle_whenSearchingWithBindings_thenMatchesNormalizedColumns() {
+        // Given
+        UserAccount userAccount = userAccountRepository.getReferenceById("lbk");
+        Article article = articleRepository.saveAndFlush(Article.of(userAccount, "Spring Boot 정리", "Querydsl Binding"));
+
+        // When & Then
+        assertThat(searchArticles("title", "SPRING BOOT*")).contains(article);
+        assertThat(searchArticles("title", "boot")).contains(article);
+        assertThat(searchArticles("title", "boot*")).doesNotContain(article);
+        assertThat(searchArticles("content", "querydsl b*")).containsExactly(article);
+        assertThat(searchArticles("createdBy", "LB*")).contains(article);
+    }
+
+    @DisplayName("[Querydsl] 검색 바인딩 - 제목을 수정하면 정규화 컬럼도 갱신된다")
+    @Test
+    void givenUpdatedTitle_whenSearchingWithBindings_thenFindsByNewTitle() {
+        // Given
+        Article article = articleRepository.findById(1L).orElseThrow();
+        article.setTitle("Renamed TITLE");
+
+        // When
+        articleRepository.saveAndFlush(article);
+
+        // Then
+        assertThat(searchArticles("title", "renamed t*")).containsExactly(article);
+    }
+
+    private List<Article> searchArticles(String property, String value) {
+        QuerydslBindings bindings = new QuerydslBindings();
+        articleRepository.customize(bindings, QArticle.article);
+        Predicate predicate = new QuerydslPredicateBuilder(DefaultConversionService.getSharedInstance(), SimpleEntityPathResolver.INSTANCE)
+                .getPredicate(ClassTypeInformation.from(Article.class), new LinkedMultiValueMap<>(Map.of(property, List.of(value))), bindings);
+        List<Article> articles = new ArrayList<>();
+        articleRepository.findAll(predicate).forEach(articles::add);
+        return articles;
+    }
+
 
     @EnableJpaAuditing
     @TestConfiguration
@@ -0,0 +1,98 @@
+package com.example.projectboard.repository;
+
+import com.example.projectboard.config.SeedDataConfig;
+import com.example.projectboard.dto.api.ArticleCommentSummary;
+import com.example.projectboard.dto.api.ArticleSummary;
+import com.example.projectboard.dto.api.HashtagSummary;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("읽기 API 조회 - 커서 페이징")
+@Import({ReadApiRepository.class, JpaRepositoryTest.TestJpaConfig.class, SeedDataConfig.class})
+@DataJpaTest
+class ReadApiRepositoryTest {
+
+    private final ReadApiRepository sut;
+    private final ArticleRepository articleRepository;
+    private final ArticleCommentRepository articleCommentRepository;
+    private final HashtagRepository hashtagRepository;
+
+    ReadApiRepositoryTest(
+            @Autowired ReadApiRepository sut,
+            @Autowired ArticleRepository articleRepository,
+            @Autowired ArticleCommentRepository articleCommentRepository,
+            @Autowired HashtagRepository hashtagRepository
+    ) {
+        this.sut = sut;
+        this.articleRepository = articleRepository;
+        this.articleCommentRepository = articleCommentRepository;
+        this.hashtagRepository = hashtagRepository;
+    }
+
+    @DisplayName("게시글을 커서로 끝까지 넘기면, 최신 글부터 빠짐없이 한 번씩 조회된다.")
+    @Test
+    void givenCursor_whenPagingArticles_thenReturnsEveryArticleOnceInDescendingOrder() {
+        // Given
+        List<ArticleSummary> all = new ArrayList<>();
+        Long cursor = null;
+
+        // When
+        List<ArticleSummary> page;
+        do {
+            page = sut.findArticles(cursor, 30);
+            all.addAll(page);
+            cursor = page.isEmpty() ? null : page.get(page.size() - 1).id();
+        } while (page.size() == 30);
+
+        // Then
+        assertThat(all)
+                .hasSize((int) articleRepository.count())
+                .isSortedAccordingTo(Comparator.comparing(ArticleSummary::id).reversed())
+                .allSatisfy(article -> assertThat(article.userId()).isNotBlank());
+    }
+
+    @DisplayName("댓글은 해당 게시글의 것만 id 순으로 커서 이후부터 조회된다.")
+    @Test
+    void givenArticleIdAndCursor_whenQueryingComments_thenReturnsCommentsAfterCursor() {
+        // Given
+        Long articleId = 1L;
+        List<ArticleCommentSummary> first = sut.findArticleComments(articleId, null, 2);
+
+        // When
+        List<ArticleCommentSummary> next = sut.findArticleComments(articleId, first.get(1).id(), 100);
+
+        // Then
+        assertThat(first).hasSize(2);
+        assertThat(next)
+                .allSatisfy(comment -> {
+                    assertThat(comment.articleId()).isEqualTo(articleId);
+                    assertThat(comment.id()).isGreaterThan(first.get(1).id());
+                })
+                .isSortedAccordingTo(Comparator.comparing(ArticleCommentSummary::id));
+        assertThat(first.size() + next.size()).isEqualTo(articleCommentRepository.findByArticle_Id(articleId).size());
+    }
+
+    @DisplayName("해시태그는 이름만 담아서 id 순으로 조회된다.")
+    @Test
+    void givenNothing_whenQueryingHashtags_thenReturnsHashtagSummaries() {
+        // Given
+
+        // When
+        List<HashtagSummary> hashtags = sut.findHashtags(null, 100);
+
+        // Then
+        assertThat(hashtags)
+                .hasSize((int) hashtagRepository.count())
+                .isSortedAccordingTo(Comparator.comparing(HashtagSummary::id));
+    }
+
+}
@@ -0,0 +1,118 @@
+package com.example.projectboard.repository;
+
+import com.example.projectboard.config.SeedDataConfig;
+import com.example.projectboard.domain.Hashtag;
+import com.example.projectboard.domain.UserAccount;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static com.example.projectboard.util.QueryCountAssertions.assertThatSqlStatementCount;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("JPA 2차 캐시 테스트")
+@Import({SecondLevelCacheTest.TestJpaConfig.class, SeedDataConfig.class})
+@DataJpaTest
+class SecondLevelCacheTest {
+
+    @Autowired private UserAccountRepository userAccountRepository;
+    @Autowired private HashtagRepository hashtagRepository;
+    @Autowired private TestEntityManager entityManager;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void evictAll() {
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    /**
+     * 2차 캐시에 들어간 엔티티는 그 이후에 시작한 트랜잭션부터 보이므로, 조회마다 트랜잭션을 따로 쓴다.
+     */
+    @DisplayName("한 번 조회한 회원은, 다른 트랜잭션에서 SQL 없이 다시 조회된다.")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Test
+    void givenLoadedUserAccount_whenLoadingAgainInAnotherTransaction_thenHitsSecondLevelCache() {
+        // Given
+        userAccountRepository.findById("uno");
+
+        // When & Then
+        assertThatSqlStatementCount(() -> assertThat(userAccountRepository.findById("uno")).isPresent())
+                .isZero();
+    }
+
+    @DisplayName("회원 정보를 수정하면, 다시 조회할 때 수정된 정보가 나온다.")
+    @Test
+    void givenCachedUserAccount_whenUpdating_thenReloadsUpdatedUserAccount() {
+        // Given
+        UserAccount userAccount = userAccountRepository.findById("uno").orElseThrow();
+        userAccount.setNickname("new nickname");
+        userAccountRepository.flush();
+        entityManager.clear();
+
+        // When
+        UserAccount reloaded = userAccountRepository.findById("uno").orElseThrow();
+
+        // Then
+        assertThat(reloaded.getNickname()).isEqualTo("new nickname");
+    }
+
+    @DisplayName("같은 해시태그 이름들로 다른 트랜잭션에서 다시 조회하면, 쿼리 캐시에서 SQL 없이 조회된다.")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Test
+    void givenQueriedHashtagNames_whenQueryingAgainInAnotherTransaction_thenHitsQueryCache() {
+        // Given
+        Set<String> hashtagNames = Set.of("blue", "red");
+        hashtagRepository.findByHashtagNameIn(hashtagNames);
+
+        // When & Then
+        assertThatSqlStatementCount(() -> assertThat(hashtagRepository.findByHashtagNameIn(hashtagNames)).hasSize(2))
+                .isZero();
+    }
+
+    @DisplayName("해시태그를 삭제하면, 쿼리 캐시가 무효화되어 삭제된 해시태그는 조회되지 않는다.")
+    @Test
+    void givenCachedHashtagQuery_whenDeletingHashtag_thenQueryCacheIsInvalidated() {
+        // Given
+        Set<String> hashtagNames = Set.of("blue", "red");
+        List<Hashtag> cached = hashtagRepository.findByHashtagNameIn(hashtagNames);
+        Hashtag blue = cached.stream().filter(hashtag -> hashtag.getHashtagName().equals("blue")).findFirst().orElseThrow();
+        blue.getArticles().forEach(article -> article.getHashtags().remove(blue));
+        hashtagRepository.delete(blue);
+        hashtagRepository.flush();
+        entityManager.clear();
+
+        // When
+        List<Hashtag> hashtags = hashtagRepository.findByHashtagNameIn(hashtagNames);
+
+        // Then
+        assertThat(hashtags)
+                .extracting(Hashtag::getHashtagName)
+                .containsExactly("red");
+    }
+
+
+    @EnableJpaAuditing
+    @TestConfiguration
+    static class TestJpaConfig {
+        @Bean
+        AuditorAware<String> auditorAware() {
+            return () -> Optional.of("lbk");
+        }
+    }
+
+}
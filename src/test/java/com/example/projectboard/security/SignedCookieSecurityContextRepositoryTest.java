@@ -0,0 +1,144 @@
+package com.example.projectboard.security;
+
+import com.example.projectboard.dto.security.BoardPrincipal;
+import com.example.projectboard.service.UserAccountService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.web.context.HttpRequestResponseHolder;
+
+import javax.servlet.http.Cookie;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("보안 - 서명된 쿠키 인증 저장소")
+class SignedCookieSecurityContextRepositoryTest {
+
+    private static final String COOKIE_NAME = "BOARD_SESSION";
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    private final SignedCookieCodec codec = new SignedCookieCodec("0123456789abcdef0123456789abcdef".getBytes(StandardCharsets.UTF_8), true);
+    private final UserAccountService userAccountService = mock(UserAccountService.class);
+
+    @DisplayName("로그인 후 저장한 쿠키로 요청하면, 캐시된 조회로 인증 주체를 다시 만든다.")
+    @Test
+    void givenSavedCookie_whenLoadingContext_thenRehydratesPrincipal() {
+        // Given
+        BoardPrincipal principal = createPrincipal();
+        given(userAccountService.searchPrincipal("uno")).willReturn(Optional.of(principal));
+        SignedCookieSecurityContextRepository sut = createRepository(Clock.fixed(NOW, ZoneOffset.UTC));
+        Cookie cookie = login(sut, principal);
+
+        // When
+        SecurityContext context = sut.loadContext(holder(cookie));
+
+        // Then
+        assertThat(context.getAuthentication()).isNotNull();
+        assertThat(context.getAuthentication().getPrincipal()).isEqualTo(principal);
+        assertThat(context.getAuthentication().getAuthorities())
+                .extracting(Object::toString)
+                .containsExactly("ROLE_USER");
+    }
+
+    @DisplayName("쿠키에는 username, 권한, 만료 시각만 담는다.")
+    @Test
+    void givenAuthentication_whenSavingContext_thenWritesCompactCookie() {
+        // Given
+        SignedCookieSecurityContextRepository sut = createRepository(Clock.fixed(NOW, ZoneOffset.UTC));
+
+        // When
+        Cookie cookie = login(sut, createPrincipal());
+
+        // Then
+        assertThat(cookie.isHttpOnly()).isTrue();
+        assertThat(cookie.getSecure()).isTrue();
+        assertThat(cookie.getMaxAge()).isEqualTo((int) Duration.ofHours(12).toSeconds());
+        assertThat(cookie.getValue())
+                .doesNotContain("e@mail.com")
+                .hasSizeLessThan(150);
+    }
+
+    @DisplayName("서명이 맞지 않는 쿠키로 요청하면, 인증하지 않는다.")
+    @Test
+    void givenTamperedCookie_whenLoadingContext_thenReturnsEmptyContext() {
+        // Given
+        SignedCookieSecurityContextRepository sut = createRepository(Clock.fixed(NOW, ZoneOffset.UTC));
+        Cookie cookie = login(sut, createPrincipal());
+        String value = cookie.getValue();
+        Cookie tampered = new Cookie(COOKIE_NAME, "bGJr" + value.substring(value.indexOf('.')));
+
+        // When
+        SecurityContext context = sut.loadContext(holder(tampered));
+
+        // Then
+        assertThat(context.getAuthentication()).isNull();
+    }
+
+    @DisplayName("만료된 쿠키로 요청하면, 인증하지 않는다.")
+    @Test
+    void givenExpiredCookie_whenLoadingContext_thenReturnsEmptyContext() {
+        // Given
+        given(userAccountService.searchPrincipal("uno")).willReturn(Optional.of(createPrincipal()));
+        Cookie cookie = login(createRepository(Clock.fixed(NOW, ZoneOffset.UTC)), createPrincipal());
+        SignedCookieSecurityContextRepository sut = createRepository(Clock.fixed(NOW.plus(Duration.ofHours(13)), ZoneOffset.UTC));
+
+        // When
+        SecurityContext context = sut.loadContext(holder(cookie));
+
+        // Then
+        assertThat(context.getAuthentication()).isNull();
+    }
+
+    @DisplayName("쿠키의 회원이 더 이상 없으면, 인증하지 않는다.")
+    @Test
+    void givenCookieOfDeletedUser_whenLoadingContext_thenReturnsEmptyContext() {
+        // Given
+        given(userAccountService.searchPrincipal("uno")).willReturn(Optional.empty());
+        SignedCookieSecurityContextRepository sut = createRepository(Clock.fixed(NOW, ZoneOffset.UTC));
+        Cookie cookie = login(sut, createPrincipal());
+
+        // When
+        SecurityContext context = sut.loadContext(holder(cookie));
+
+        // Then
+        assertThat(context.getAuthentication()).isNull();
+    }
+
+
+    private SignedCookieSecurityContextRepository createRepository(Clock clock) {
+        return new SignedCookieSecurityContextRepository(codec, userAccountService, COOKIE_NAME, Duration.ofHours(12), clock);
+    }
+
+    private Cookie login(SignedCookieSecurityContextRepository repository, BoardPrincipal principal) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        repository.saveContext(
+                new SecurityContextImpl(UsernamePasswordAuthenticationToken.authenticated(principal, null, principal.getAuthorities())),
+                new MockHttpServletRequest(),
+                response
+        );
+        return response.getCookie(COOKIE_NAME);
+    }
+
+    private HttpRequestResponseHolder holder(Cookie cookie) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(cookie);
+        return new HttpRequestResponseHolder(request, new MockHttpServletResponse());
+    }
+
+    private BoardPrincipal createPrincipal() {
+        return BoardPrincipal.of("uno", "{noop}asdf1234", "e@mail.com", "Uno", "memo");
+    }
+
+}
@@ -0,0 +1,154 @@
+package com.example.projectboard.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultMatcher;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.servlet.http.Cookie;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.cookie;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 세션 없는 인증 모드를 켜고 실제 시큐리티 필터 체인으로 요청한다.
+ * 로그인, OAuth2 인가 요청, CSRF 검사가 모두 쿠키만으로 동작하고 {@code HttpSession} 을 만들지 않는지 확인한다.
+ */
+@DisplayName("보안 - 세션 없는 인증 모드 (필터 체인)")
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@SpringBootTest(properties = {
+        "board.security.stateless.enabled=true",
+        "board.security.stateless.secret=0123456789abcdef0123456789abcdef",
+        "board.security.stateless.secure-cookie=false"
+})
+@Transactional
+class StatelessSessionFilterChainTest {
+
+    private static final String AUTH_COOKIE = "BOARD_SESSION";
+    private static final String CSRF_COOKIE = "XSRF-TOKEN";
+
+    private final MockMvc mvc;
+
+    StatelessSessionFilterChainTest(@Autowired MockMvc mvc) {
+        this.mvc = mvc;
+    }
+
+    @DisplayName("[view][POST] 폼 로그인 - 인증 쿠키를 내려주고, 그 쿠키로 인증이 필요한 페이지에 들어갈 수 있다. 세션은 만들지 않는다.")
+    @Test
+    void givenCredentials_whenLoggingIn_thenIssuesAuthCookieWithoutSession() throws Exception {
+        // Given
+        Cookie csrf = csrfCookie();
+
+        // When
+        MvcResult login = mvc.perform(post("/login")
+                        .cookie(csrf)
+                        .param("_csrf", csrf.getValue())
+                        .param("username", "uno")
+                        .param("password", "asdf1234"))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(cookie().exists(AUTH_COOKIE))
+                .andExpect(noSession())
+                .andReturn();
+
+        // Then
+        mvc.perform(get("/articles/form").cookie(login.getResponse().getCookie(AUTH_COOKIE)))
+                .andExpect(status().isOk())
+                .andExpect(noSession());
+    }
+
+    @DisplayName("[view][POST] 폼 로그인 - 비밀번호가 틀리면 인증 쿠키 없이 로그인 페이지로 돌려보낸다.")
+    @Test
+    void givenWrongPassword_whenLoggingIn_thenRedirectsToLoginWithoutAuthCookie() throws Exception {
+        // Given
+        Cookie csrf = csrfCookie();
+
+        // When & Then
+        mvc.perform(post("/login")
+                        .cookie(csrf)
+                        .param("_csrf", csrf.getValue())
+                        .param("username", "uno")
+                        .param("password", "wrong-password"))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl("/login?error"))
+                .andExpect(cookie().doesNotExist(AUTH_COOKIE))
+                .andExpect(noSession());
+    }
+
+    @DisplayName("[view][GET] 카카오 로그인 - 인가 요청을 쿠키에 담고 카카오 인증 서버로 보낸다. 세션은 만들지 않는다.")
+    @Test
+    void givenNothing_whenStartingKakaoLogin_thenRedirectsWithAuthorizationRequestCookie() throws Exception {
+        // Given
+
+        // When & Then
+        mvc.perform(get("/oauth2/authorization/kakao"))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(header().string(HttpHeaders.LOCATION, startsWith("https://kauth.kakao.com/oauth/authorize?")))
+                .andExpect(cookie().exists(CookieOAuth2AuthorizationRequestRepository.COOKIE_NAME))
+                .andExpect(noSession());
+    }
+
+    @DisplayName("[view][POST] 댓글 등록 - CSRF 토큰이 없으면 거절하고, 쿠키의 토큰을 함께 보내면 처리한다. 세션은 만들지 않는다.")
+    @Test
+    void givenAuthCookie_whenPostingCommentWithAndWithoutCsrfToken_thenOnlyAcceptsTokenMatchingCookie() throws Exception {
+        // Given
+        Cookie auth = login();
+        Cookie csrf = csrfCookie();
+
+        // When & Then
+        mvc.perform(post("/comments/new")
+                        .cookie(auth)
+                        .param("articleId", "1")
+                        .param("content", "test comment"))
+                .andExpect(status().isForbidden())
+                .andExpect(noSession());
+        mvc.perform(post("/comments/new")
+                        .cookie(auth, csrf)
+                        .param("_csrf", csrf.getValue())
+                        .param("articleId", "1")
+                        .param("content", "test comment"))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl("/articles/1"))
+                .andExpect(noSession());
+    }
+
+
+    private Cookie csrfCookie() throws Exception {
+        MvcResult result = mvc.perform(get("/login"))
+                .andExpect(status().isOk())
+                .andExpect(cookie().exists(CSRF_COOKIE))
+                .andExpect(noSession())
+                .andReturn();
+        return result.getResponse().getCookie(CSRF_COOKIE);
+    }
+
+    private Cookie login() throws Exception {
+        Cookie csrf = csrfCookie();
+        MvcResult result = mvc.perform(post("/login")
+                        .cookie(csrf)
+                        .param("_csrf", csrf.getValue())
+                        .param("username", "uno")
+                        .param("password", "asdf1234"))
+                .andExpect(cookie().exists(AUTH_COOKIE))
+                .andReturn();
+        return result.getResponse().getCookie(AUTH_COOKIE);
+    }
+
+    private static ResultMatcher noSession() {
+        return result -> assertThat(result.getRequest().getSession(false)).isNull();
+    }
+
+}
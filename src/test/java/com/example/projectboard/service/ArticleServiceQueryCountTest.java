@@ -0,0 +1,84 @@
+package com.example.projectboard.service;
+
+import com.example.projectboard.config.SeedDataConfig;
+import com.example.projectboard.domain.constant.SearchType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+
+import java.util.Optional;
+
+import static com.example.projectboard.util.QueryCountAssertions.assertThatSqlStatementCount;
+
+@DisplayName("비즈니스 로직 - 게시글 SQL 실행 수")
+@Import({ArticleService.class, HashtagService.class, ArticleServiceQueryCountTest.TestJpaConfig.class, SeedDataConfig.class})
+@DataJpaTest
+class ArticleServiceQueryCountTest {
+
+    @Autowired private ArticleService sut;
+    @Autowired private TestEntityManager entityManager;
+
+    @BeforeEach
+    void clearPersistenceContext() {
+        entityManager.clear();
+    }
+
+    @DisplayName("게시글 상세를 댓글과 함께 조회하면, 댓글 수와 관계없이 정해진 수의 SQL 만 실행한다.")
+    @Test
+    void givenArticleId_whenSearchingArticleWithComments_thenExecutesBoundedStatements() {
+        // Given
+        Long articleId = 1L;
+
+        // When & Then
+        assertThatSqlStatementCount(() -> sut.getArticleWithComments(articleId))
+                .isLessThanOrEqualTo(5);
+    }
+
+    @DisplayName("게시글 페이지를 조회하면, 페이지 크기와 관계없이 정해진 수의 SQL 만 실행한다.")
+    @Test
+    void givenNoSearchParameters_whenSearchingArticles_thenExecutesBoundedStatements() {
+        // Given
+        PageRequest pageable = PageRequest.of(0, 20);
+
+        // When & Then
+        assertThatSqlStatementCount(() -> sut.searchArticles(null, null, pageable))
+                .isLessThanOrEqualTo(5);
+    }
+
+    @DisplayName("해시태그로 게시글을 검색하면, 페이지 크기와 관계없이 정해진 수의 SQL 만 실행한다.")
+    @Test
+    void givenHashtag_whenSearchingArticles_thenExecutesBoundedStatements() {
+        // Given
+        PageRequest pageable = PageRequest.of(0, 20);
+
+        // When & Then
+        assertThatSqlStatementCount(() -> sut.searchArticles(SearchType.HASHTAG, "fuscia", pageable))
+                .isLessThanOrEqualTo(4);
+    }
+
+
+    @EnableJpaAuditing
+    @TestConfiguration
+    static class TestJpaConfig {
+        @Bean
+        AuditorAware<String> auditorAware() {
+            return () -> Optional.of("lbk");
+        }
+
+        @Bean
+        AuthorSummaryCache authorSummaryCache() {
+            return new AuthorSummaryCache(new ConcurrentMapCacheManager(AuthorSummaryCache.CACHE_NAME));
+        }
+    }
+
+}
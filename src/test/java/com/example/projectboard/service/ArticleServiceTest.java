@@ -6,6 +6,9 @@ import com.example.projectboard.domain.Hashtag;
 import com.example.projectboard.domain.UserAccount;
 import com.example.projectboard.domain.constant.SearchType;
 import com.example.projectboard.dto.*;
+import com.example.projectboard.dto.response.ArticleResponse;
+import com.example.projectboard.dto.response.ArticleWithCommentsResponse;
+import com.example.projectboard.dto.response.AuthorSummary;
 import com.example.projectboard.repository.ArticleRepository;
 import com.example.projectboard.repository.HashtagRepository;
 import com.example.projectboard.repository.UserAccountRepository;
@@ -16,9 +19,13 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import javax.persistence.EntityNotFoundException;
@@ -52,6 +59,8 @@ class ArticleServiceTest {
     private UserAccountRepository userAccountRepository;
     @Mock
     private HashtagRepository hashtagRepository;
+    @Spy            // 실제 캐시 동작이 필요한 협력 객체는 @Spy
+    private AuthorSummaryCache authorSummaryCache = new AuthorSummaryCache(new ConcurrentMapCacheManager(AuthorSummaryCache.CACHE_NAME));
 
     @DisplayName("검색어 없이 게시글을 검색하면, 게시글 페이지를 반환한다.")
     @Test
@@ -66,7 +75,7 @@ class ArticleServiceTest {
         BDDMockito.given(articleRepository.findAll(pageable)).willReturn(Page.empty());
 
         // when
-        Page<ArticleDto> articles = sut.searchArticles(null, null, pageable);
+        Page<ArticleResponse> articles = sut.searchArticles(null, null, pageable);
 
         // then
         assertThat(articles).isEmpty();
@@ -83,7 +92,7 @@ class ArticleServiceTest {
         BDDMockito.given(articleRepository.findByTitleContaining(searchKeyword, pageable)).willReturn(Page.empty());
 
         // when
-        Page<ArticleDto> articles = sut.searchArticles(searchType, searchKeyword, pageable);
+        Page<ArticleResponse> articles = sut.searchArticles(searchType, searchKeyword, pageable);
 
         // then
         assertThat(articles).isEmpty();
@@ -97,7 +106,7 @@ class ArticleServiceTest {
         Pageable pageable = Pageable.ofSize(20);
 
         // when
-        Page<ArticleDto> articles = sut.searchArticlesViaHashtag(null, pageable);
+        Page<ArticleResponse> articles = sut.searchArticlesViaHashtag(null, pageable);
 
         // then
         assertThat(articles).isEqualTo(Page.empty(pageable));
@@ -114,13 +123,31 @@ class ArticleServiceTest {
         BDDMockito.given(articleRepository.findByHashtagNames(List.of(hashtagName), pageable)).willReturn(new PageImpl<>(List.of(), pageable, 0));
 
         // When
-        Page<ArticleDto> articles = sut.searchArticlesViaHashtag(hashtagName, pageable);
+        Page<ArticleResponse> articles = sut.searchArticlesViaHashtag(hashtagName, pageable);
 
         // Then
         assertThat(articles).isEqualTo(Page.empty(pageable));
         BDDMockito.then(articleRepository).should().findByHashtagNames(List.of(hashtagName), pageable);
     }
 
+    @DisplayName("같은 회원이 쓴 게시글들을 검색하면, 게시글들은 캐시된 같은 작성자 정보를 참조한다.")
+    @Test
+    void givenArticlesOfSameUser_whenSearchingArticles_thenSharesCachedAuthorSummary() {
+        // Given
+        Pageable pageable = Pageable.ofSize(20);
+        BDDMockito.given(articleRepository.findAll(pageable))
+                .willReturn(new PageImpl<>(List.of(createArticle(1L), createArticle(2L)), pageable, 2));
+
+        // When
+        Page<ArticleResponse> articles = sut.searchArticles(null, null, pageable);
+
+        // Then
+        assertThat(articles.getContent().get(0).author())
+                .isSameAs(articles.getContent().get(1).author())
+                .isEqualTo(AuthorSummary.of("lbk", "Lbk", "lbk@gmail.com"));
+        BDDMockito.then(authorSummaryCache).should(Mockito.times(2)).get(ArgumentMatchers.any(UserAccount.class));
+    }
+
     @DisplayName("게시글을 해시태그 검색하면, 게시글 페이지를 반환한다.")
     @Test
     void givenHashtag_whenSearchingArticlesViaHashtag_thenReturnsArticlesPage() {
@@ -132,10 +159,10 @@ class ArticleServiceTest {
                 .willReturn(new PageImpl<>(List.of(expectedArticle), pageable, 1));
 
         // when
-        Page<ArticleDto> articles = sut.searchArticlesViaHashtag(hashtagName, pageable);
+        Page<ArticleResponse> articles = sut.searchArticlesViaHashtag(hashtagName, pageable);
 
         // then
-        assertThat(articles).isEqualTo(new PageImpl<>(List.of(ArticleDto.from(expectedArticle)), pageable, 1));
+        assertThat(articles).isEqualTo(new PageImpl<>(List.of(ArticleResponse.from(expectedArticle)), pageable, 1));
         BDDMockito.then(articleRepository).should().findByHashtagNames(List.of(hashtagName), pageable);
     }
 
@@ -148,14 +175,14 @@ class ArticleServiceTest {
         BDDMockito.given(articleRepository.findById(articleId)).willReturn(Optional.of(article));
 
         // when
-        ArticleWithCommentsDto dto = sut.getArticleWithComments(articleId);
+        ArticleWithCommentsResponse response = sut.getArticleWithComments(articleId);
 
         // then
-        assertThat(dto)
+        assertThat(response)
                 .hasFieldOrPropertyWithValue("title", article.getTitle())
                 .hasFieldOrPropertyWithValue("content", article.getContent())
-                .hasFieldOrPropertyWithValue("hashtagDtos", article.getHashtags().stream()
-                        .map(HashtagDto::from)
+                .hasFieldOrPropertyWithValue("hashtags", article.getHashtags().stream()
+                        .map(Hashtag::getHashtagName)
                         .collect(Collectors.toUnmodifiableSet())
                 );
         BDDMockito.then(articleRepository).should().findById(articleId);
@@ -190,14 +217,14 @@ class ArticleServiceTest {
         BDDMockito.given(articleRepository.findById(articleId)).willReturn(Optional.of(article));
 
         // when
-        ArticleDto dto = sut.getArticle(articleId);
+        ArticleResponse response = sut.getArticle(articleId);
 
         // then
-        assertThat(dto)
+        assertThat(response)
                 .hasFieldOrPropertyWithValue("title", article.getTitle())
                 .hasFieldOrPropertyWithValue("content", article.getContent())
-                .hasFieldOrPropertyWithValue("hashtagDtos", article.getHashtags().stream()
-                        .map(HashtagDto::from)
+                .hasFieldOrPropertyWithValue("hashtags", article.getHashtags().stream()
+                        .map(Hashtag::getHashtagName)
                         .collect(Collectors.toUnmodifiableSet())
                 );
         BDDMockito.then(articleRepository).should().findById(articleId);
@@ -359,6 +386,54 @@ class ArticleServiceTest {
         BDDMockito.then(articleRepository).should().count();
     }
 
+    @DisplayName("가장 큰 게시글 ID 를 조회하면, 글 수를 세지 않고 ID 를 반환한다. 글이 없으면 0 이다.")
+    @Test
+    void givenNothing_whenSearchingLastArticleId_thenReturnsLastArticleId() {
+        // given
+        BDDMockito.given(articleRepository.findLastArticleId()).willReturn(Optional.of(123L), Optional.empty());
+
+        // when
+        long actual = sut.getLastArticleId();
+        long empty = sut.getLastArticleId();
+
+        // then
+        assertThat(actual).isEqualTo(123L);
+        assertThat(empty).isZero();
+        BDDMockito.then(articleRepository).should(Mockito.never()).count();
+    }
+
+    @DisplayName("커서 없이 이전 게시글을 조회하면, 가장 최근 글부터 id 내림차순으로 반환한다.")
+    @Test
+    void givenNoCursor_whenSearchingArticlesBefore_thenReturnsLatestArticles() {
+        // given
+        Article article = createArticle();
+        Pageable pageable = PageRequest.of(0, 100, Sort.by(Sort.Direction.DESC, "id"));
+        BDDMockito.given(articleRepository.findByIdLessThan(Long.MAX_VALUE, pageable)).willReturn(new SliceImpl<>(List.of(article)));
+
+        // when
+        List<ArticleResponse> articles = sut.getArticlesBefore(null, 100);
+
+        // then
+        assertThat(articles).singleElement().hasFieldOrPropertyWithValue("title", article.getTitle());
+        BDDMockito.then(articleRepository).should().findByIdLessThan(Long.MAX_VALUE, pageable);
+    }
+
+    @DisplayName("게시글 ID로 버전을 조회하면, 본문 없이 게시글 버전을 반환한다.")
+    @Test
+    void givenArticleId_whenSearchingArticleVersion_thenReturnsArticleVersion() {
+        // given
+        Long articleId = 1L;
+        ArticleVersion expected = ArticleVersion.of(articleId, LocalDateTime.now(), null, 0L, LocalDateTime.now(), null, articleId);
+        BDDMockito.given(articleRepository.findArticleVersion(articleId)).willReturn(Optional.of(expected));
+
+        // when
+        Optional<ArticleVersion> actual = sut.getArticleVersion(articleId);
+
+        // then
+        assertThat(actual).contains(expected);
+        BDDMockito.then(articleRepository).should().findArticleVersion(articleId);
+    }
+
     @DisplayName("해시태그를 조회하면, 유니크 해시태그 리스트를 반환한다.")
     @Test
     void givenNothing_whenCalling_thenReturnsHashtags() {
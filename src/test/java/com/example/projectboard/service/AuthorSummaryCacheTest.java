@@ -0,0 +1,93 @@
+package com.example.projectboard.service;
+
+import com.example.projectboard.domain.UserAccount;
+import com.example.projectboard.dto.response.AuthorSummary;
+import com.example.projectboard.repository.UserAccountRepository;
+import com.example.projectboard.web.AnonymousPageCacheFilter;
+import com.example.projectboard.web.CachedPage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("비즈니스 로직 - 작성자 정보 캐시")
+@ActiveProfiles("test")
+@SpringBootTest
+class AuthorSummaryCacheTest {
+
+    @Autowired private AuthorSummaryCache sut;
+    @Autowired private UserAccountRepository userAccountRepository;
+    @Autowired private PlatformTransactionManager transactionManager;
+    @Autowired private CacheManager cacheManager;
+
+    @AfterEach
+    void tearDown() {
+        inTransaction(() -> userAccountRepository.findById("uno").ifPresent(userAccount -> userAccount.setNickname("Uno")));
+    }
+
+    @DisplayName("같은 회원의 작성자 정보를 여러 번 가져오면, 같은 인스턴스를 반환한다.")
+    @Test
+    void givenSameUser_whenGettingRepeatedly_thenReturnsSameInstance() {
+        // Given
+        UserAccount first = UserAccount.of("lbk", "pw", "lbk@mail.com", "", "memo");
+        UserAccount second = UserAccount.of("lbk", "pw", "lbk@mail.com", "", "memo");
+
+        // When
+        AuthorSummary firstSummary = sut.get(first);
+        AuthorSummary secondSummary = sut.get(second);
+
+        // Then
+        assertThat(firstSummary)
+                .isSameAs(secondSummary)
+                .isEqualTo(AuthorSummary.of("lbk", "lbk", "lbk@mail.com"));
+    }
+
+    @DisplayName("회원 정보가 수정되면, 캐시된 작성자 정보를 지워서 다음 조회 때 새로 만든다.")
+    @Test
+    void givenCachedSummary_whenUpdatingUser_thenEvictsSummary() {
+        // Given
+        AuthorSummary before = inTransaction(() -> sut.get(userAccountRepository.getReferenceById("uno")));
+
+        // When
+        inTransaction(() -> userAccountRepository.getReferenceById("uno").setNickname("Renamed"));
+        AuthorSummary after = inTransaction(() -> sut.get(userAccountRepository.getReferenceById("uno")));
+
+        // Then
+        assertThat(before.nickname()).isEqualTo("Uno");
+        assertThat(after.nickname()).isEqualTo("Renamed");
+    }
+
+    @DisplayName("회원 정보가 수정되면, 익명 사용자 목록 HTML 캐시도 비운다.")
+    @Test
+    void givenCachedAnonymousPage_whenUpdatingUser_thenClearsPageCache() {
+        // Given
+        Cache anonymousPages = cacheManager.getCache(AnonymousPageCacheFilter.CACHE_NAME);
+        anonymousPages.put("/articles", CachedPage.of("text/html;charset=UTF-8", "<html>Uno</html>".getBytes()));
+
+        // When
+        inTransaction(() -> userAccountRepository.getReferenceById("uno").setNickname("Renamed"));
+
+        // Then
+        assertThat(anonymousPages.get("/articles")).isNull();
+    }
+
+
+    private <T> T inTransaction(Supplier<T> action) {
+        return new TransactionTemplate(transactionManager).execute(status -> action.get());
+    }
+
+    private void inTransaction(Runnable action) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> action.run());
+    }
+
+}
@@ -0,0 +1,120 @@
+package com.example.projectboard.service;
+
+import com.example.projectboard.domain.UserAccount;
+import com.example.projectboard.domain.event.UserAccountChangedEvent;
+import com.example.projectboard.repository.UserAccountRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+@DisplayName("비즈니스 로직 - 회원 인증 주체 캐시")
+@SpringJUnitConfig(UserAccountServiceCacheTest.TestCacheConfig.class)
+class UserAccountServiceCacheTest {
+
+    @Autowired private UserAccountService sut;
+    @Autowired private CacheManager cacheManager;
+    @Autowired private ApplicationEventPublisher eventPublisher;
+    @MockBean private UserAccountRepository userAccountRepository;
+
+    @BeforeEach
+    void clearCache() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+    @DisplayName("같은 회원의 인증 주체를 여러 번 검색하면, DB 는 한 번만 조회한다.")
+    @Test
+    void givenExistentUserId_whenSearchingPrincipalRepeatedly_thenLoadsOnce() {
+        // Given
+        String username = "uno";
+        given(userAccountRepository.findById(username)).willReturn(Optional.of(createUserAccount(username)));
+
+        // When
+        sut.searchPrincipal(username);
+        sut.searchPrincipal(username);
+
+        // Then
+        then(userAccountRepository).should(times(1)).findById(username);
+    }
+
+    @DisplayName("존재하지 않는 회원은 캐시하지 않으므로, 가입 후에는 새로 조회된다.")
+    @Test
+    void givenNonexistentUserId_whenSearchingPrincipalAfterSignUp_thenLoadsAgain() {
+        // Given
+        String username = "kakao_1234";
+        given(userAccountRepository.findById(username)).willReturn(Optional.empty());
+        sut.searchPrincipal(username);
+        given(userAccountRepository.findById(username)).willReturn(Optional.of(createUserAccount(username)));
+
+        // When
+        sut.searchPrincipal(username);
+
+        // Then
+        then(userAccountRepository).should(times(2)).findById(username);
+    }
+
+    @DisplayName("회원을 저장하면, 캐시된 인증 주체를 지워서 다음 검색 때 새로 조회한다.")
+    @Test
+    void givenCachedPrincipal_whenSavingUser_thenEvictsPrincipal() {
+        // Given
+        String username = "uno";
+        given(userAccountRepository.findById(username)).willReturn(Optional.of(createUserAccount(username)));
+        given(userAccountRepository.save(any(UserAccount.class))).willReturn(createUserAccount(username));
+        sut.searchPrincipal(username);
+
+        // When
+        sut.saveUser(username, "password", "e@mail.com", "nickname", "memo");
+        sut.searchPrincipal(username);
+
+        // Then
+        then(userAccountRepository).should(times(2)).findById(username);
+    }
+
+    @DisplayName("회원 변경 이벤트가 오면, 캐시된 인증 주체를 지워서 다음 검색 때 새로 조회한다.")
+    @Test
+    void givenCachedPrincipal_whenUserAccountChanged_thenEvictsPrincipal() {
+        // Given
+        String username = "uno";
+        given(userAccountRepository.findById(username)).willReturn(Optional.of(createUserAccount(username)));
+        sut.searchPrincipal(username);
+
+        // When
+        eventPublisher.publishEvent(UserAccountChangedEvent.of(username));
+        sut.searchPrincipal(username);
+
+        // Then
+        then(userAccountRepository).should(times(2)).findById(username);
+    }
+
+
+    private UserAccount createUserAccount(String username) {
+        return UserAccount.of(username, "password", "e@mail.com", "nickname", "memo");
+    }
+
+    @EnableCaching
+    @Import(UserAccountService.class)
+    @Configuration
+    static class TestCacheConfig {
+        @Bean
+        CacheManager cacheManager() {
+            return new ConcurrentMapCacheManager(UserAccountService.PRINCIPAL_CACHE_NAME);
+        }
+    }
+
+}
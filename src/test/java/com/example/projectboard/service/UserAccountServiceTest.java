@@ -2,6 +2,7 @@ package com.example.projectboard.service;
 
 import com.example.projectboard.domain.UserAccount;
 import com.example.projectboard.dto.UserAccountDto;
+import com.example.projectboard.dto.security.BoardPrincipal;
 import com.example.projectboard.repository.UserAccountRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -56,6 +57,22 @@ class UserAccountServiceTest {
         then(userAccountRepository).should().findById(username);
     }
 
+    @DisplayName("존재하는 회원 ID로 인증 주체를 검색하면, 인증 주체를 Optional로 반환한다.")
+    @Test
+    void givenExistentUserId_whenSearchingPrincipal_thenReturnsOptionalPrincipal() {
+        // Given
+        String username = "uno";
+        given(userAccountRepository.findById(username)).willReturn(Optional.of(createUserAccount(username)));
+
+        // When
+        Optional<BoardPrincipal> result = sut.searchPrincipal(username);
+
+        // Then
+        assertThat(result)
+                .hasValueSatisfying(principal -> assertThat(principal.getUsername()).isEqualTo(username));
+        then(userAccountRepository).should().findById(username);
+    }
+
     @DisplayName("회원 정보를 입력하면, 새로운 회원 정보를 저장하여 가입시키고 해당 회원 데이터를 리턴한다.")
     @Test
     void givenUserParams_whenSaving_thenSavesUserAccount() {
@@ -0,0 +1,31 @@
+package com.example.projectboard.util;
+
+import com.example.projectboard.monitoring.SqlStatementCounter;
+import org.assertj.core.api.AbstractLongAssert;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+
+/**
+ * 테스트 대상 코드가 실행한 SQL 수를 검증한다. N+1 이 다시 생기는 것을 막는 용도.
+ *
+ * <pre>
+ * assertThatSqlStatementCount(() -> sut.getArticleWithComments(1L)).isLessThanOrEqualTo(3);
+ * </pre>
+ */
+public final class QueryCountAssertions {
+
+    private QueryCountAssertions() {}
+
+    public static AbstractLongAssert<?> assertThatSqlStatementCount(ThrowingCallable action) {
+        try (SqlStatementCounter.Scope scope = SqlStatementCounter.start()) {
+            action.call();
+            return Assertions.assertThat(scope.count())
+                    .as("실행된 SQL 수");
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
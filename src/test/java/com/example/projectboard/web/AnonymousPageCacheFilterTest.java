@@ -0,0 +1,187 @@
+package com.example.projectboard.web;
+
+import com.example.projectboard.domain.event.UserAccountChangedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.servlet.FilterChain;
+import javax.servlet.http.HttpServletResponse;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("익명 사용자 HTML 캐시")
+class AnonymousPageCacheFilterTest {
+
+    private final ConcurrentMapCache cache = new ConcurrentMapCache(AnonymousPageCacheFilter.CACHE_NAME);
+    private final AnonymousPageCacheFilter sut = new AnonymousPageCacheFilter(cache);
+    private final AtomicInteger renders = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @DisplayName("익명 사용자가 같은 목록을 다시 요청하면, 렌더링 없이 캐시된 HTML 로 응답한다.")
+    @Test
+    void givenAnonymousUser_whenRequestingSamePageTwice_thenRendersOnce() throws Exception {
+        // Given
+        loginAsAnonymous();
+
+        // When
+        MockHttpServletResponse first = get("/articles?page=1&sort=title", htmlPage());
+        MockHttpServletResponse second = get("/articles?sort=title&page=1", htmlPage());
+
+        // Then
+        assertThat(renders).hasValue(1);
+        assertThat(first.getHeader(AnonymousPageCacheFilter.CACHE_STATUS_HEADER)).isEqualTo("MISS");
+        assertThat(second.getHeader(AnonymousPageCacheFilter.CACHE_STATUS_HEADER)).isEqualTo("HIT");
+        assertThat(second.getContentAsString()).isEqualTo(first.getContentAsString()).isEqualTo("<html>articles</html>");
+        assertThat(second.getContentType()).isEqualTo("text/html;charset=UTF-8");
+    }
+
+    @DisplayName("로그인한 사용자는 캐시를 쓰지 않는다.")
+    @Test
+    void givenAuthenticatedUser_whenRequestingPage_thenBypassesCache() throws Exception {
+        // Given
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("lbk", null, "ROLE_USER"));
+
+        // When
+        get("/articles", htmlPage());
+        MockHttpServletResponse response = get("/articles", htmlPage());
+
+        // Then
+        assertThat(renders).hasValue(2);
+        assertThat(response.getHeader(AnonymousPageCacheFilter.CACHE_STATUS_HEADER)).isNull();
+    }
+
+    @DisplayName("쿠키를 내려주거나 200 이 아닌 응답은 캐시하지 않는다.")
+    @Test
+    void givenCookieOrErrorResponse_whenRequestingPage_thenDoesNotCache() throws Exception {
+        // Given
+        loginAsAnonymous();
+        FilterChain withCookie = (request, response) -> {
+            ((HttpServletResponse) response).addHeader(HttpHeaders.SET_COOKIE, "JSESSIONID=abc");
+            htmlPage().doFilter(request, response);
+        };
+        FilterChain error = (request, response) -> {
+            ((HttpServletResponse) response).setStatus(HttpStatus.INTERNAL_SERVER_ERROR.value());
+            htmlPage().doFilter(request, response);
+        };
+
+        // When
+        get("/articles", withCookie);
+        get("/articles/search-hashtag", error);
+
+        // Then
+        assertThat(cache.getNativeCache()).isEmpty();
+    }
+
+    @DisplayName("게시글 쓰기가 성공하면 캐시를 비우고, 로그인 요청은 캐시를 비우지 않는다.")
+    @Test
+    void givenWriteRequest_whenSucceeded_thenClearsCache() throws Exception {
+        // Given
+        loginAsAnonymous();
+        get("/articles", htmlPage());
+        FilterChain redirect = (request, response) -> ((HttpServletResponse) response).setStatus(HttpStatus.FOUND.value());
+
+        // When & Then
+        sut.doFilter(new MockHttpServletRequest("POST", "/login"), new MockHttpServletResponse(), redirect);
+        assertThat(cache.getNativeCache()).hasSize(1);
+
+        sut.doFilter(new MockHttpServletRequest("POST", "/articles/form"), new MockHttpServletResponse(), redirect);
+        assertThat(cache.getNativeCache()).isEmpty();
+    }
+
+    @DisplayName("회원 정보가 바뀌면, 예전 닉네임이 찍힌 캐시를 비운다.")
+    @Test
+    void givenCachedPage_whenUserAccountChanged_thenClearsCache() throws Exception {
+        // Given
+        loginAsAnonymous();
+        get("/articles", htmlPage());
+
+        // When
+        sut.onUserAccountChanged(UserAccountChangedEvent.of("uno"));
+
+        // Then
+        assertThat(cache.getNativeCache()).isEmpty();
+    }
+
+    @DisplayName("빈 검색어는 검색어가 없는 것과 같은 캐시 키를 쓴다.")
+    @Test
+    void givenBlankParameter_whenMakingCacheKey_thenIgnoresIt() {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/articles");
+        request.addParameter("searchValue", "");
+        request.addParameter("sort", "title,asc", "createdAt,desc");
+
+        // When
+        String key = AnonymousPageCacheFilter.cacheKey("/articles", request);
+
+        // Then
+        assertThat(key).isEqualTo("/articles?sort=title%2Casc&sort=createdAt%2Cdesc");
+    }
+
+    @DisplayName("여러 번 준 파라미터와 쉼표로 이어 붙인 하나의 파라미터는 다른 캐시 키를 쓴다.")
+    @Test
+    void givenRepeatedAndCommaJoinedParameters_whenMakingCacheKey_thenKeysDiffer() {
+        // Given
+        MockHttpServletRequest repeated = new MockHttpServletRequest("GET", "/articles");
+        repeated.addParameter("sort", "title,asc", "createdAt,desc");
+        MockHttpServletRequest joined = new MockHttpServletRequest("GET", "/articles");
+        joined.addParameter("sort", "title,asc,createdAt,desc");
+        MockHttpServletRequest injected = new MockHttpServletRequest("GET", "/articles");
+        injected.addParameter("searchValue", "a&page=2");
+        MockHttpServletRequest twoParameters = new MockHttpServletRequest("GET", "/articles");
+        twoParameters.addParameter("searchValue", "a");
+        twoParameters.addParameter("page", "2");
+
+        // When
+        String repeatedKey = AnonymousPageCacheFilter.cacheKey("/articles", repeated);
+        String joinedKey = AnonymousPageCacheFilter.cacheKey("/articles", joined);
+        String injectedKey = AnonymousPageCacheFilter.cacheKey("/articles", injected);
+        String twoParametersKey = AnonymousPageCacheFilter.cacheKey("/articles", twoParameters);
+
+        // Then
+        assertThat(repeatedKey).isNotEqualTo(joinedKey);
+        assertThat(injectedKey).isNotEqualTo(twoParametersKey);
+    }
+
+    private MockHttpServletResponse get(String uri, FilterChain chain) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri.split("\\?")[0]);
+        if (uri.contains("?")) {
+            for (String pair : uri.split("\\?")[1].split("&")) {
+                String[] nameAndValue = pair.split("=");
+                request.addParameter(nameAndValue[0], nameAndValue[1]);
+            }
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        sut.doFilter(request, response, chain);
+        return response;
+    }
+
+    private FilterChain htmlPage() {
+        return (request, response) -> {
+            renders.incrementAndGet();
+            response.setContentType("text/html;charset=UTF-8");
+            response.getWriter().write("<html>articles</html>");
+        };
+    }
+
+    private void loginAsAnonymous() {
+        SecurityContextHolder.getContext().setAuthentication(
+                new AnonymousAuthenticationToken("key", "anonymousUser", AuthorityUtils.createAuthorityList("ROLE_ANONYMOUS"))
+        );
+    }
+
+}
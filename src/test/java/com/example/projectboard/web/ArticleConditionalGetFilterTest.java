@@ -0,0 +1,256 @@
+package com.example.projectboard.web;
+
+import com.example.projectboard.dto.ArticleVersion;
+import com.example.projectboard.service.ArticleService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@DisplayName("조건부 GET - 게시글 / 댓글 스레드")
+@ExtendWith(MockitoExtension.class)
+class ArticleConditionalGetFilterTest {
+
+    @InjectMocks
+    private ArticleConditionalGetFilter sut;
+    @Mock
+    private ArticleService articleService;
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @DisplayName("처음 요청하면, ETag 와 Last-Modified 를 붙여서 다음 필터로 넘긴다.")
+    @Test
+    void givenNoValidator_whenRequestingArticle_thenAddsValidatorsAndProceeds() throws Exception {
+        // Given
+        given(articleService.getArticleVersion(1L)).willReturn(Optional.of(createArticleVersion()));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // When
+        sut.doFilter(new MockHttpServletRequest("GET", "/articles/1"), response, chain);
+
+        // Then
+        assertThat(chain.getRequest()).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.getHeader(HttpHeaders.ETAG)).startsWith("\"");
+        assertThat(response.getDateHeader(HttpHeaders.LAST_MODIFIED)).isEqualTo(createArticleVersion().lastModified() / 1000 * 1000);
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("no-cache, private");
+    }
+
+    @DisplayName("ETag 가 같으면, 다음 필터로 넘기지 않고 304 로 응답한다.")
+    @Test
+    void givenMatchingEtag_whenRequestingArticle_thenReturnsNotModified() throws Exception {
+        // Given
+        given(articleService.getArticleVersion(1L)).willReturn(Optional.of(createArticleVersion()));
+        String etag = requestEtag("/articles/1");
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/articles/1");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // When
+        sut.doFilter(request, response, chain);
+
+        // Then
+        assertThat(chain.getRequest()).isNull();
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo(etag);
+        then(articleService).should(never()).getArticleCount();
+    }
+
+    @DisplayName("댓글이 바뀌면, 이전 ETag 로는 304 를 받지 못한다.")
+    @Test
+    void givenChangedComments_whenRequestingWithOldEtag_thenProceeds() throws Exception {
+        // Given
+        ArticleVersion version = createArticleVersion();
+        given(articleService.getArticleVersion(1L)).willReturn(
+                Optional.of(version),
+                Optional.of(ArticleVersion.of(
+                        1L,
+                        version.articleModifiedAt(),
+                        version.lastCommentModifiedAt(),
+                        version.commentCount() - 1,
+                        version.authorModifiedAt(),
+                        version.lastCommenterModifiedAt(),
+                        version.lastArticleId()
+                ))
+        );
+        String etag = requestEtag("/api/v2/articles/1/comments");
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v2/articles/1/comments");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+        MockFilterChain chain = new MockFilterChain();
+
+        // When
+        sut.doFilter(request, new MockHttpServletResponse(), chain);
+
+        // Then
+        assertThat(chain.getRequest()).isNotNull();
+    }
+
+    @DisplayName("댓글 작성자가 닉네임을 바꾸면, 이전 ETag 로는 304 를 받지 못한다.")
+    @Test
+    void givenChangedCommenter_whenRequestingWithOldEtag_thenProceeds() throws Exception {
+        // Given
+        ArticleVersion version = createArticleVersion();
+        given(articleService.getArticleVersion(1L)).willReturn(
+                Optional.of(version),
+                Optional.of(ArticleVersion.of(
+                        1L,
+                        version.articleModifiedAt(),
+                        version.lastCommentModifiedAt(),
+                        version.commentCount(),
+                        version.authorModifiedAt(),
+                        LocalDateTime.of(2022, 6, 3, 10, 0),
+                        version.lastArticleId()
+                ))
+        );
+        String etag = requestEtag("/articles/1");
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/articles/1");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // When
+        sut.doFilter(request, response, chain);
+
+        // Then
+        assertThat(chain.getRequest()).isNotNull();
+        assertThat(response.getDateHeader(HttpHeaders.LAST_MODIFIED))
+                .isEqualTo(LocalDateTime.of(2022, 6, 3, 10, 0).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+    }
+
+    @DisplayName("마지막 글 다음에 새 글이 생기면 화면의 ETag 만 바뀌고, API 의 ETag 는 그대로다.")
+    @Test
+    void givenNewLastArticle_whenRequesting_thenOnlyViewEtagChanges() throws Exception {
+        // Given
+        ArticleVersion lastArticle = ArticleVersion.of(
+                3L,
+                LocalDateTime.of(2022, 6, 1, 10, 0),
+                null,
+                0L,
+                LocalDateTime.of(2022, 5, 1, 10, 0),
+                null,
+                3L
+        );
+        ArticleVersion withNextArticle = ArticleVersion.of(
+                3L,
+                lastArticle.articleModifiedAt(),
+                null,
+                0L,
+                lastArticle.authorModifiedAt(),
+                null,
+                4L
+        );
+        given(articleService.getArticleVersion(3L)).willReturn(
+                Optional.of(lastArticle),
+                Optional.of(lastArticle),
+                Optional.of(withNextArticle),
+                Optional.of(withNextArticle)
+        );
+        String viewEtag = requestEtag("/articles/3");
+        String apiEtag = requestEtag("/api/articles/3");
+
+        // When
+        String newViewEtag = requestEtag("/articles/3");
+        String newApiEtag = requestEtag("/api/articles/3");
+
+        // Then
+        assertThat(newViewEtag).isNotEqualTo(viewEtag);
+        assertThat(newApiEtag).isEqualTo(apiEtag);
+        then(articleService).should(never()).getArticleCount();
+    }
+
+    @DisplayName("화면의 ETag 는 로그인 사용자마다 다르다.")
+    @Test
+    void givenDifferentUser_whenRequestingArticle_thenEtagDiffers() throws Exception {
+        // Given
+        given(articleService.getArticleVersion(1L)).willReturn(Optional.of(createArticleVersion()));
+        String anonymousEtag = requestEtag("/articles/1");
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("lbk", null));
+
+        // When
+        String userEtag = requestEtag("/articles/1");
+
+        // Then
+        assertThat(userEtag).isNotEqualTo(anonymousEtag);
+    }
+
+    @DisplayName("Data REST 게시글은 ETag 만 붙인다. Last-Modified 는 Data REST 가 쓴다.")
+    @Test
+    void givenDataRestArticle_whenRequesting_thenAddsEtagOnly() throws Exception {
+        // Given
+        given(articleService.getArticleVersion(1L)).willReturn(Optional.of(createArticleVersion()));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        sut.doFilter(new MockHttpServletRequest("GET", "/api/articles/1"), response, new MockFilterChain());
+
+        // Then
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isNotNull();
+        assertThat(response.getHeader(HttpHeaders.LAST_MODIFIED)).isNull();
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("no-cache");
+        then(articleService).should(never()).getArticleCount();
+    }
+
+    @DisplayName("없는 게시글이거나 대상 경로가 아니면, 헤더 없이 그대로 넘긴다.")
+    @Test
+    void givenUnknownArticleOrOtherPath_whenRequesting_thenProceedsUntouched() throws Exception {
+        // Given
+        given(articleService.getArticleVersion(any())).willReturn(Optional.empty());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // When
+        sut.doFilter(new MockHttpServletRequest("GET", "/articles/999"), response, chain);
+        sut.doFilter(new MockHttpServletRequest("GET", "/articles/form"), new MockHttpServletResponse(), new MockFilterChain());
+        sut.doFilter(new MockHttpServletRequest("POST", "/articles/1"), new MockHttpServletResponse(), new MockFilterChain());
+
+        // Then
+        assertThat(chain.getRequest()).isNotNull();
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isNull();
+        then(articleService).should().getArticleVersion(999L);
+        then(articleService).shouldHaveNoMoreInteractions();
+    }
+
+    private String requestEtag(String uri) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        sut.doFilter(new MockHttpServletRequest("GET", uri), response, new MockFilterChain());
+        return response.getHeader(HttpHeaders.ETAG);
+    }
+
+    private ArticleVersion createArticleVersion() {
+        return ArticleVersion.of(
+                1L,
+                LocalDateTime.of(2022, 6, 1, 10, 0),
+                LocalDateTime.of(2022, 6, 2, 10, 0, 0, 500_000_000),
+                3L,
+                LocalDateTime.of(2022, 5, 1, 10, 0),
+                LocalDateTime.of(2022, 5, 2, 10, 0),
+                123L
+        );
+    }
+
+}
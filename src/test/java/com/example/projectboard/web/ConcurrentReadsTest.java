@@ -0,0 +1,162 @@
+package com.example.projectboard.web;
+
+import com.example.projectboard.monitoring.SqlStatementCountFilter;
+import com.example.projectboard.monitoring.SqlStatementCounter;
+import com.example.projectboard.monitoring.SqlStatementProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.server.ResponseStatusException;
+
+import javax.persistence.EntityNotFoundException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("조회 동시 실행")
+class ConcurrentReadsTest {
+
+    private final ConcurrentReads sut = new ConcurrentReads(Executors.newFixedThreadPool(2), Duration.ofSeconds(2));
+
+    @AfterEach
+    void tearDown() {
+        sut.shutdown();
+        SecurityContextHolder.clearContext();
+    }
+
+    @DisplayName("두 조회가 서로를 기다리게 해도, 동시에 실행되므로 둘 다 끝난다.")
+    @Test
+    void givenTwoReadsWaitingForEachOther_whenSubmitting_thenBothComplete() {
+        // Given
+        CountDownLatch bothStarted = new CountDownLatch(2);
+
+        // When
+        ConcurrentReads.Read<String> first = sut.submit(() -> awaitOther(bothStarted, "first"));
+        ConcurrentReads.Read<String> second = sut.submit(() -> awaitOther(bothStarted, "second"));
+
+        // Then
+        assertThat(first.get()).isEqualTo("first");
+        assertThat(second.get()).isEqualTo("second");
+    }
+
+    @DisplayName("요청 스레드의 인증 정보를 작업 스레드에서도 쓸 수 있다.")
+    @Test
+    void givenAuthenticatedUser_whenSubmitting_thenPropagatesSecurityContext() {
+        // Given
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("lbk", null, "ROLE_USER"));
+
+        // When
+        ConcurrentReads.Read<String> username = sut.submit(() -> SecurityContextHolder.getContext().getAuthentication().getName());
+
+        // Then
+        assertThat(username.get()).isEqualTo("lbk");
+    }
+
+    @DisplayName("작업 스레드에서 실행한 SQL 도 요청 단위 SQL 수와 N+1 검사에 포함된다.")
+    @Test
+    void givenReadsRunningQueriesOnWorkers_whenFilteringRequest_thenRequestCountIncludesThem() throws Exception {
+        // Given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        SqlStatementCountFilter filter = new SqlStatementCountFilter(meterRegistry, new SqlStatementProperties(10, 6, 3, Map.of()));
+        SqlStatementCounter counter = new SqlStatementCounter();
+        long[] countSeenByCaller = new long[1];
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("GET", "/articles/1"), new MockHttpServletResponse(), (request, response) -> {
+            try (SqlStatementCounter.Scope scope = SqlStatementCounter.start()) {
+                ConcurrentReads.Read<String> article = sut.submit(() -> {
+                    counter.inspect("select * from article where id=?");
+                    counter.inspect("select * from article_comment where article_id=?");
+                    return "article";
+                });
+                ConcurrentReads.Read<String> count = sut.submit(() -> {
+                    counter.inspect("select count(*) from article");
+                    return "count";
+                });
+                counter.inspect("select * from hashtag");
+                article.get();
+                count.get();
+                countSeenByCaller[0] = scope.count();
+            }
+        });
+
+        // Then
+        assertThat(countSeenByCaller[0]).isEqualTo(4);
+        assertThat(meterRegistry.get("board.sql.statements").summary().totalAmount()).isEqualTo(4);
+    }
+
+    @DisplayName("작업 스레드에서 반복 실행된 SQL 도 호출한 스레드의 구간에서 N+1 으로 찾는다.")
+    @Test
+    void givenRepeatedQueriesOnWorker_whenReadingResult_thenCallerScopeSeesRepeatedStatements() {
+        // Given
+        SqlStatementCounter counter = new SqlStatementCounter();
+        String sql = "select * from user_account where user_id=?";
+
+        // When
+        List<SqlStatementCounter.RepeatedStatement> repeated;
+        try (SqlStatementCounter.Scope scope = SqlStatementCounter.start()) {
+            sut.submit(() -> {
+                for (int i = 0; i < 3; i++) {
+                    counter.inspect(sql);
+                }
+                return "done";
+            }).get();
+            repeated = scope.repeatedStatements(3);
+        }
+
+        // Then
+        assertThat(repeated).containsExactly(new SqlStatementCounter.RepeatedStatement(sql, 3));
+    }
+
+    @DisplayName("조회에서 발생한 예외는 감싸지 않고 그대로 던진다.")
+    @Test
+    void givenFailingRead_whenGettingResult_thenThrowsOriginalException() {
+        // Given
+        ConcurrentReads.Read<Object> read = sut.submit(() -> {
+            throw new EntityNotFoundException("게시글이 없습니다");
+        });
+
+        // When & Then
+        assertThatThrownBy(read::get)
+                .isInstanceOf(EntityNotFoundException.class)
+                .hasMessage("게시글이 없습니다");
+    }
+
+    @DisplayName("제한 시간을 넘긴 조회는 취소하고 503 으로 응답한다.")
+    @Test
+    void givenSlowRead_whenTimeoutPasses_thenThrowsServiceUnavailable() {
+        // Given
+        ConcurrentReads sut = new ConcurrentReads(Executors.newSingleThreadExecutor(), Duration.ofMillis(50));
+        ConcurrentReads.Read<String> read = sut.submit(() -> awaitOther(new CountDownLatch(2), "never"));
+
+        // When & Then
+        assertThatThrownBy(read::get)
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+        sut.shutdown();
+    }
+
+
+    private static String awaitOther(CountDownLatch latch, String result) {
+        latch.countDown();
+        try {
+            return latch.await(5, TimeUnit.SECONDS) ? result : "timeout";
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return "interrupted";
+        }
+    }
+
+}
@@ -0,0 +1,86 @@
+package com.example.projectboard.web;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("키 커서 반복자")
+class KeysetPageIteratorTest {
+
+    private final List<Long> rows = LongStream.rangeClosed(1, 25).boxed().toList();
+    private final List<String> calls = new ArrayList<>();
+    private final AtomicInteger flushes = new AtomicInteger();
+
+    @DisplayName("최대 행 수까지 묶음 단위로 나눠 조회하고, 멈춘 위치를 다음 커서로 준다.")
+    @Test
+    void givenLimitBelowTotal_whenIterating_thenFetchesInBatchesAndReturnsNextCursor() {
+        // Given
+        KeysetPageIterator<Long> sut = iterator(null, 12, 5);
+
+        // When
+        List<Long> result = drain(sut);
+
+        // Then
+        assertThat(result).containsExactlyElementsOf(rows.subList(0, 12));
+        assertThat(calls).containsExactly("null/5", "5/5", "10/2");
+        assertThat(flushes).hasValue(3);
+        assertThat(sut.getNextCursor()).isEqualTo(12L);
+    }
+
+    @DisplayName("끝까지 읽으면 다음 커서가 없고, 빈 묶음 이후로는 더 조회하지 않는다.")
+    @Test
+    void givenCursorNearEnd_whenIterating_thenStopsAtEnd() {
+        // Given
+        KeysetPageIterator<Long> sut = iterator(20L, 100, 10);
+
+        // When
+        List<Long> result = drain(sut);
+        boolean hasNextAfterEnd = sut.hasNext();
+
+        // Then
+        assertThat(result).containsExactly(21L, 22L, 23L, 24L, 25L);
+        assertThat(hasNextAfterEnd).isFalse();
+        assertThat(calls).containsExactly("20/10");
+        assertThat(sut.getNextCursor()).isNull();
+    }
+
+    @DisplayName("반복을 시작하기 전에는 조회하지 않는다.")
+    @Test
+    void givenNewIterator_whenNotIterated_thenDoesNotFetch() {
+        // Given
+
+        // When
+        iterator(null, 10, 5);
+
+        // Then
+        assertThat(calls).isEmpty();
+        assertThat(flushes).hasValue(0);
+    }
+
+    private KeysetPageIterator<Long> iterator(Long cursor, int limit, int batchSize) {
+        return new KeysetPageIterator<>(
+                (key, size) -> {
+                    calls.add(key + "/" + size);
+                    return rows.stream().filter(row -> key == null || row > key).limit(size).toList();
+                },
+                row -> row,
+                cursor,
+                limit,
+                batchSize,
+                flushes::incrementAndGet
+        );
+    }
+
+    private static List<Long> drain(KeysetPageIterator<Long> iterator) {
+        List<Long> result = new ArrayList<>();
+        iterator.forEachRemaining(result::add);
+        return result;
+    }
+
+}
@@ -0,0 +1,60 @@
+package com.example.projectboard.web;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.resource.ResourceHttpRequestHandler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("정적 리소스 캐시 헤더")
+class StaticResourceCacheInterceptorTest {
+
+    private final StaticResourceCacheInterceptor sut = new StaticResourceCacheInterceptor();
+
+    @DisplayName("내용 해시가 붙은 경로는 1년 동안 immutable 로 캐시한다.")
+    @Test
+    void givenFingerprintedPath_whenHandling_thenCachesImmutably() {
+        // Given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        sut.preHandle(
+                new MockHttpServletRequest("GET", "/css/search-bar-0123456789abcdef0123456789abcdef.css"),
+                response,
+                new ResourceHttpRequestHandler()
+        );
+
+        // Then
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("max-age=31536000, public, immutable");
+    }
+
+    @DisplayName("해시가 없는 경로는 하이픈이 있어도 매번 재검증하게 한다.")
+    @Test
+    void givenPlainPath_whenHandling_thenRequiresRevalidation() {
+        // Given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        sut.preHandle(new MockHttpServletRequest("GET", "/css/articles/table-header.css"), response, new ResourceHttpRequestHandler());
+
+        // Then
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("no-cache, public");
+    }
+
+    @DisplayName("정적 리소스가 아닌 요청에는 헤더를 붙이지 않는다.")
+    @Test
+    void givenControllerHandler_whenHandling_thenLeavesHeadersUntouched() {
+        // Given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        sut.preHandle(new MockHttpServletRequest("GET", "/articles-0123456789abcdef0123456789abcdef.css"), response, new Object());
+
+        // Then
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).isNull();
+    }
+
+}